@@ -0,0 +1,148 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+/**
+ * Realistic payloads of YouTrack's REST API, of any size.
+ * 
+ * <p>They mimic the responses of {@code /issue/byproject/{project}},
+ * {@code /issue/{id}/comment} and {@code /issue/{id}/timetracking/workitem}, with the fields
+ * and attributes typically present in a real project.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+final class Payloads {
+  private static final long CREATED = 1_480_204_800_000L;
+  private static final long MINUTE = 60_000L;
+  private static final int WORKDAY = 480;
+
+  /**
+   * A page of issues.
+   * 
+   * @param count the number of issues
+   * @return the payload
+   * @since 1.0.0
+   */
+  public String issues(int count) {
+    final StringBuilder xml = new StringBuilder("<issues>");
+    for (int i = 0; i < count; i++) {
+      xml.append("<issue id=\"BENCH-").append(i).append("\" entityId=\"2-").append(i)
+        .append("\" jiraId=\"\">")
+        .append(field("projectShortName", "BENCH"))
+        .append(field("numberInProject", String.valueOf(i)))
+        .append(field("summary", "Sporadic timeouts while syncing issue " + i))
+        .append(
+          field(
+            "description",
+            "Steps to reproduce: start the sync job, wait for the first page, observe that "
+            + "the connection is reset after roughly thirty seconds. Happens about once in "
+            + "every ten runs, more often under load."
+          )
+        )
+        .append(field("created", String.valueOf(CREATED + i * MINUTE)))
+        .append(field("updated", String.valueOf(CREATED + (i + 1) * MINUTE)))
+        .append(field("updaterName", "jdoe"))
+        .append(field("updaterFullName", "John Doe"))
+        .append(field("reporterName", "root"))
+        .append(field("reporterFullName", "Administrator"))
+        .append(field("commentsCount", "3"))
+        .append(field("votes", "0"))
+        .append(custom("Priority", "Normal"))
+        .append(custom("Type", "Bug"))
+        .append(custom("State", "Open"))
+        .append(custom("Subsystem", "Sync"))
+        .append(custom("Fix versions", "1.0.0"))
+        .append(
+          "<field xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" "
+          + "xsi:type=\"SingleField\" name=\"Assignee\">"
+          + "<value fullName=\"John Doe\">jdoe</value></field>"
+        )
+        .append("</issue>");
+    }
+    return xml.append("</issues>").toString();
+  }
+
+  /**
+   * The comments of an issue.
+   * 
+   * @param count the number of comments
+   * @return the payload
+   * @since 1.0.0
+   */
+  public String comments(int count) {
+    final StringBuilder xml = new StringBuilder("<comments>");
+    for (int i = 0; i < count; i++) {
+      xml.append("<comment id=\"42-").append(i)
+        .append("\" author=\"jdoe\" authorFullName=\"John Doe\" issueId=\"BENCH-1\" ")
+        .append("deleted=\"false\" text=\"Could not reproduce with the latest build, ")
+        .append("please attach the logs of run ").append(i)
+        .append(".\" shownForIssueAuthor=\"false\" created=\"")
+        .append(CREATED + i * MINUTE)
+        .append("\"><replies/></comment>");
+    }
+    return xml.append("</comments>").toString();
+  }
+
+  /**
+   * The timetracking entries of an issue.
+   * 
+   * @param count the number of entries
+   * @return the payload
+   * @since 1.0.0
+   */
+  public String workItems(int count) {
+    final StringBuilder xml = new StringBuilder("<workItems>");
+    for (int i = 0; i < count; i++) {
+      xml.append("<workItem url=\"http://localhost/rest/issue/BENCH-1/timetracking/workitem/101-")
+        .append(i).append("\"><id>101-").append(i).append("</id>")
+        .append("<date>").append(CREATED + i * MINUTE).append("</date>")
+        .append("<duration>").append(i % WORKDAY + 1).append("</duration>")
+        .append("<description>Investigation and fix, part ").append(i).append("</description>")
+        .append("<worktype><name>Development</name><id>0-0</id><autoAttached>true</autoAttached>")
+        .append("</worktype><author login=\"jdoe\"/></workItem>");
+    }
+    return xml.append("</workItems>").toString();
+  }
+
+  /**
+   * A predefined field.
+   * 
+   * @param name the field's name
+   * @param value the field's value
+   * @return the field's xml
+   * @since 1.0.0
+   */
+  private static String field(String name, String value) {
+    return "<field name=\"" + name + "\"><value>" + value + "</value></field>";
+  }
+
+  /**
+   * A custom field.
+   * 
+   * @param name the field's name
+   * @param value the field's value
+   * @return the field's xml
+   * @since 1.0.0
+   */
+  private static String custom(String name, String value) {
+    return "<field xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" "
+      + "xsi:type=\"CustomFieldValue\" name=\"" + name + "\">"
+      + "<value>" + value + "</value><valueId>" + value + "</valueId></field>";
+  }
+}
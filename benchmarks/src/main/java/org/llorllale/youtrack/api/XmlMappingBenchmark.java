@@ -0,0 +1,214 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.llorllale.youtrack.api.mock.MockIssue;
+import org.llorllale.youtrack.api.mock.MockLogin;
+import org.llorllale.youtrack.api.mock.MockProject;
+import org.llorllale.youtrack.api.mock.http.response.MockOkResponse;
+import org.llorllale.youtrack.api.session.Login;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throughput of parsing payloads, mapping them to objects, and reading all their accessors.
+ * 
+ * <p>Run with {@code java -jar benchmarks/target/benchmarks.jar -prof gc}; the {@code gc}
+ * profiler reports the allocation rate of each benchmark.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+// @checkstyle MagicNumber (2 lines)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+//JMH generates subclasses of states and needs non-private params
+@SuppressWarnings({
+  "checkstyle:Regexp",
+  "checkstyle:DesignForExtension",
+  "checkstyle:VisibilityModifier"
+})
+public class XmlMappingBenchmark {
+  private static final String ISSUES = "/issues/issue";
+  /**
+   * The number of entities in each payload.
+   */
+  @Param({"10", "100", "1000"})
+  public int size;
+  private final Project project = new MockProject();
+  private final Login login = new MockLogin();
+  private final Issue issue = new MockIssue(this.project);
+  private final CloseableHttpClient client = HttpClients.createDefault();
+  private String issues;
+  private String comments;
+  private String workitems;
+
+  /**
+   * Builds the payloads.
+   * 
+   * @since 1.0.0
+   */
+  @Setup
+  public void setup() {
+    final Payloads payloads = new Payloads();
+    this.issues = payloads.issues(this.size);
+    this.comments = payloads.comments(this.size);
+    this.workitems = payloads.workItems(this.size);
+  }
+
+  /**
+   * Closes the http client shared by all entities.
+   * 
+   * <p>Entities are built with a single client, which they never use here, so that the
+   * benchmarks measure mapping rather than the creation of connection pools.</p>
+   * 
+   * @throws IOException unexpected
+   * @since 1.0.0
+   */
+  @TearDown
+  public void tearDown() throws IOException {
+    this.client.close();
+  }
+
+  /**
+   * Issues parsed into a DOM document and mapped with {@link XmlOf#children(String)}.
+   * 
+   * @param hole the blackhole
+   * @since 1.0.0
+   */
+  @Benchmark
+  public void issuesDom(Blackhole hole) {
+    for (Xml xml : new XmlOf(new StringAsDocument(this.issues)).children("issue")) {
+      read(new XmlIssue(this.project, this.login, xml, this.client), hole);
+    }
+  }
+
+  /**
+   * Issues streamed with {@link XmlsOf} and mapped with {@link MappedCollection}.
+   * 
+   * @param hole the blackhole
+   * @throws IOException unexpected
+   * @since 1.0.0
+   */
+  @Benchmark
+  public void issuesStreamed(Blackhole hole) throws IOException {
+    new MappedCollection<Xml, Issue>(
+      xml -> new XmlIssue(this.project, this.login, xml, this.client),
+      new XmlsOf(ISSUES, this.response(this.issues))
+    ).forEach(i -> read(i, hole));
+  }
+
+  /**
+   * Issues streamed with {@link XmlsOf} and materialized into {@link SnapshotIssue snapshots}.
+   * 
+   * @param hole the blackhole
+   * @throws IOException unexpected
+   * @since 1.0.0
+   */
+  @Benchmark
+  public void issuesSnapshots(Blackhole hole) throws IOException {
+    new MappedCollection<Xml, Issue>(
+      xml -> new SnapshotIssue(this.project, this.login, xml, this.client),
+      new XmlsOf(ISSUES, this.response(this.issues))
+    ).forEach(i -> read(i, hole));
+  }
+
+  /**
+   * Comments streamed with {@link XmlsOf} and mapped to {@link XmlComment}.
+   * 
+   * @param hole the blackhole
+   * @throws IOException unexpected
+   * @since 1.0.0
+   */
+  @Benchmark
+  public void comments(Blackhole hole) throws IOException {
+    for (Xml xml : new XmlsOf("/comments/comment", this.response(this.comments))) {
+      final Comment comment = new XmlComment(
+        this.issue, this.login, xml, this.client
+      );
+      hole.consume(comment.id());
+      hole.consume(comment.creationDate());
+      hole.consume(comment.text());
+    }
+  }
+
+  /**
+   * Work items streamed with {@link XmlsOf} and mapped to {@link XmlTimeTrackEntry}.
+   * 
+   * @param hole the blackhole
+   * @throws IOException unexpected
+   * @since 1.0.0
+   */
+  @Benchmark
+  public void workItems(Blackhole hole) throws IOException {
+    for (Xml xml : new XmlsOf("/workItems/workItem", this.response(this.workitems))) {
+      final TimeTrackEntry entry = new XmlTimeTrackEntry(this.issue, xml);
+      hole.consume(entry.date());
+      hole.consume(entry.duration());
+      hole.consume(entry.description());
+      hole.consume(entry.type());
+    }
+  }
+
+  /**
+   * A fresh response with the given payload.
+   * 
+   * @param payload the payload
+   * @return the response
+   * @since 1.0.0
+   */
+  private Response response(String payload) {
+    return new HttpResponseAsResponse(new MockOkResponse(payload));
+  }
+
+  /**
+   * Reads all local accessors of {@code issue}.
+   * 
+   * @param issue the issue
+   * @param hole the blackhole
+   * @since 1.0.0
+   */
+  private static void read(Issue issue, Blackhole hole) {
+    hole.consume(issue.id());
+    hole.consume(issue.creationDate());
+    hole.consume(issue.summary());
+    hole.consume(issue.description());
+    for (AssignedField field : issue.fields()) {
+      hole.consume(field.name());
+      hole.consume(field.value().asString());
+    }
+  }
+}
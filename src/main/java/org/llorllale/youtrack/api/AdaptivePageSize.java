@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpUriRequest;
+
+/**
+ * A {@link PageSize} that adapts to how long pages take to arrive and how large they are.
+ * 
+ * <p>Each page is timed from the moment its request is sent until its payload has been read and
+ * mapped. The page size is doubled (up to {@code max}) while both the time taken and
+ * the payload's length stay under half of their targets, and halved (down to {@code min}) as
+ * soon as either exceeds its target. Payloads of unknown length are judged by time alone.</p>
+ * 
+ * <p>This class is thread-safe, but its state reflects every page it observed: use a
+ * {@link #fresh() fresh} instance for each stream.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class AdaptivePageSize implements PageSize {
+  private final int min;
+  private final int max;
+  private final Duration latency;
+  private final long bytes;
+  private final AtomicInteger current;
+
+  /**
+   * Ctor. The first page requested is of size {@code min}.
+   * 
+   * @param min the minimum page size
+   * @param max the maximum page size
+   * @param latency the target time to request, receive and map a page
+   * @param bytes the target payload length of a page
+   * @throws IllegalArgumentException if either target is not positive
+   * @since 1.0.0
+   */
+  AdaptivePageSize(int min, int max, Duration latency, long bytes) {
+    if (latency.compareTo(Duration.ZERO) <= 0 || bytes < 1) {
+      throw new IllegalArgumentException("latency and bytes must be positive");
+    }
+    this.min = min;
+    this.max = max;
+    this.latency = latency;
+    this.bytes = bytes;
+    this.current = new AtomicInteger(min);
+  }
+
+  /**
+   * A new page size with the same bounds and targets, starting over at {@code min}.
+   * 
+   * @return a new page size
+   * @since 1.0.0
+   */
+  AdaptivePageSize fresh() {
+    return new AdaptivePageSize(this.min, this.max, this.latency, this.bytes);
+  }
+
+  @Override
+  public int next() {
+    return this.current.get();
+  }
+
+  @Override
+  public <T> ExceptionalFunction<HttpUriRequest, Collection<T>, IOException> observed(
+      HttpClient httpClient,
+      ExceptionalFunction<Response, Collection<T>, IOException> mapper
+  ) {
+    return request -> {
+      final long start = System.nanoTime();
+      final Response resp = new HttpResponseAsResponse(httpClient.execute(request));
+      final long length = resp.httpResponse().getEntity().getContentLength();
+      final Collection<T> contents = mapper.apply(resp);
+      this.adapt(Duration.ofNanos(System.nanoTime() - start), length);
+      return contents;
+    };
+  }
+
+  /**
+   * Grows or shrinks the page size according to the observations of a page.
+   * 
+   * @param elapsed the time taken to request, receive and map the page
+   * @param length the page's payload length, or a negative number if unknown
+   * @since 1.0.0
+   */
+  void adapt(Duration elapsed, long length) {
+    if (elapsed.compareTo(this.latency) > 0 || length > this.bytes) {
+      this.current.updateAndGet(size -> Math.max(this.min, size / 2));
+    } else if (elapsed.multipliedBy(2).compareTo(this.latency) <= 0 && length * 2 <= this.bytes) {
+      this.current.updateAndGet(size -> Math.min(this.max, size * 2));
+    }
+  }
+}
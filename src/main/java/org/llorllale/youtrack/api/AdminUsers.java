@@ -0,0 +1,176 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.llorllale.youtrack.api.session.Login;
+import org.llorllale.youtrack.api.session.UnauthorizedException;
+
+/**
+ * All users registered in YouTrack, as listed by the {@code /admin/user} endpoint.
+ * 
+ * <p>The listing only has the users' logins, so {@link #preload() preloading} them into a
+ * {@link UserCache} fetches every user's details, a bounded number at a time on the
+ * {@link FanOut} executor.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class AdminUsers {
+  private static final String USER_PATH = "/user/";
+  private static final int PAGE_SIZE = 10;
+  private final Login login;
+  private final HttpClient httpClient;
+  private final UserCache cache;
+  private final BoundedCalls calls;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param login the user's {@link Login}
+   * @param httpClient the {@link HttpClient} to use
+   * @param cache the cache to preload
+   * @param calls runs the fetches of the users' details
+   * @since 1.0.0
+   */
+  AdminUsers(Login login, HttpClient httpClient, UserCache cache, BoundedCalls calls) {
+    this.login = login;
+    this.httpClient = httpClient;
+    this.cache = cache;
+    this.calls = calls;
+  }
+
+  /**
+   * Fetches up to 8 users at a time.
+   * 
+   * @param login the user's {@link Login}
+   * @param httpClient the {@link HttpClient} to use
+   * @param cache the cache to preload
+   * @since 1.0.0
+   */
+  AdminUsers(Login login, HttpClient httpClient, UserCache cache) {
+    // @checkstyle MagicNumber (1 line)
+    this(login, httpClient, cache, new BoundedCalls(8));
+  }
+
+  /**
+   * The logins of all users, fetched page by page.
+   * 
+   * <p>YouTrack lists users ten at a time, so a page with fewer users is the last one.</p>
+   * 
+   * @return the logins of all users
+   * @throws IOException if the server is unavailable
+   * @throws UnauthorizedException if the user is not allowed to list users
+   * @since 1.0.0
+   */
+  List<String> logins() throws IOException, UnauthorizedException {
+    final List<String> logins = new ArrayList<>();
+    Collection<Xml> page;
+    do {
+      page = this.page(logins.size());
+      page.forEach(x -> logins.add(x.textOf("@login").get()));
+    } while (page.size() == PAGE_SIZE);
+    return logins;
+  }
+
+  /**
+   * Fetches all users into the cache.
+   * 
+   * @return the number of users preloaded
+   * @throws IOException if the server is unavailable
+   * @throws UnauthorizedException if the user is not allowed to list users
+   * @since 1.0.0
+   */
+  int preload() throws IOException, UnauthorizedException {
+    final String base = this.login.session().baseUrl().toString().concat(USER_PATH);
+    final RemoteUser remote = new RemoteUser(this.login, this.httpClient);
+    final List<CompletableFuture<Optional<User>>> fetches = new ArrayList<>();
+    for (String user : this.logins()) {
+      fetches.add(this.calls.submit(() -> this.fetch(base.concat(user), remote)));
+    }
+    return joined(fetches);
+  }
+
+  /**
+   * Waits for all {@code fetches} to complete.
+   * 
+   * @param fetches the fetches
+   * @return the number of fetches
+   * @throws IOException if any of the fetches failed
+   * @since 1.0.0
+   */
+  private static int joined(List<CompletableFuture<Optional<User>>> fetches) throws IOException {
+    try {
+      CompletableFuture.allOf(fetches.toArray(new CompletableFuture<?>[0])).join();
+    } catch (CompletionException e) {
+      throw new IOException(e.getCause().getMessage(), e.getCause());
+    }
+    return fetches.size();
+  }
+
+  /**
+   * Fetches the user at {@code url} into the cache.
+   * 
+   * @param url the user's URL
+   * @param remote fetches users
+   * @return the user, or empty if there's no such user
+   * @throws UncheckedIOException if there's an error fetching the user
+   * @since 1.0.0
+   */
+  private Optional<User> fetch(String url, RemoteUser remote) {
+    final Optional<User> user = new UncheckedIoFunction<>(remote).apply(url);
+    this.cache.put(url, user);
+    return user;
+  }
+
+  /**
+   * The page of the listing starting at {@code start}.
+   * 
+   * @param start the index of the page's first user
+   * @return the page's users
+   * @throws IOException if the server is unavailable
+   * @throws UnauthorizedException if the user is not allowed to list users
+   * @since 1.0.0
+   */
+  private Collection<Xml> page(int start) throws IOException, UnauthorizedException {
+    return new XmlsOf(
+      "/userRefs/user",
+      new HttpResponseAsResponse(
+        this.httpClient.execute(
+          new HttpRequestWithSession(
+            this.login.session(),
+            new HttpGet(
+              new UncheckedUriBuilder(
+                this.login.session().baseUrl().toString().concat("/admin/user")
+              ).param("start", String.valueOf(start))
+                .build()
+            )
+          )
+        )
+      )
+    );
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous counterpart of {@link Comments}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see Comments
+ * @since 1.0.0
+ */
+public interface AsyncComments {
+  /**
+   * The {@link Issue} these comments belong to.
+   * 
+   * @return the issue these comments belong to
+   * @since 1.0.0
+   */
+  Issue issue();
+
+  /**
+   * All comments of this {@link #issue() issue}.
+   * 
+   * @return a future with all comments of this issue
+   * @see Comments#stream()
+   * @since 1.0.0
+   */
+  CompletableFuture<List<Comment>> list();
+
+  /**
+   * Posts a new comment to this {@link #issue() issue}.
+   * 
+   * @param text the comment's text
+   * @return a future with this object, completed once the comment has been posted
+   * @see Comments#post(String)
+   * @since 1.0.0
+   */
+  CompletableFuture<AsyncComments> post(String text);
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous counterpart of {@link IssueTimeTracking}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see IssueTimeTracking
+ * @since 1.0.0
+ */
+public interface AsyncIssueTimeTracking {
+  /**
+   * All timetracking entries of the issue.
+   * 
+   * @return a future with all timetracking entries of the issue
+   * @see IssueTimeTracking#stream()
+   * @since 1.0.0
+   */
+  CompletableFuture<List<TimeTrackEntry>> list();
+
+  /**
+   * Creates a timetracking entry for the issue.
+   * 
+   * @param date the date the work was performed
+   * @param duration the duration of the work
+   * @param description the description of the work
+   * @param type the type of work
+   * @return a future with this object, completed once the entry has been created
+   * @see IssueTimeTracking#create(LocalDate, Duration, String, TimeTrackEntryType)
+   * @since 1.0.0
+   */
+  @SuppressWarnings("checkstyle:ParameterNumber")
+  CompletableFuture<AsyncIssueTimeTracking> create(
+      LocalDate date, Duration duration, String description, TimeTrackEntryType type
+  );
+
+  /**
+   * Creates a timetracking entry for the issue, for work performed today.
+   * 
+   * @param duration the duration of the work
+   * @return a future with this object, completed once the entry has been created
+   * @see IssueTimeTracking#create(Duration)
+   * @since 1.0.0
+   */
+  CompletableFuture<AsyncIssueTimeTracking> create(Duration duration);
+}
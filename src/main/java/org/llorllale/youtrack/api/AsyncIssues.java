@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous counterpart of {@link Issues}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see Issues
+ * @since 1.0.0
+ */
+public interface AsyncIssues {
+  /**
+   * These issues' {@link Project}.
+   * 
+   * @return these issues' {@link Project}
+   * @since 1.0.0
+   */
+  Project project();
+
+  /**
+   * All issues of this {@link #project() project}.
+   * 
+   * @return a future with all issues of this project
+   * @see Issues#stream()
+   * @since 1.0.0
+   */
+  CompletableFuture<List<Issue>> list();
+
+  /**
+   * The issues of this {@link #project() project} that match the given search query.
+   * 
+   * @param query the YouTrack search query
+   * @return a future with the issues that match {@code query}
+   * @see Issues#stream(String)
+   * @since 1.0.0
+   */
+  CompletableFuture<List<Issue>> list(String query);
+
+  /**
+   * The issue with the given {@code id}, if it exists.
+   * 
+   * @param id the issue's id
+   * @return a future with the issue, if it exists
+   * @see Issues#get(String)
+   * @since 1.0.0
+   */
+  CompletableFuture<Optional<Issue>> get(String id);
+
+  /**
+   * The issues with the given {@code ids}.
+   * 
+   * @param ids the issues' ids
+   * @return a future with the issues, by id
+   * @see Issues#get(Collection)
+   * @since 1.0.0
+   */
+  CompletableFuture<Map<String, Optional<Issue>>> get(Collection<String> ids);
+
+  /**
+   * Creates an issue with the given {@code summary} and {@code description}.
+   * 
+   * @param summary the issue's summary
+   * @param description the issue's description
+   * @return a future with the newly-created issue
+   * @see Issues#create(String, String)
+   * @since 1.0.0
+   */
+  CompletableFuture<Issue> create(String summary, String description);
+
+  /**
+   * Creates an issue with the given {@code summary}, {@code description}, and {@code fields}.
+   * 
+   * @param summary the issue's summary
+   * @param description the issue's description
+   * @param fields the issue's fields
+   * @return a future with the newly-created issue
+   * @see Issues#create(String, String, Map)
+   * @since 1.0.0
+   */
+  CompletableFuture<Issue> create(
+      String summary, String description, Map<Field, FieldValue> fields
+  );
+}
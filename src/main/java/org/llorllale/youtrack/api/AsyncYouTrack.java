@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous facade over a {@link YouTrack} server.
+ * 
+ * <p>Every operation returns immediately with a {@link CompletableFuture}. The number of calls
+ * to the server in flight at any time is bounded, and calls beyond the bound are queued without
+ * blocking the caller.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see YouTrack
+ * @since 1.0.0
+ */
+public interface AsyncYouTrack {
+  /**
+   * All {@link Project projects} accessible to the user.
+   * 
+   * @return a future with all projects accessible to the user
+   * @see Projects#stream()
+   * @since 1.0.0
+   */
+  CompletableFuture<List<Project>> projects();
+
+  /**
+   * Asynchronous access to the {@code project}'s {@link Issues issues}.
+   * 
+   * @param project the project
+   * @return asynchronous access to the {@code project}'s issues
+   * @since 1.0.0
+   */
+  AsyncIssues issues(Project project);
+
+  /**
+   * Asynchronous access to the {@code issue}'s {@link Comments comments}.
+   * 
+   * @param issue the issue
+   * @return asynchronous access to the {@code issue}'s comments
+   * @since 1.0.0
+   */
+  AsyncComments comments(Issue issue);
+
+  /**
+   * Asynchronous access to the {@code issue}'s {@link IssueTimeTracking timetracking}.
+   * 
+   * @param issue the issue
+   * @return asynchronous access to the {@code issue}'s timetracking
+   * @since 1.0.0
+   */
+  AsyncIssueTimeTracking timetracking(Issue issue);
+}
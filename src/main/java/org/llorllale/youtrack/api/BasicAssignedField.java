@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+/**
+ * Simple implementation of {@link AssignedField} holding its value in memory.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class BasicAssignedField implements AssignedField {
+  private final Field field;
+  private final Issue issue;
+  private final String value;
+
+  /**
+   * Ctor.
+   * 
+   * @param field the {@link Field} assigned to the issue
+   * @param issue the {@link Issue} this field is assigned to
+   * @param value the field's value
+   * @since 1.0.0
+   */
+  BasicAssignedField(Field field, Issue issue, String value) {
+    this.field = field;
+    this.issue = issue;
+    this.value = value;
+  }
+
+  @Override
+  public Issue issue() {
+    return this.issue;
+  }
+
+  @Override
+  public FieldValue value() {
+    return new BasicFieldValue(this.value, this);
+  }
+
+  @Override
+  public Project project() {
+    return this.field.project();
+  }
+
+  @Override
+  public String name() {
+    return this.field.name();
+  }
+
+  @Override
+  public int hashCode() {
+    return this.name().hashCode();
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (!(object instanceof AssignedField)) {
+      return false;
+    }
+
+    final AssignedField other = (AssignedField) object;
+    return this.field.isSameField(other) && this.value().equals(other.value());
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.llorllale.youtrack.api.session.UnauthorizedException;
+
+/**
+ * {@link UsersOfIssue} whose users' logins are looked up by the name of the issue's field that
+ * holds them.
+ * 
+ * <p>The users are {@link LazyUser lazy}: their details are only fetched from YouTrack if
+ * requested.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see SnapshotIssue
+ * @see XmlUsersOfIssue
+ * @since 1.0.0
+ */
+final class BasicUsersOfIssue implements UsersOfIssue {
+  private static final String ASSIGNEE = "Assignee";
+  private final Issue issue;
+  private final Function<String, Optional<String>> logins;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param issue the parent {@link Issue}
+   * @param logins looks up the value of the issue's field with the given name
+   * @since 1.0.0
+   */
+  BasicUsersOfIssue(Issue issue, Function<String, Optional<String>> logins) {
+    this.issue = issue;
+    this.logins = logins;
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param issue the parent {@link Issue}
+   * @param values the issue's field values held in memory, keyed by field name
+   * @since 1.0.0
+   */
+  BasicUsersOfIssue(Issue issue, Map<String, String> values) {
+    this(issue, name -> Optional.ofNullable(values.get(name)));
+  }
+
+  @Override
+  public User creator() throws IOException, UnauthorizedException {
+    return this.user("reporterName").get();
+  }
+
+  @Override
+  public Optional<User> updater() throws IOException, UnauthorizedException {
+    return this.user("updaterName");
+  }
+
+  @Override
+  public Optional<User> assignee() throws IOException, UnauthorizedException {
+    return this.user(ASSIGNEE);
+  }
+
+  @Override
+  public UsersOfIssue assignTo(User user) throws IOException, UnauthorizedException {
+    final Field field = new BasicField(ASSIGNEE, this.issue().project());
+    return this.issue().update().field(
+      field,
+      new BasicFieldValue(user.loginName(), field)
+    ).users();
+  }
+
+  @Override
+  public Issue issue() {
+    return this.issue;
+  }
+
+  /**
+   * The user whose login is held by the issue's field, if any.
+   * 
+   * @param field the field's name
+   * @return an optional describing the {@link LazyUser lazy} user
+   * @since 1.0.0
+   */
+  private Optional<User> user(String field) {
+    return this.logins.apply(field)
+      .map(l -> new LazyUser(l, this.issue().project().users()::user));
+  }
+}
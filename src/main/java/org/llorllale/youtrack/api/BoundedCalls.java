@@ -0,0 +1,136 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs blocking calls to YouTrack asynchronously, with a bounded number of calls in flight.
+ * 
+ * <p>Calls submitted while the bound is reached are queued, without blocking the caller, and
+ * are dispatched to the {@link Executor} as the calls in flight complete. This class is
+ * thread-safe.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class BoundedCalls {
+  private final Executor executor;
+  private final int max;
+  private final Queue<Runnable> pending;
+  private final AtomicInteger running;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param executor the executor on which calls are run
+   * @param max the maximum number of calls in flight
+   * @throws IllegalArgumentException if {@code max} is not positive
+   * @since 1.0.0
+   */
+  BoundedCalls(Executor executor, int max) {
+    if (max < 1) {
+      throw new IllegalArgumentException("max must be positive");
+    }
+    this.executor = executor;
+    this.max = max;
+    this.pending = new ConcurrentLinkedQueue<>();
+    this.running = new AtomicInteger();
+  }
+
+  /**
+   * Runs calls on the {@link FanOut default} executor.
+   * 
+   * @param max the maximum number of calls in flight
+   * @throws IllegalArgumentException if {@code max} is not positive
+   * @since 1.0.0
+   */
+  BoundedCalls(int max) {
+    this(new FanOut(), max);
+  }
+
+  /**
+   * Submits {@code call} to be run as soon as the bound allows.
+   * 
+   * @param <T> the type of the call's result
+   * @param call the blocking call
+   * @return a future completed with the call's result, or exceptionally with the exception it
+   *     threw
+   * @since 1.0.0
+   */
+  <T> CompletableFuture<T> submit(Callable<T> call) {
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    this.pending.add(
+      () -> {
+        try {
+          future.complete(call.call());
+        //@checkstyle IllegalCatch (1 line)
+        } catch (Exception e) {
+          future.completeExceptionally(e);
+        }
+      }
+    );
+    this.drain();
+    return future;
+  }
+
+  /**
+   * Dispatches pending calls while the bound allows.
+   * 
+   * @since 1.0.0
+   */
+  private void drain() {
+    while (!this.pending.isEmpty() && this.acquired()) {
+      final Runnable task = this.pending.poll();
+      if (task == null) {
+        this.running.decrementAndGet();
+      } else {
+        this.executor.execute(() -> this.run(task));
+      }
+    }
+  }
+
+  /**
+   * Runs {@code task}, then releases its slot and dispatches the next pending call.
+   * 
+   * @param task the task
+   * @since 1.0.0
+   */
+  private void run(Runnable task) {
+    try {
+      task.run();
+    } finally {
+      this.running.decrementAndGet();
+      this.drain();
+    }
+  }
+
+  /**
+   * Takes a slot for a call, if one is available.
+   * 
+   * @return whether a slot was taken
+   * @since 1.0.0
+   */
+  private boolean acquired() {
+    return this.running.getAndUpdate(n -> Math.min(n + 1, this.max)) < this.max;
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.util.stream.Stream;
+import org.llorllale.youtrack.api.session.UnauthorizedException;
+
+/**
+ * {@link Comments} whose posts are buffered by a {@link WriteBehind}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class BufferedComments implements Comments {
+  private final Issue issue;
+  private final WriteBehind writes;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param issue the {@link Issue} on which the comments are attached to
+   * @param writes the buffer
+   * @since 1.0.0
+   */
+  BufferedComments(Issue issue, WriteBehind writes) {
+    this.issue = issue;
+    this.writes = writes;
+  }
+
+  @Override
+  public Stream<Comment> stream() throws IOException, UnauthorizedException {
+    return this.issue.comments().stream();
+  }
+
+  @Override
+  public Comments post(String text) {
+    this.writes.accept(this.issue, () -> this.issue.comments().post(text));
+    return this;
+  }
+
+  @Override
+  public Issue issue() {
+    return this.issue;
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+import org.llorllale.youtrack.api.session.UnauthorizedException;
+
+/**
+ * {@link IssueTimeTracking} whose work items are buffered by a {@link WriteBehind}.
+ * 
+ * <p>Work items created without a date are dated when created, not when sent.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class BufferedTimeTracking implements IssueTimeTracking {
+  private final Issue issue;
+  private final WriteBehind writes;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param issue the {@link Issue} to which this {@link IssueTimeTracking} is attached to
+   * @param writes the buffer
+   * @since 1.0.0
+   */
+  BufferedTimeTracking(Issue issue, WriteBehind writes) {
+    this.issue = issue;
+    this.writes = writes;
+  }
+
+  @Override
+  public Stream<TimeTrackEntry> stream() throws IOException, UnauthorizedException {
+    return this.issue.timetracking().stream();
+  }
+
+  @Override
+  public IssueTimeTracking create(Duration duration) {
+    return this.create(LocalDate.now(), duration, null, null);
+  }
+
+  @Override
+  public IssueTimeTracking create(Duration duration, String description) {
+    return this.create(LocalDate.now(), duration, description, null);
+  }
+
+  @Override
+  public IssueTimeTracking create(LocalDate date, Duration duration) {
+    return this.create(date, duration, null, null);
+  }
+
+  @Override
+  public IssueTimeTracking create(Duration duration, TimeTrackEntryType type) {
+    return this.create(LocalDate.now(), duration, null, type);
+  }
+
+  @Override
+  public IssueTimeTracking create(
+      Duration duration, String description, TimeTrackEntryType type
+  ) {
+    return this.create(LocalDate.now(), duration, description, type);
+  }
+
+  @Override
+  public IssueTimeTracking create(LocalDate date, Duration duration, String description) {
+    return this.create(date, duration, description, null);
+  }
+
+  @Override
+  public IssueTimeTracking create(
+      LocalDate date,
+      Duration duration,
+      String description,
+      TimeTrackEntryType type
+  ) {
+    this.writes.accept(
+      this.issue,
+      () -> this.issue.timetracking().create(date, duration, description, type)
+    );
+    return this;
+  }
+}
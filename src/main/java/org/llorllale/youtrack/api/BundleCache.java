@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * Thread-safe cache of custom field bundles, and of the bundle used by each project's fields.
+ * 
+ * <p>Bundles are keyed by their URL, so projects sharing a bundle share its cached values.
+ * Cached entries are served as is while fresh; once stale, bundles are
+ * {@link RemoteBundle revalidated} with a conditional request and fields' bundle names are
+ * fetched again.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see TtlCache
+ * @since 1.0.0
+ */
+final class BundleCache {
+  /**
+   * Cache shared by all {@link ProjectField fields} in the process: entries stay fresh for five
+   * minutes.
+   * 
+   * @since 1.0.0
+   */
+  // @checkstyle MagicNumber (1 line)
+  static final BundleCache SHARED = new BundleCache(Duration.ofMinutes(5));
+
+  private static final int MAX = 10_000;
+  private final TtlCache<String> names;
+  private final TtlCache<FieldBundle> bundles;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param names the cached bundle names, keyed by field descriptor URL
+   * @param bundles the cached bundles, keyed by URL
+   * @since 1.0.0
+   */
+  BundleCache(TtlCache<String> names, TtlCache<FieldBundle> bundles) {
+    this.names = names;
+    this.bundles = bundles;
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param fresh how long entries are served without being revalidated
+   * @param clock the current time, in nanoseconds
+   * @since 1.0.0
+   */
+  BundleCache(Duration fresh, LongSupplier clock) {
+    this(new TtlCache<>(fresh, MAX, clock), new TtlCache<>(fresh, MAX, clock));
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param fresh how long entries are served without being revalidated
+   * @since 1.0.0
+   */
+  BundleCache(Duration fresh) {
+    this(fresh, System::nanoTime);
+  }
+
+  /**
+   * The name of the bundle used by the field described at {@code url}.
+   * 
+   * @param url the URL of the field's descriptor
+   * @param fetch fetches the name of the bundle used by the field described at a given URL
+   * @return the bundle's name
+   * @throws IOException from {@code fetch}
+   * @since 1.0.0
+   */
+  String name(String url, ExceptionalFunction<String, String, IOException> fetch) 
+      throws IOException {
+    return this.names.value(url, stale -> fetch.apply(url));
+  }
+
+  /**
+   * The bundle at {@code url}.
+   * 
+   * @param url the bundle's URL
+   * @param fetch fetches the bundle, revalidating the previous fetch if any
+   * @return the bundle
+   * @throws IOException from {@code fetch}
+   * @since 1.0.0
+   */
+  FieldBundle bundle(
+      String url, ExceptionalFunction<Optional<FieldBundle>, FieldBundle, IOException> fetch
+  ) throws IOException {
+    return this.bundles.value(url, fetch);
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import javax.xml.namespace.QName;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import org.w3c.dom.Node;
+
+/**
+ * Thread-safe registry of compiled {@link XPathExpression xpath expressions}.
+ * 
+ * <p>Neither {@link XPath} nor {@link XPathExpression} are thread-safe, so compiled expressions
+ * are pooled instead of being shared: each evaluation borrows a compiled copy of its expression
+ * from a pool shared by all threads and gives it back afterwards. The number of copies follows
+ * the number of concurrent evaluations rather than the number of threads, so compiled
+ * expressions are reused even when every call runs on a thread of its own. Expressions are
+ * expected to be constants; at most {@link #MAX_EXPRESSIONS} are pooled, with up to
+ * {@link #MAX_COPIES} idle copies each, and the rest are compiled on every use.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class CompiledXPaths {
+  /**
+   * Registry shared by all {@link XmlOf} instances.
+   * 
+   * @since 1.0.0
+   */
+  static final CompiledXPaths SHARED = new CompiledXPaths();
+
+  private static final int MAX_EXPRESSIONS = 256;
+  private static final int MAX_COPIES = 64;
+  private final XPath xpath;
+  private final ConcurrentMap<String, BlockingQueue<XPathExpression>> pools;
+  private final LongAdder hitCount;
+  private final LongAdder missCount;
+
+  /**
+   * Ctor.
+   * 
+   * @since 1.0.0
+   */
+  CompiledXPaths() {
+    this.xpath = XPathFactory.newInstance().newXPath();
+    this.pools = new ConcurrentHashMap<>();
+    this.hitCount = new LongAdder();
+    this.missCount = new LongAdder();
+  }
+
+  /**
+   * Evaluates {@code expression} against {@code node} with a compiled copy of the expression.
+   * 
+   * @param expression the xpath expression
+   * @param node the node to evaluate the expression against
+   * @param type the expected return type
+   * @return the result of the evaluation
+   * @throws UncheckedException if there's an error compiling or evaluating {@code expression}
+   * @since 1.0.0
+   */
+  Object evaluate(String expression, Node node, QName type) throws UncheckedException {
+    final BlockingQueue<XPathExpression> pool = this.pool(expression);
+    final XPathExpression compiled = this.borrowed(pool, expression);
+    try {
+      final Object result = compiled.evaluate(node, type);
+      if (pool.size() < MAX_COPIES) {
+        pool.add(compiled);
+      }
+      return result;
+    } catch(XPathExpressionException e) {
+      throw new UncheckedException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Number of evaluations served by an already-compiled expression, across all threads.
+   * 
+   * @return the number of cache hits
+   * @since 1.0.0
+   */
+  long hits() {
+    return this.hitCount.sum();
+  }
+
+  /**
+   * Number of evaluations that required compiling the expression, across all threads.
+   * 
+   * @return the number of cache misses
+   * @since 1.0.0
+   */
+  long misses() {
+    return this.missCount.sum();
+  }
+
+  /**
+   * The pool of idle compiled copies of {@code expression}.
+   * 
+   * <p>Once {@link #MAX_EXPRESSIONS} expressions are pooled, other expressions get a pool of
+   * their own that is not retained.</p>
+   * 
+   * @param expression the xpath expression
+   * @return the pool of compiled copies of {@code expression}
+   * @since 1.0.0
+   */
+  private BlockingQueue<XPathExpression> pool(String expression) {
+    BlockingQueue<XPathExpression> pool = this.pools.get(expression);
+    if (pool == null) {
+      if (this.pools.size() < MAX_EXPRESSIONS) {
+        pool = this.pools.computeIfAbsent(
+          expression, e -> new LinkedBlockingQueue<>()
+        );
+      } else {
+        pool = new LinkedBlockingQueue<>();
+      }
+    }
+    return pool;
+  }
+
+  /**
+   * Takes an idle compiled copy of {@code expression} from {@code pool}, or compiles a new one.
+   * 
+   * @param pool the pool of idle compiled copies of {@code expression}
+   * @param expression the xpath expression
+   * @return a compiled copy of {@code expression} for the caller's exclusive use
+   * @throws UncheckedException if {@code expression} is not a valid xpath expression
+   * @since 1.0.0
+   */
+  private XPathExpression borrowed(BlockingQueue<XPathExpression> pool, String expression)
+      throws UncheckedException {
+    XPathExpression compiled = pool.poll();
+    if (compiled == null) {
+      this.missCount.increment();
+      compiled = this.compile(expression);
+    } else {
+      this.hitCount.increment();
+    }
+    return compiled;
+  }
+
+  /**
+   * Compiles {@code expression}.
+   * 
+   * @param expression the xpath expression
+   * @return the compiled expression
+   * @throws UncheckedException if {@code expression} is not a valid xpath expression
+   * @since 1.0.0
+   */
+  private XPathExpression compile(String expression) throws UncheckedException {
+    synchronized (this.xpath) {
+      try {
+        return this.xpath.compile(expression);
+      } catch(XPathExpressionException e) {
+        throw new UncheckedException(e.getMessage(), e);
+      }
+    }
+  }
+}
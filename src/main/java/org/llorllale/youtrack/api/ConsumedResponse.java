@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.util.EntityUtils;
+
+import org.llorllale.youtrack.api.session.UnauthorizedException;
+
+/**
+ * A {@link Response} whose entity is fully consumed upon access.
+ * 
+ * <p>Use it for requests whose payload is of no interest (eg. updates) so that the underlying
+ * connection is released back to the {@link PooledHttpClient pool}. The response's status line
+ * and headers remain accessible.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class ConsumedResponse implements Response {
+  private final Response base;
+
+  /**
+   * Ctor.
+   * 
+   * @param base the response to consume
+   * @since 1.0.0
+   */
+  ConsumedResponse(Response base) {
+    this.base = base;
+  }
+
+  @Override
+  public HttpResponse httpResponse() throws IOException, UnauthorizedException {
+    final HttpResponse response = this.base.httpResponse();
+    EntityUtils.consume(response.getEntity());
+    return response;
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Default implementation of {@link AsyncComments}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class DefaultAsyncComments implements AsyncComments {
+  private final Comments origin;
+  private final BoundedCalls calls;
+
+  /**
+   * Ctor.
+   * 
+   * @param origin the blocking API
+   * @param calls runs the calls to {@code origin}
+   * @since 1.0.0
+   */
+  DefaultAsyncComments(Comments origin, BoundedCalls calls) {
+    this.origin = origin;
+    this.calls = calls;
+  }
+
+  @Override
+  public Issue issue() {
+    return this.origin.issue();
+  }
+
+  @Override
+  public CompletableFuture<List<Comment>> list() {
+    return this.calls.submit(() -> this.origin.stream().collect(Collectors.toList()));
+  }
+
+  @Override
+  public CompletableFuture<AsyncComments> post(String text) {
+    return this.calls.submit(() -> this.origin.post(text)).thenApply(c -> this);
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Default implementation of {@link AsyncIssues}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class DefaultAsyncIssues implements AsyncIssues {
+  private final Issues origin;
+  private final BoundedCalls calls;
+
+  /**
+   * Ctor.
+   * 
+   * @param origin the blocking API
+   * @param calls runs the calls to {@code origin}
+   * @since 1.0.0
+   */
+  DefaultAsyncIssues(Issues origin, BoundedCalls calls) {
+    this.origin = origin;
+    this.calls = calls;
+  }
+
+  @Override
+  public Project project() {
+    return this.origin.project();
+  }
+
+  @Override
+  public CompletableFuture<List<Issue>> list() {
+    return this.calls.submit(() -> this.origin.stream().collect(Collectors.toList()));
+  }
+
+  @Override
+  public CompletableFuture<List<Issue>> list(String query) {
+    return this.calls.submit(() -> this.origin.stream(query).collect(Collectors.toList()));
+  }
+
+  @Override
+  public CompletableFuture<Optional<Issue>> get(String id) {
+    return this.calls.submit(() -> this.origin.get(id));
+  }
+
+  @Override
+  public CompletableFuture<Map<String, Optional<Issue>>> get(Collection<String> ids) {
+    return this.calls.submit(() -> this.origin.get(ids));
+  }
+
+  @Override
+  public CompletableFuture<Issue> create(String summary, String description) {
+    return this.create(summary, description, Collections.emptyMap());
+  }
+
+  @Override
+  public CompletableFuture<Issue> create(
+      String summary, String description, Map<Field, FieldValue> fields
+  ) {
+    return this.calls.submit(() -> this.origin.create(summary, description, fields));
+  }
+}
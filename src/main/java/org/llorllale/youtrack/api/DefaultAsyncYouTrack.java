@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Default implementation of {@link AsyncYouTrack}.
+ * 
+ * <p>Calls are made with the blocking API of the given {@link YouTrack}, with a bound on the
+ * number of calls in flight that is shared by all {@link AsyncIssues issues},
+ * {@link AsyncComments comments}, etc. obtained from this instance. Each instance runs its calls
+ * on its own pool of as many daemon threads as calls allowed in flight (a virtual thread per
+ * call on Java 21+), apart from the {@link FanOut} pool: calls may themselves fan out, eg.
+ * streams that prefetch pages, and would otherwise wait on the pool they hold. The
+ * {@link YouTrack}'s pool of connections should allow at least as many concurrent
+ * connections.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+public final class DefaultAsyncYouTrack implements AsyncYouTrack {
+  private static final int DEFAULT_IN_FLIGHT = 16;
+  private final YouTrack origin;
+  private final BoundedCalls calls;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param origin the blocking API
+   * @param calls runs the calls to {@code origin}
+   * @since 1.0.0
+   */
+  DefaultAsyncYouTrack(YouTrack origin, BoundedCalls calls) {
+    this.origin = origin;
+    this.calls = calls;
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param origin the blocking API
+   * @param inflight the maximum number of calls in flight
+   * @throws IllegalArgumentException if {@code inflight} is not positive
+   * @since 1.0.0
+   */
+  public DefaultAsyncYouTrack(YouTrack origin, int inflight) {
+    this(
+      origin,
+      new BoundedCalls(
+        new FanOut(new FanOutThreads(inflight, "youtrack-api-async").get()), inflight
+      )
+    );
+  }
+
+  /**
+   * Allows up to 16 calls in flight.
+   * 
+   * @param origin the blocking API
+   * @since 1.0.0
+   */
+  public DefaultAsyncYouTrack(YouTrack origin) {
+    this(origin, DEFAULT_IN_FLIGHT);
+  }
+
+  @Override
+  public CompletableFuture<List<Project>> projects() {
+    return this.calls.submit(
+      () -> this.origin.projects().stream().collect(Collectors.toList())
+    );
+  }
+
+  @Override
+  public AsyncIssues issues(Project project) {
+    return new DefaultAsyncIssues(project.issues(), this.calls);
+  }
+
+  @Override
+  public AsyncComments comments(Issue issue) {
+    return new DefaultAsyncComments(issue.comments(), this.calls);
+  }
+
+  @Override
+  public AsyncIssueTimeTracking timetracking(Issue issue) {
+    return new DefaultAsyncIssueTimeTracking(issue.timetracking(), this.calls);
+  }
+}
@@ -24,7 +24,6 @@ import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.HttpClients;
 import org.llorllale.youtrack.api.session.Login;
 
 import org.llorllale.youtrack.api.session.UnauthorizedException;
@@ -56,22 +55,11 @@ final class DefaultComments implements Comments {
     this.httpClient = httpClient;
   }
 
-  /**
-   * Uses the {@link HttpClients#createDefault() default} http client.
-   * 
-   * @param login the user's {@link Login}
-   * @param issue the {@link Issue} on which the comments are attached to
-   * @since 0.4.0
-   */
-  DefaultComments(Login login, Issue issue) {
-    this(login, issue, HttpClients.createDefault());
-  }
-
   @Override
   public Stream<Comment> stream() throws IOException, UnauthorizedException {
     return new StreamOf<>(
       new MappedCollection<>(
-        xml -> new XmlComment(this.issue(), this.login, xml),
+        xml -> new XmlComment(this.issue(), this.login, xml, this.httpClient),
         new XmlsOf(
           "//comment",
           new HttpResponseAsResponse(
@@ -94,26 +82,28 @@ final class DefaultComments implements Comments {
 
   @Override
   public Comments post(String text) throws IOException, UnauthorizedException {
-    new HttpResponseAsResponse(
-      this.httpClient.execute(
-        new HttpRequestWithSession(
-          this.login.session(),
-          new HttpRequestWithEntity(
-            new StringEntity(
-              "comment=".concat(text), 
-              ContentType.APPLICATION_FORM_URLENCODED
-            ),
-            new HttpPost(
-              this.login.session().baseUrl().toString()
-                .concat(BASE_PATH)
-                .concat(this.issue().id())
-                .concat("/execute")
+    new ConsumedResponse(
+      new HttpResponseAsResponse(
+        this.httpClient.execute(
+          new HttpRequestWithSession(
+            this.login.session(),
+            new HttpRequestWithEntity(
+              new StringEntity(
+                "comment=".concat(text), 
+                ContentType.APPLICATION_FORM_URLENCODED
+              ),
+              new HttpPost(
+                this.login.session().baseUrl().toString()
+                  .concat(BASE_PATH)
+                  .concat(this.issue().id())
+                  .concat("/execute")
+              )
             )
           )
         )
       )
     ).httpResponse();
-    return new DefaultComments(this.login, this.issue());
+    return new DefaultComments(this.login, this.issue(), this.httpClient);
   }
 
   @Override
@@ -17,11 +17,16 @@
 package org.llorllale.youtrack.api;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpGet;
-import org.apache.http.impl.client.HttpClients;
 import org.llorllale.youtrack.api.session.Login;
 import org.llorllale.youtrack.api.session.UnauthorizedException;
 
@@ -32,6 +37,7 @@ import org.llorllale.youtrack.api.session.UnauthorizedException;
  * @since 0.8.0
  */
 final class DefaultFields implements Fields {
+  private static final int PARALLELISM = 4;
   private final Login login;
   private final Project project;
   private final HttpClient httpClient;
@@ -49,17 +55,6 @@ final class DefaultFields implements Fields {
     this.httpClient = httpClient;
   }
 
-  /**
-   * Ctor.
-   * 
-   * @param login the user's {@link Login}
-   * @param project the parent {@link Project}
-   * @since 0.8.0
-   */
-  DefaultFields(Login login, Project project) {
-    this(login, project, HttpClients.createDefault());
-  }
-
   @Override
   public Project project() {
     return this.project;
@@ -70,7 +65,7 @@ final class DefaultFields implements Fields {
     return new StreamOf<>(
       new MappedCollection<>(
         new UncheckedIoFunction<>(
-          x -> new XmlProjectField(x, this.project(), this.login)
+          x -> new XmlProjectField(x, this.project(), this.login, this.httpClient)
         ),
         new XmlsOf(
           "/projectCustomFieldRefs/projectCustomField",
@@ -91,4 +86,43 @@ final class DefaultFields implements Fields {
       )
     );
   }
+
+  /**
+   * {@inheritDoc}
+   * 
+   * <p>The fields' values are fetched a bounded number at a time on the {@link FanOut}
+   * executor, through the {@link BundleCache#SHARED shared} cache of bundles.</p>
+   */
+  @Override
+  public Map<ProjectField, List<FieldValue>> values() throws IOException, UnauthorizedException {
+    final BoundedCalls calls = new BoundedCalls(PARALLELISM);
+    final Map<ProjectField, CompletableFuture<List<FieldValue>>> loads = new LinkedHashMap<>();
+    this.stream().forEach(
+      f -> loads.put(
+        f, calls.submit(() -> f.values().collect(Collectors.toList()))
+      )
+    );
+    final Map<ProjectField, List<FieldValue>> values = new LinkedHashMap<>();
+    for (Map.Entry<ProjectField, CompletableFuture<List<FieldValue>>> load : loads.entrySet()) {
+      values.put(load.getKey(), joined(load.getValue()));
+    }
+    return values;
+  }
+
+  /**
+   * Waits for the {@code load} to complete.
+   * 
+   * @param load the load of a field's values
+   * @return the field's values
+   * @throws IOException if the load failed
+   * @since 1.0.0
+   */
+  private static List<FieldValue> joined(CompletableFuture<List<FieldValue>> load) 
+      throws IOException {
+    try {
+      return load.join();
+    } catch (CompletionException e) {
+      throw new IOException(e.getCause().getMessage(), e.getCause());
+    }
+  }
 }
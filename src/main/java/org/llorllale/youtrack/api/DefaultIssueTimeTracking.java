@@ -28,7 +28,6 @@ import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.HttpClients;
 import org.llorllale.youtrack.api.session.Login;
 
 import org.llorllale.youtrack.api.session.UnauthorizedException;
@@ -59,17 +58,6 @@ final class DefaultIssueTimeTracking implements IssueTimeTracking {
     this.httpClient = httpClient;
   }
 
-  /**
-   * Uses the {@link HttpClients#createDefault() default} http client.
-   * 
-   * @param login the user's {@link Login}
-   * @param issue the {@link Issue} to which this {@link IssueTimeTracking} is attached to
-   * @since 0.4.0
-   */
-  DefaultIssueTimeTracking(Login login, Issue issue) {
-    this(login, issue, HttpClients.createDefault());
-  }
-
   @Override
   public Stream<TimeTrackEntry> stream() throws IOException, UnauthorizedException {
     return new StreamOf<>(
@@ -135,24 +123,26 @@ final class DefaultIssueTimeTracking implements IssueTimeTracking {
       String description,
       TimeTrackEntryType type
   ) throws IOException, UnauthorizedException {
-    new HttpResponseAsResponse(
-      this.httpClient.execute(
-        new HttpRequestWithSession(
-          this.login.session(),
-          new HttpRequestWithEntity(
-            new StringEntity(
-              this.toXmlString(date, duration, description, type),
-              ContentType.APPLICATION_XML
-            ),
-            new HttpPost(
-              this.login.session().baseUrl().toString()
-                .concat(String.format(PATH_TEMPLATE, this.issue.id()))
+    new ConsumedResponse(
+      new HttpResponseAsResponse(
+        this.httpClient.execute(
+          new HttpRequestWithSession(
+            this.login.session(),
+            new HttpRequestWithEntity(
+              new StringEntity(
+                this.toXmlString(date, duration, description, type),
+                ContentType.APPLICATION_XML
+              ),
+              new HttpPost(
+                this.login.session().baseUrl().toString()
+                  .concat(String.format(PATH_TEMPLATE, this.issue.id()))
+              )
             )
           )
         )
       )
     ).httpResponse();
-    return new DefaultIssueTimeTracking(this.login, this.issue);
+    return new DefaultIssueTimeTracking(this.login, this.issue, this.httpClient);
   }
 
   /**
@@ -17,18 +17,37 @@
 package org.llorllale.youtrack.api;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.LongConsumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.apache.http.Header;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPut;
-import org.apache.http.impl.client.HttpClients;
+import org.apache.http.client.methods.HttpUriRequest;
 import org.llorllale.youtrack.api.session.Login;
+import org.llorllale.youtrack.api.session.Session;
 
 import org.llorllale.youtrack.api.session.UnauthorizedException;
+import org.reactivestreams.Publisher;
 
 /**
  * Default implementation of {@link Issues}.
@@ -36,32 +55,60 @@ import org.llorllale.youtrack.api.session.UnauthorizedException;
  * @author George Aristy (george.aristy@gmail.com)
  * @since 0.4.0
  */
+@SuppressWarnings({
+  "checkstyle:ClassDataAbstractionCoupling",
+  "checkstyle:ClassFanOutComplexity",
+  "checkstyle:MethodCount"
+})
 final class DefaultIssues implements Issues {
+  private static final int COMMANDS_IN_FLIGHT = 8;
+  private static final int QUERIES_IN_FLIGHT = 4;
+  private static final int MAX_IMPORT_BATCH = 100;
+  private static final int BATCH_THREADS = 16;
+  //batch calls stream pages, which may be prefetched on the FanOut pool: were they run on it
+  //too, they could take up all of its threads waiting for pages queued behind them
+  private static final ExecutorService BATCHES = 
+      new FanOutThreads(BATCH_THREADS, "youtrack-api-batch").get();
   private final Project project;
   private final Login login;
   private final HttpClient httpClient;
+  private final boolean snapshot;
+  private final Paging paging;
 
   /**
    * Primary ctor.
    * @param project the parent {@link Project}
    * @param login the user's {@link Login}
    * @param httpClient the {@link HttpClient} to use
-   * @since 0.4.0
+   * @param snapshot whether to return {@link SnapshotIssue snapshots} instead of
+   *     {@link XmlIssue xml-backed} issues
+   * @param paging how issues are paginated when streaming
+   * @since 1.0.0
    */
-  DefaultIssues(Project project, Login login, HttpClient httpClient) {
+  @SuppressWarnings("checkstyle:ParameterNumber")
+  DefaultIssues(
+      Project project,
+      Login login,
+      HttpClient httpClient,
+      boolean snapshot,
+      Paging paging
+  ) {
     this.project = project;
     this.login = login;
     this.httpClient = httpClient;
+    this.snapshot = snapshot;
+    this.paging = paging;
   }
 
   /**
-   * Uses the {@link HttpClients#createDefault() default} httpClient.
+   * Returns {@link XmlIssue xml-backed} issues.
    * @param project the parent {@link Project}
    * @param login the user's {@link Login}
+   * @param httpClient the {@link HttpClient} to use
    * @since 0.4.0
    */
-  DefaultIssues(Project project, Login login) {
-    this(project, login, HttpClients.createDefault());
+  DefaultIssues(Project project, Login login, HttpClient httpClient) {
+    this(project, login, httpClient, false, new Paging());
   }
 
   @Override
@@ -71,31 +118,31 @@ final class DefaultIssues implements Issues {
 
   @Override
   public Stream<Issue> stream() throws IOException, UnauthorizedException {
-    final int pageSize = 10;
-    return new StreamOf<>(
-      new Pagination<>(
-        pageSize,
-        new UncheckedIoFunction<>(n ->
-          new HttpRequestWithSession(
-            this.login.session(), 
-            new HttpGet(
-              new UncheckedUriBuilder(
-                this.login.session().baseUrl().toString()
-                  .concat("/issue/byproject/")
-                  .concat(this.project().id())
-              ).param("after", String.valueOf(n))
-                .build()
-            )
-          )
-        ),
-        resp -> 
-          new MappedCollection<>(
-            new UncheckedIoFunction<>(
-              xml -> new XmlIssue(this.project(), this.login, xml)
-            ),
-            new XmlsOf("/issues/issue", resp)
-          ),
-        this.httpClient
+    return this.paged(uri -> uri, millis -> { });
+  }
+
+  @Override
+  public Stream<Issue> stream(String query) throws IOException, UnauthorizedException {
+    return this.paged(uri -> uri.param("filter", query), millis -> { });
+  }
+
+  @Override
+  public Publisher<Issue> publisher() {
+    return new IssuesPublisher(this);
+  }
+
+  @Override
+  public Publisher<Issue> publisher(String query) {
+    return new IssuesPublisher(this, query);
+  }
+
+  @Override
+  public Updates updatedSince(Instant since) {
+    return new DefaultUpdates(
+      since,
+      updates -> this.paged(
+        uri -> uri.param("updatedAfter", String.valueOf(since.toEpochMilli())),
+        updates
       )
     );
   }
@@ -116,9 +163,75 @@ final class DefaultIssues implements Issues {
         )
       )
     ).filter(x -> !x.child("//error").isPresent())
-      .map(new UncheckedIoFunction<>(
-        x -> new XmlIssue(this.project(), this.login, x)
-      ));
+      .map(this::issue);
+  }
+
+  @Override
+  public Map<String, Optional<Issue>> get(Collection<String> ids) 
+      throws IOException, UnauthorizedException {
+    final BoundedCalls calls = new BoundedCalls(new FanOut(BATCHES), QUERIES_IN_FLIGHT);
+    final List<CompletableFuture<List<Issue>>> searches = new ArrayList<>();
+    for (String query : new IssueIdQueries(new LinkedHashSet<>(ids))) {
+      searches.add(calls.submit(() -> this.stream(query).collect(Collectors.toList())));
+    }
+    final Map<String, Issue> found = new HashMap<>();
+    for (CompletableFuture<List<Issue>> search : searches) {
+      joined(search).forEach(i -> found.put(i.id(), i));
+    }
+    final Map<String, Optional<Issue>> issues = new LinkedHashMap<>();
+    ids.forEach(id -> issues.put(id, Optional.ofNullable(found.get(id))));
+    return issues;
+  }
+
+  @Override
+  public Issues snapshots() {
+    return new DefaultIssues(this.project(), this.login, this.httpClient, true, this.paging);
+  }
+
+  @Override
+  public Issues prefetch(int pages) {
+    if (pages < 0) {
+      throw new IllegalArgumentException("pages must not be negative");
+    }
+    return new DefaultIssues(
+      this.project(), this.login, this.httpClient, this.snapshot, this.paging.lookahead(pages)
+    );
+  }
+
+  @Override
+  public Issues pageSize(int size) {
+    if (size < 1) {
+      throw new IllegalArgumentException("size must be positive");
+    }
+    return new DefaultIssues(
+      this.project(),
+      this.login,
+      this.httpClient,
+      this.snapshot,
+      this.paging.size(() -> new PageSize.Fixed(size))
+    );
+  }
+
+  @Override
+  public Issues adaptivePageSize(int min, int max, Duration latency, long bytes) {
+    if (min < 1 || min > max) {
+      throw new IllegalArgumentException("min must be positive and not greater than max");
+    }
+    final AdaptivePageSize size = new AdaptivePageSize(min, max, latency, bytes);
+    return new DefaultIssues(
+      this.project(),
+      this.login,
+      this.httpClient,
+      this.snapshot,
+      this.paging.size(size::fresh)
+    );
+  }
+
+  @Override
+  public Issues counting(LongAdder requests) {
+    return new DefaultIssues(
+      this.project(), this.login, this.httpClient, this.snapshot, this.paging.counted(requests)
+    );
   }
 
   @Override
@@ -130,25 +243,166 @@ final class DefaultIssues implements Issues {
   @Override
   public Issue create(String summary, String description, Map<Field, FieldValue> fields) 
       throws IOException, UnauthorizedException {
-    return this.get(
-      new SubstringAfterLast(
-        new HttpResponseAsResponse(
-          this.httpClient.execute(
-            new HttpRequestWithSession(
-              this.login.session(),
-              new HttpPut(
-                new UncheckedUriBuilder(
-                  this.login.session().baseUrl().toString().concat("/issue")
-                ).param("project", this.project().id())
-                  .param("summary", summary)
-                  .paramIfPresent("description", Optional.ofNullable(description))
-                  .build()
-              )
+    final Header location = new ConsumedResponse(
+      new HttpResponseAsResponse(
+        this.httpClient.execute(
+          new HttpRequestWithSession(
+            this.login.session(),
+            new HttpPut(
+              new UncheckedUriBuilder(
+                this.login.session().baseUrl().toString().concat("/issue")
+              ).param("project", this.project().id())
+                .param("summary", summary)
+                .paramIfPresent("description", Optional.ofNullable(description))
+                .build()
             )
           )
-        ).httpResponse().getFirstHeader("Location").getValue(),
-        "/"
-      ).get()
-    ).get().update().fields(fields);
+        )
+      )
+    ).httpResponse().getFirstHeader("Location");
+    if (location == null) {
+      throw new IOException("YouTrack did not return the location of the issue created");
+    }
+    final Issue issue = new LazyIssue(
+      this.project(),
+      new SubstringAfterLast(location.getValue(), "/").get(),
+      this.login,
+      this.httpClient
+    );
+    final Issue created;
+    if (fields.isEmpty()) {
+      created = issue;
+    } else {
+      created = issue.update().fields(fields);
+    }
+    return created;
+  }
+
+  @Override
+  public Map<Issue, Optional<IOException>> apply(
+      Map<Field, FieldValue> fields, Collection<Issue> issues
+  ) throws IOException, UnauthorizedException {
+    //fail once on login errors rather than once per issue
+    this.login.session();
+    final IssueCommand command = new IssueCommand(this.login, this.httpClient, fields);
+    final BoundedCalls calls = new BoundedCalls(new FanOut(BATCHES), COMMANDS_IN_FLIGHT);
+    final Map<Issue, CompletableFuture<Optional<IOException>>> executions = 
+        new LinkedHashMap<>();
+    issues.forEach(
+      i -> executions.put(i, calls.submit(() -> outcome(command, i)))
+    );
+    final Map<Issue, Optional<IOException>> outcomes = new LinkedHashMap<>();
+    executions.forEach(
+      (issue, execution) -> outcomes.put(
+        issue,
+        execution.exceptionally(e -> Optional.of(new IOException(e.getMessage(), e))).join()
+      )
+    );
+    return outcomes;
+  }
+
+  @Override
+  public List<ImportBatch> bulkImport(Stream<IssueDraft> drafts, int batchSize) {
+    if (batchSize < 1 || batchSize > MAX_IMPORT_BATCH) {
+      throw new IllegalArgumentException("batchSize must be from 1 to 100");
+    }
+    return new IssueImport(this.project(), this.login, this.httpClient)
+      .send(drafts, batchSize);
+  }
+
+  /**
+   * Waits for the {@code search} to complete.
+   * 
+   * @param search the search for some of the issues
+   * @return the issues found
+   * @throws IOException if the search failed
+   * @since 1.0.0
+   */
+  private static List<Issue> joined(CompletableFuture<List<Issue>> search) throws IOException {
+    try {
+      return search.join();
+    } catch (CompletionException e) {
+      throw new IOException(e.getCause().getMessage(), e.getCause());
+    }
+  }
+
+  /**
+   * The {@link Issue} represented by {@code xml}.
+   * 
+   * @param xml the issue's xml
+   * @return a {@link SnapshotIssue snapshot} if in snapshot mode, else a {@link XmlIssue}
+   * @since 1.0.0
+   */
+  private Issue issue(Xml xml) {
+    final Issue issue;
+    if (this.snapshot) {
+      issue = new SnapshotIssue(this.project(), this.login, xml, this.httpClient);
+    } else {
+      issue = new XmlIssue(this.project(), this.login, xml, this.httpClient);
+    }
+    return issue;
+  }
+
+  /**
+   * Streams the project's issues page by page.
+   * 
+   * @param params adds query parameters to each page's request, besides the page's offset and
+   *     size
+   * @param updates receives the update time, in epoch millis, of each issue received
+   * @return the stream of issues
+   * @throws IOException from {@link Login#session()}
+   * @throws UnauthorizedException from {@link Login#session()}
+   * @since 1.0.0
+   */
+  private Stream<Issue> paged(UnaryOperator<UncheckedUriBuilder> params, LongConsumer updates) 
+      throws IOException, UnauthorizedException {
+    final Session session = this.login.session();
+    final BiFunction<Integer, Integer, HttpUriRequest> pages = (offset, size) ->
+      new HttpRequestWithSession(
+        session, 
+        new HttpGet(
+          params.apply(
+            new UncheckedUriBuilder(
+              session.baseUrl().toString()
+                .concat("/issue/byproject/")
+                .concat(this.project().id())
+            )
+          ).param("after", String.valueOf(offset))
+            .param("max", String.valueOf(size))
+            .build()
+        )
+      );
+    return this.paging.stream(
+      pages,
+      resp -> new MappedXmls<>(
+        "/issues/issue",
+        resp,
+        xml -> {
+          xml.textOf("field[@name = 'updated']/value").map(Long::parseLong)
+            .ifPresent(updates::accept);
+          return this.issue(xml);
+        }
+      ),
+      this.httpClient
+    );
+  }
+
+  /**
+   * Executes the {@code command} on the {@code issue}.
+   * 
+   * @param command the command
+   * @param issue the issue
+   * @return empty on success, else the error encountered
+   * @since 1.0.0
+   */
+  private static Optional<IOException> outcome(IssueCommand command, Issue issue) {
+    Optional<IOException> outcome;
+    try {
+      command.execute(issue.id());
+      outcome = Optional.empty();
+    } catch (IOException e) {
+      outcome = Optional.of(e);
+    }
+    return outcome;
   }
 }
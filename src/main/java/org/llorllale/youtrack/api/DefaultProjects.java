@@ -22,7 +22,6 @@ import java.util.stream.Stream;
 
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpGet;
-import org.apache.http.impl.client.HttpClients;
 import org.llorllale.youtrack.api.session.Login;
 
 import org.llorllale.youtrack.api.session.UnauthorizedException;
@@ -37,35 +36,39 @@ final class DefaultProjects implements Projects {
   private final YouTrack youtrack;
   private final Login login;
   private final HttpClient httpClient;
+  private final UserCache users;
 
   /**
    * Primary ctor.
    * @param youtrack the parent {@link YouTrack}
    * @param login the user's {@link Login}
    * @param httpClient the {@link HttpClient} to use
-   * @since 0.4.0
+   * @param users the cache of the users seen by the {@code login}
+   * @since 1.0.0
    */
-  DefaultProjects(YouTrack youtrack, Login login, HttpClient httpClient) {
+  DefaultProjects(YouTrack youtrack, Login login, HttpClient httpClient, UserCache users) {
     this.youtrack = youtrack;
     this.login = login;
     this.httpClient = httpClient;
+    this.users = users;
   }
 
   /**
-   * Uses the {@link HttpClients#createDefault() default} http client.
+   * Caches users for these projects only.
    * @param youtrack the parent {@link YouTrack}
    * @param login the user's {@link Login}
+   * @param httpClient the {@link HttpClient} to use
    * @since 0.4.0
    */
-  DefaultProjects(YouTrack youtrack, Login login) {
-    this(youtrack, login, HttpClients.createDefault());
+  DefaultProjects(YouTrack youtrack, Login login, HttpClient httpClient) {
+    this(youtrack, login, httpClient, new UserCache());
   }
 
   @Override
   public Stream<Project> stream() throws IOException, UnauthorizedException {
     return new StreamOf<>(
       new MappedCollection<>(
-        xml -> new XmlProject(this.youtrack, this.login, xml),
+        xml -> new XmlProject(this.youtrack, this.login, xml, this.httpClient, this.users),
         new XmlsOf(
           "/projects/project",
           new HttpResponseAsResponse(
@@ -86,7 +89,7 @@ final class DefaultProjects implements Projects {
   @Override
   public Optional<Project> get(String id) throws IOException, UnauthorizedException {
     return new MappedCollection<Xml, Project>(
-      xml -> new XmlProject(this.youtrack, this.login, xml),
+      xml -> new XmlProject(this.youtrack, this.login, xml, this.httpClient, this.users),
       new XmlsOf(
         "/project",
         new HttpResponseAsResponse(
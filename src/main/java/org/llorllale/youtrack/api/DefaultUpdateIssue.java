@@ -17,17 +17,12 @@
 package org.llorllale.youtrack.api;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
-import org.apache.http.client.entity.UrlEncodedFormEntity;
+import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpPost;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.message.BasicNameValuePair;
 
 import org.llorllale.youtrack.api.session.Login;
 import org.llorllale.youtrack.api.session.UnauthorizedException;
@@ -42,17 +37,36 @@ final class DefaultUpdateIssue implements UpdateIssue {
   private static final String PATH_TEMPLATE = "/issue/%s";
   private final Issue issue;
   private final Login login;
+  private final HttpClient httpClient;
+  private final boolean refresh;
 
   /**
    * Primary ctor.
    * 
    * @param issue the issue to update
    * @param login the user's {@link Login}
-   * @since 0.9.0
+   * @param httpClient the {@link HttpClient} to use
+   * @param refresh whether to return a {@link LazyIssue lazily refreshed} issue after updating,
+   *     or the {@code issue} with the values written
+   * @since 1.0.0
    */
-  DefaultUpdateIssue(Issue issue, Login login) {
+  DefaultUpdateIssue(Issue issue, Login login, HttpClient httpClient, boolean refresh) {
     this.issue = issue;
     this.login = login;
+    this.httpClient = httpClient;
+    this.refresh = refresh;
+  }
+
+  /**
+   * Returns lazily refreshed issues after updating.
+   * 
+   * @param issue the issue to update
+   * @param login the user's {@link Login}
+   * @param httpClient the {@link HttpClient} to use
+   * @since 1.0.0
+   */
+  DefaultUpdateIssue(Issue issue, Login login, HttpClient httpClient) {
+    this(issue, login, httpClient, true);
   }
 
   @Override
@@ -80,65 +94,63 @@ final class DefaultUpdateIssue implements UpdateIssue {
 
   @Override
   public Issue fields(Map<Field, FieldValue> fields) throws IOException, UnauthorizedException {
-    final String separator = " ";
-    new HttpResponseAsResponse(
-      HttpClients.createDefault().execute(
-        new HttpRequestWithSession(
-          this.login.session(),
-          new HttpRequestWithEntity(
-            new UrlEncodedFormEntity(
-              Arrays.asList(
-                new BasicNameValuePair(
-                  "command", 
-                  fields.entrySet().stream()
-                    .map(
-                      e -> String.join(
-                        separator, 
-                        e.getKey().name(), 
-                        e.getValue().asString()
-                      )
-                    ).collect(Collectors.joining(separator))
-                )
-              ),
-              StandardCharsets.UTF_8
-            ),
-            new HttpPost(
-              this.login.session().baseUrl().toString()
-                .concat(String.format(PATH_TEMPLATE, this.issue.id()))
-                .concat("/execute")
-            )
-          )
-        )
-      )
-    ).httpResponse();
-    return this.issue.refresh();
+    new IssueCommand(this.login, this.httpClient, fields).execute(this.issue.id());
+    return this.updated(new UpdatedIssue(this.issue, this.login, this.httpClient, fields));
+  }
+
+  @Override
+  public UpdateIssue withoutRefresh() {
+    return new DefaultUpdateIssue(this.issue, this.login, this.httpClient, false);
   }
 
   /**
    * Updates just the summary and description of the issue.
    * @param summary the issue's summary
    * @param description the issue's description (may be {@code null})
-   * @return a new instance of the same issue after being refreshed
+   * @return the issue after being updated
    * @throws IOException if the server is unavailable
    * @throws UnauthorizedException if the user's is unauthorized
    */
   private Issue updateSmmryDesc(String summary, String description) 
       throws IOException, UnauthorizedException {
-    new HttpResponseAsResponse(
-      HttpClients.createDefault().execute(
-        new HttpRequestWithSession(
-          this.login.session(),
-          new HttpPost(
-            new UncheckedUriBuilder(
-              this.login.session().baseUrl().toString()
-                .concat(String.format(PATH_TEMPLATE, this.issue.id()))
-            ).param("summary", summary)
-              .paramIfPresent("description", Optional.ofNullable(description))
-              .build()
+    new ConsumedResponse(
+      new HttpResponseAsResponse(
+        this.httpClient.execute(
+          new HttpRequestWithSession(
+            this.login.session(),
+            new HttpPost(
+              new UncheckedUriBuilder(
+                this.login.session().baseUrl().toString()
+                  .concat(String.format(PATH_TEMPLATE, this.issue.id()))
+              ).param("summary", summary)
+                .paramIfPresent("description", Optional.ofNullable(description))
+                .build()
+            )
           )
         )
       )
     ).httpResponse();
-    return this.issue.refresh();
+    return this.updated(
+      new UpdatedIssue(
+        this.issue, this.login, this.httpClient, summary, Optional.ofNullable(description)
+      )
+    );
+  }
+
+  /**
+   * The issue after being updated.
+   * 
+   * @param written the issue with the values written
+   * @return a {@link LazyIssue lazily refreshed} issue, or {@code written} if not refreshing
+   * @since 1.0.0
+   */
+  private Issue updated(Issue written) {
+    final Issue updated;
+    if (this.refresh) {
+      updated = new LazyIssue(this.issue.project(), this.issue.id(), this.login, this.httpClient);
+    } else {
+      updated = written;
+    }
+    return updated;
   }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+
+import org.llorllale.youtrack.api.session.UnauthorizedException;
+
+/**
+ * Default implementation of {@link Updates}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class DefaultUpdates implements Updates {
+  private final ExceptionalFunction<LongConsumer, Stream<Issue>, IOException> source;
+  private final AtomicLong latest;
+
+  /**
+   * Ctor.
+   * 
+   * @param since the starting point of these updates
+   * @param source streams the issues updated since {@code since}, passing each issue's update
+   *     time, in epoch millis, to the given consumer
+   * @since 1.0.0
+   */
+  DefaultUpdates(
+      Instant since, 
+      ExceptionalFunction<LongConsumer, Stream<Issue>, IOException> source
+  ) {
+    this.source = source;
+    this.latest = new AtomicLong(since.toEpochMilli());
+  }
+
+  @Override
+  public Stream<Issue> stream() throws IOException, UnauthorizedException {
+    return this.source.apply(millis -> this.latest.accumulateAndGet(millis, Math::max));
+  }
+
+  @Override
+  public Instant watermark() {
+    return Instant.ofEpochMilli(this.latest.get());
+  }
+}
@@ -16,27 +16,132 @@
 
 package org.llorllale.youtrack.api;
 
+import java.io.Closeable;
+import java.io.IOException;
+import org.apache.http.client.HttpClient;
 import org.llorllale.youtrack.api.session.Login;
+import org.llorllale.youtrack.api.session.UnauthorizedException;
 
 /**
  * Default implementation of {@link YouTrack}.
+ * 
+ * <p>Each instance owns a single {@link HttpClient} backed by a pool of persistent connections. 
+ * It is shared by all {@link Projects projects}, {@link Issues issues}, {@link Comments comments},
+ * etc. obtained from it, so it is recommended to keep one instance per YouTrack server.
+ * 
+ * <p>The pool is shut down when this instance is {@link #close() closed}. A client handed in by
+ * the caller is never closed: it remains the caller's to manage.
+ * 
  * @author George Aristy (george.aristy@gmail.com)
  * @since 0.4.0
  */
 public final class DefaultYouTrack implements YouTrack {
   private final Login login;
+  private final HttpClient httpClient;
+  private final UserCache users;
+  private final Closeable pool;
 
   /**
    * Primary ctor.
+   * 
+   * @param login the user's {@link Login}
+   * @param httpClient the {@link HttpClient} shared by all resources
+   * @param pool releases the connections of {@code httpClient} on {@link #close()}
+   * @since 1.0.0
+   */
+  DefaultYouTrack(Login login, HttpClient httpClient, Closeable pool) {
+    this.login = new CachedLogin(login);
+    this.httpClient = httpClient;
+    this.users = new UserCache();
+    this.pool = pool;
+  }
+
+  /**
+   * Uses a client owned by the caller, which is left open on {@link #close()}.
+   * 
+   * @param login the user's {@link Login}
+   * @param httpClient the {@link HttpClient} shared by all resources
+   * @since 1.0.0
+   */
+  DefaultYouTrack(Login login, HttpClient httpClient) {
+    this(login, httpClient, () -> { });
+  }
+
+  /**
+   * Owns {@code pool} and shuts it down on {@link #close()}.
+   * 
+   * @param login the user's {@link Login}
+   * @param pool the pool of connections shared by all resources
+   * @since 1.0.0
+   */
+  DefaultYouTrack(Login login, PooledHttpClient pool) {
+    this(login, pool, pool);
+  }
+
+  /**
+   * Owns {@code pool} and shuts it down on {@link #close()}, reporting every request sent to the
+   * server to {@code listener}.
+   * 
+   * @param login the user's {@link Login}
+   * @param pool the pool of connections shared by all resources
+   * @param listener the listener to report requests to
+   * @since 1.0.0
+   */
+  DefaultYouTrack(Login login, PooledHttpClient pool, RequestListener listener) {
+    this(login, new MeteredHttpClient(pool, listener), pool);
+  }
+
+  /**
+   * Uses a pool of persistent connections configured with the given limits.
+   * 
+   * @param login the user's {@link Login}
+   * @param maxPerRoute the maximum number of concurrent connections to the YouTrack server
+   * @param maxTotal the maximum number of connections kept in the pool
+   * @since 1.0.0
+   */
+  public DefaultYouTrack(Login login, int maxPerRoute, int maxTotal) {
+    this(login, new PooledHttpClient(maxPerRoute, maxTotal));
+  }
+
+  /**
+   * Uses a pool of persistent connections with default limits.
+   * 
    * @param login the user's {@link Login}
    * @since 0.4.0
    */
   public DefaultYouTrack(Login login) {
-    this.login = new CachedLogin(login);
+    this(login, new PooledHttpClient());
+  }
+
+  /**
+   * Uses a pool of persistent connections with default limits, and reports every request sent
+   * to the server to {@code listener}.
+   * 
+   * @param login the user's {@link Login}
+   * @param listener the listener to report requests to, eg. {@link RequestMetrics}
+   * @since 1.0.0
+   */
+  public DefaultYouTrack(Login login, RequestListener listener) {
+    this(login, new PooledHttpClient(), listener);
   }
 
   @Override
   public Projects projects() {
-    return new DefaultProjects(this, this.login);
+    return new DefaultProjects(this, this.login, this.httpClient, this.users);
+  }
+
+  /**
+   * {@inheritDoc}
+   * 
+   * <p>Users are fetched a bounded number at a time on the {@link FanOut} executor.</p>
+   */
+  @Override
+  public int preloadUsers() throws IOException, UnauthorizedException {
+    return new AdminUsers(this.login, this.httpClient, this.users).preload();
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.pool.close();
   }
 }
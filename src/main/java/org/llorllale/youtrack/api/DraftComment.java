@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.time.Instant;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * A comment of an {@link IssueDraft}, as sent to YouTrack's import endpoint.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class DraftComment {
+  private final String author;
+  private final String text;
+  private final Instant created;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param author the login of the comment's author
+   * @param text the comment's text
+   * @param created when the comment was created
+   * @since 1.0.0
+   */
+  DraftComment(String author, String text, Instant created) {
+    this.author = author;
+    this.text = text;
+    this.created = created;
+  }
+
+  /**
+   * Writes this comment as a {@code comment} element.
+   * 
+   * @param xml the writer
+   * @throws XMLStreamException if there's an error writing
+   * @since 1.0.0
+   */
+  void write(XMLStreamWriter xml) throws XMLStreamException {
+    xml.writeEmptyElement("comment");
+    xml.writeAttribute("author", this.author);
+    xml.writeAttribute("text", this.text);
+    xml.writeAttribute("created", String.valueOf(this.created.toEpochMilli()));
+  }
+}
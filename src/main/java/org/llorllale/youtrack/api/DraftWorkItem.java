@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * A timetracking work item of an {@link IssueDraft}, as sent to YouTrack's import endpoint.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class DraftWorkItem {
+  private final String author;
+  private final LocalDate date;
+  private final Duration duration;
+  private final String description;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param author the login of the work item's author
+   * @param date the date the work was done
+   * @param duration the time spent
+   * @param description the work item's description
+   * @since 1.0.0
+   */
+  DraftWorkItem(String author, LocalDate date, Duration duration, String description) {
+    this.author = author;
+    this.date = date;
+    this.duration = duration;
+    this.description = description;
+  }
+
+  /**
+   * Writes this work item as a {@code workItem} element.
+   * 
+   * @param xml the writer
+   * @throws XMLStreamException if there's an error writing
+   * @since 1.0.0
+   */
+  void write(XMLStreamWriter xml) throws XMLStreamException {
+    xml.writeStartElement("workItem");
+    xml.writeEmptyElement("author");
+    xml.writeAttribute("login", this.author);
+    this.element(xml, "date", String.valueOf(
+        this.date.atStartOfDay(new YouTrackZoneId().toZoneId()).toInstant().toEpochMilli()
+      )
+    );
+    this.element(xml, "duration", String.valueOf(this.duration.toMinutes()));
+    this.element(xml, "description", this.description);
+    xml.writeEndElement();
+  }
+
+  /**
+   * Writes an element with text content.
+   * 
+   * @param xml the writer
+   * @param name the element's name
+   * @param text the element's text
+   * @throws XMLStreamException if there's an error writing
+   * @since 1.0.0
+   */
+  private void element(XMLStreamWriter xml, String name, String text) throws XMLStreamException {
+    xml.writeStartElement(name);
+    xml.writeCharacters(text);
+    xml.writeEndElement();
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free metrics of the requests sent to an endpoint.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class EndpointMetrics {
+  private static final int CLASS = 100;
+  private final ConcurrentMap<String, LongAdder> statuses;
+  private final LongAdder sent;
+  private final LongAdder received;
+  private final LatencyHistogram latencies;
+
+  /**
+   * Ctor.
+   * 
+   * @since 1.0.0
+   */
+  EndpointMetrics() {
+    this.statuses = new ConcurrentHashMap<>();
+    this.sent = new LongAdder();
+    this.received = new LongAdder();
+    this.latencies = new LatencyHistogram();
+  }
+
+  /**
+   * Records a request.
+   * 
+   * @param status the response's status code, or {@code 0} if there was no response
+   * @param out the length of the request's payload
+   * @param in the length of the response's payload
+   * @param latency the time elapsed from sending the request until its response's payload was
+   *     read
+   * @since 1.0.0
+   */
+  @SuppressWarnings("checkstyle:ParameterNumber")
+  public void record(int status, long out, long in, Duration latency) {
+    this.statuses.computeIfAbsent(statusClass(status), s -> new LongAdder()).increment();
+    this.sent.add(out);
+    this.received.add(in);
+    this.latencies.record(latency);
+  }
+
+  /**
+   * A snapshot of these metrics.
+   * 
+   * @return a snapshot of these metrics
+   * @since 1.0.0
+   */
+  public EndpointSnapshot snapshot() {
+    final Map<String, Long> counts = new TreeMap<>();
+    this.statuses.forEach((status, count) -> counts.put(status, count.sum()));
+    return new EndpointSnapshot(counts, this.sent.sum(), this.received.sum(), this.latencies);
+  }
+
+  /**
+   * The class of the status code, eg. {@code "2xx"}.
+   * 
+   * @param status the status code
+   * @return the class of the status code, or {@code "error"} if there was no response
+   * @since 1.0.0
+   */
+  private static String statusClass(int status) {
+    final String name;
+    if (status == 0) {
+      name = "error";
+    } else {
+      name = String.valueOf(status / CLASS).concat("xx");
+    }
+    return name;
+  }
+}
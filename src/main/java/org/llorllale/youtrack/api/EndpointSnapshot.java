@@ -0,0 +1,146 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * An immutable snapshot of the metrics of the requests sent to an endpoint.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see RequestMetrics#snapshot()
+ * @since 1.0.0
+ */
+public final class EndpointSnapshot {
+  private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+  private final Map<String, Long> statuses;
+  private final long sent;
+  private final long received;
+  private final Duration mean;
+  private final Duration max;
+  private final SortedMap<Double, Duration> quantiles;
+
+  /**
+   * Ctor.
+   * 
+   * @param statuses the number of requests by status class
+   * @param sent the number of bytes sent
+   * @param received the number of bytes received
+   * @param latencies the histogram of latencies
+   * @since 1.0.0
+   */
+  EndpointSnapshot(
+      Map<String, Long> statuses, long sent, long received, LatencyHistogram latencies
+  ) {
+    this.statuses = Collections.unmodifiableMap(statuses);
+    this.sent = sent;
+    this.received = received;
+    this.mean = latencies.mean();
+    this.max = latencies.max();
+    final SortedMap<Double, Duration> values = new TreeMap<>();
+    for (double quantile : QUANTILES) {
+      values.put(quantile, latencies.quantile(quantile));
+    }
+    this.quantiles = Collections.unmodifiableSortedMap(values);
+  }
+
+  /**
+   * The number of requests sent.
+   * 
+   * @return the number of requests sent
+   * @since 1.0.0
+   */
+  public long count() {
+    return this.statuses.values().stream().mapToLong(Long::longValue).sum();
+  }
+
+  /**
+   * The number of requests by class of response status.
+   * 
+   * @return the number of requests by class of response status, eg. {@code "2xx"} or
+   *     {@code "4xx"}; {@code "error"} counts the requests that got no response
+   * @since 1.0.0
+   */
+  public Map<String, Long> statuses() {
+    return this.statuses;
+  }
+
+  /**
+   * The number of bytes sent in the requests' payloads.
+   * 
+   * @return the number of bytes sent
+   * @since 1.0.0
+   */
+  public long sent() {
+    return this.sent;
+  }
+
+  /**
+   * The number of bytes read from the responses' payloads.
+   * 
+   * @return the number of bytes received
+   * @since 1.0.0
+   */
+  public long received() {
+    return this.received;
+  }
+
+  /**
+   * The mean latency.
+   * 
+   * @return the mean latency
+   * @since 1.0.0
+   */
+  public Duration mean() {
+    return this.mean;
+  }
+
+  /**
+   * The highest latency.
+   * 
+   * @return the highest latency
+   * @since 1.0.0
+   */
+  public Duration max() {
+    return this.max;
+  }
+
+  /**
+   * Estimates of the latency at the 0.5, 0.9, 0.99 and 0.999 quantiles.
+   * 
+   * <p>Each estimate is the upper bound of the histogram bucket in which the quantile falls, and
+   * is at most twice the actual value.</p>
+   * 
+   * @return the estimated latencies, by quantile
+   * @since 1.0.0
+   */
+  public SortedMap<Double, Duration> quantiles() {
+    return this.quantiles;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+      "count=%d statuses=%s sent=%d received=%d mean=%s max=%s quantiles=%s",
+      this.count(), this.statuses, this.sent, this.received, this.mean, this.max, this.quantiles
+    );
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.apache.http.client.methods.HttpUriRequest;
+
+/**
+ * The method and endpoint template of a request to YouTrack's REST API, eg.
+ * {@code "GET /issue/{id}/comment"} for {@code GET http://host/rest/issue/TP-1/comment}.
+ * 
+ * <p>The segments of the path that identify resources (issues, projects, fields, etc.) are
+ * replaced with placeholders, and whatever precedes the API's root resources (eg. the
+ * {@code /rest} base path) is dropped.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class EndpointTemplate {
+  private static final String ISSUE = "issue";
+  private static final String PROJECT = "project";
+  private static final String USER = "user";
+  private static final String IMPORT = "import";
+  private static final String PROJECT_ID = "{project}";
+  private static final Collection<String> ROOTS = Arrays.asList(
+      ISSUE, "admin", PROJECT, USER, IMPORT
+  );
+  private static final Map<String, String> VARIABLES = new HashMap<>();
+  private static final Collection<String> KEYWORDS = new HashSet<>(
+      Arrays.asList("execute", "timetracking", "all", "login")
+  );
+  private final String method;
+  private final String path;
+
+  static {
+    VARIABLES.put(ISSUE, "{id}");
+    VARIABLES.put("byproject", PROJECT_ID);
+    VARIABLES.put("comment", "{comment}");
+    VARIABLES.put("workitem", "{workitem}");
+    VARIABLES.put("worktype", "{worktype}");
+    VARIABLES.put(PROJECT, PROJECT_ID);
+    VARIABLES.put("customfield", "{field}");
+    VARIABLES.put("bundle", "{bundle}");
+    VARIABLES.put(USER, "{login}");
+    VARIABLES.put(IMPORT, PROJECT_ID);
+    KEYWORDS.addAll(VARIABLES.keySet());
+  }
+
+  /**
+   * Primary ctor.
+   * 
+   * @param method the request's method
+   * @param path the request's path
+   * @since 1.0.0
+   */
+  EndpointTemplate(String method, String path) {
+    this.method = method;
+    this.path = path;
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param request the request
+   * @since 1.0.0
+   */
+  EndpointTemplate(HttpUriRequest request) {
+    this(request.getMethod(), request.getURI().getPath());
+  }
+
+  /**
+   * The method and endpoint template.
+   * 
+   * @return the method and endpoint template
+   * @since 1.0.0
+   */
+  public String get() {
+    final String[] segments = this.path.split("/");
+    final StringBuilder template = new StringBuilder(this.method).append(' ');
+    for (int i = start(segments); i < segments.length; i++) {
+      template.append('/').append(segment(segments, i));
+    }
+    return template.toString();
+  }
+
+  /**
+   * The index of the first segment of the API's path.
+   * 
+   * @param segments the path's segments
+   * @return the index of the first root resource, or of the first segment if there's none
+   * @since 1.0.0
+   */
+  private static int start(String[] segments) {
+    return IntStream.range(1, segments.length)
+      .filter(i -> ROOTS.contains(segments[i]))
+      .findFirst()
+      .orElse(1);
+  }
+
+  /**
+   * The template of the path's {@code index}-th segment.
+   * 
+   * @param segments the path's segments
+   * @param index the index of the segment
+   * @return the placeholder if the segment identifies a resource, else the segment itself
+   * @since 1.0.0
+   */
+  private static String segment(String[] segments, int index) {
+    final String segment = segments[index];
+    String template = segment;
+    if (index > 0 && !KEYWORDS.contains(segment)) {
+      template = VARIABLES.getOrDefault(segments[index - 1], segment);
+    }
+    return template;
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.util.EntityUtils;
+
+import org.llorllale.youtrack.api.session.UnauthorizedException;
+
+/**
+ * Consumes the entity of any error response other than {@code 404} so that the underlying
+ * connection is released back to the {@link PooledHttpClient pool} before the rest of the chain
+ * throws.
+ * 
+ * <p>{@code 404} responses are left untouched because YouTrack describes missing resources in
+ * their payload.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see HttpResponseAsResponse
+ * @since 1.0.0
+ */
+final class ErrorConsumingResponse implements Response {
+  private final Response base;
+
+  /**
+   * Ctor.
+   * 
+   * @param base the next link in the chain
+   * @since 1.0.0
+   */
+  ErrorConsumingResponse(Response base) {
+    this.base = base;
+  }
+
+  @Override
+  public HttpResponse httpResponse() throws IOException, UnauthorizedException {
+    final HttpResponse response = this.base.httpResponse();
+    final int status = response.getStatusLine().getStatusCode();
+    if (status >= HttpStatus.SC_BAD_REQUEST && status != HttpStatus.SC_NOT_FOUND) {
+      EntityUtils.consume(response.getEntity());
+    }
+    return response;
+  }
+}
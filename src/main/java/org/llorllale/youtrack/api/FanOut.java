@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * The {@link Executor} on which blocking calls to YouTrack are fanned out.
+ * 
+ * <p>By default, tasks run on a process-wide executor created by {@link FanOutThreads}: a
+ * bounded pool of daemon threads on Java 8, which bounds the number of concurrent requests
+ * issued in the background regardless of how many streams are being consumed, or a virtual
+ * thread per task on Java 21+.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class FanOut implements Executor {
+  private static final ExecutorService SHARED = new FanOutThreads().get();
+  private final Executor origin;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param origin the executor to delegate to
+   * @since 1.0.0
+   */
+  FanOut(Executor origin) {
+    this.origin = origin;
+  }
+
+  /**
+   * Uses the process-wide executor.
+   * 
+   * @since 1.0.0
+   */
+  FanOut() {
+    this(SHARED);
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    this.origin.execute(command);
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Creates the threads that run the {@link FanOut fanned-out} blocking calls to YouTrack.
+ * 
+ * <p>This is a bounded pool of daemon platform threads, {@link #THREADS} by default, that exit
+ * after a minute without work. The library is built
+ * as a multi-release jar: on Java 21+, this class is replaced with one that starts a virtual
+ * thread per task instead, since blocking calls are then cheap to run concurrently. The number
+ * of calls in flight is still bounded by the callers (eg. prefetch lookahead,
+ * {@link BoundedCalls}).</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class FanOutThreads implements Supplier<ExecutorService> {
+  private static final int THREADS = 16;
+  private final int threads;
+  private final String name;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param threads the number of threads in the pool
+   * @param name the name of the threads
+   * @since 1.0.0
+   */
+  FanOutThreads(int threads, String name) {
+    this.threads = threads;
+    this.name = name;
+  }
+
+  /**
+   * The threads of the process-wide {@link FanOut} executor.
+   * 
+   * @since 1.0.0
+   */
+  FanOutThreads() {
+    this(THREADS, "youtrack-api-fanout");
+  }
+
+  @Override
+  public ExecutorService get() {
+    final ThreadPoolExecutor pool = new ThreadPoolExecutor(
+      this.threads, this.threads, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(),
+      task -> {
+        final Thread thread = new Thread(task, this.name);
+        thread.setDaemon(true);
+        return thread;
+      }
+    );
+    pool.allowCoreThreadTimeOut(true);
+    return pool;
+  }
+}
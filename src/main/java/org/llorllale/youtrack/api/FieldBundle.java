@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.List;
+import java.util.Optional;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpRequest;
+
+/**
+ * The values of a custom field bundle, along with the validators YouTrack sent with them.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see BundleCache
+ * @since 1.0.0
+ */
+final class FieldBundle {
+  private final List<String> values;
+  private final Optional<String> etag;
+  private final Optional<String> modified;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param values the bundle's values
+   * @param etag the {@code ETag} header sent with the values, if any
+   * @param modified the {@code Last-Modified} header sent with the values, if any
+   * @since 1.0.0
+   */
+  FieldBundle(List<String> values, Optional<String> etag, Optional<String> modified) {
+    this.values = values;
+    this.etag = etag;
+    this.modified = modified;
+  }
+
+  /**
+   * The bundle's values.
+   * 
+   * @return the bundle's values
+   * @since 1.0.0
+   */
+  List<String> values() {
+    return this.values;
+  }
+
+  /**
+   * Makes {@code request} conditional on the bundle having changed since these values were
+   * fetched.
+   * 
+   * @param request the request for the bundle
+   * @since 1.0.0
+   */
+  void revalidate(HttpRequest request) {
+    this.etag.ifPresent(e -> request.setHeader(HttpHeaders.IF_NONE_MATCH, e));
+    this.modified.ifPresent(m -> request.setHeader(HttpHeaders.IF_MODIFIED_SINCE, m));
+  }
+}
@@ -17,6 +17,8 @@
 package org.llorllale.youtrack.api;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import org.llorllale.youtrack.api.session.Login;
@@ -48,4 +50,19 @@ public interface Fields {
    * @since 0.8.0
    */
   Stream<ProjectField> stream() throws IOException, UnauthorizedException;
+
+  /**
+   * Returns the allowed {@link ProjectField#values() values} of all configured
+   * {@link ProjectField fields} for this {@link Project}, loaded in one go.
+   * 
+   * <p>Implementations may load the fields' values concurrently, and cache them so that later
+   * calls to {@link ProjectField#values()} don't hit the server.</p>
+   * 
+   * @return the allowed values of each field, in the order of {@link #stream()}
+   * @throws IOException if the server is unavailable
+   * @throws UnauthorizedException if the user's {@link Login} is not authorized to perform
+   *     this operation
+   * @since 1.0.0
+   */
+  Map<ProjectField, List<FieldValue>> values() throws IOException, UnauthorizedException;
 }
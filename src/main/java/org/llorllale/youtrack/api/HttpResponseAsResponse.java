@@ -47,8 +47,10 @@ final class HttpResponseAsResponse implements Response {
             new ForbiddenResponse(
                 new InternalServerErrorResponse(
                     new BadRequest(
-                        new IdentityResponse(
-                            httpResponse
+                        new ErrorConsumingResponse(
+                            new IdentityResponse(
+                                httpResponse
+                            )
                         )
                     )
                 )
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The outcome of importing one batch of {@link IssueDraft drafts}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see Issues#bulkImport(java.util.stream.Stream, int)
+ * @since 1.0.0
+ */
+public final class ImportBatch {
+  private final List<Integer> imported;
+  private final Map<Integer, String> failed;
+  private final Duration duration;
+
+  /**
+   * Ctor.
+   * 
+   * @param imported the numbers of the issues imported
+   * @param failed the errors reported, by issue number
+   * @param duration the time taken to import the batch
+   * @since 1.0.0
+   */
+  ImportBatch(List<Integer> imported, Map<Integer, String> failed, Duration duration) {
+    this.imported = Collections.unmodifiableList(imported);
+    this.failed = Collections.unmodifiableMap(failed);
+    this.duration = duration;
+  }
+
+  /**
+   * The {@link IssueDraft#number() numbers} of the issues imported, in the order sent.
+   * 
+   * @return the numbers of the issues imported
+   * @since 1.0.0
+   */
+  public List<Integer> imported() {
+    return this.imported;
+  }
+
+  /**
+   * The errors reported by YouTrack, by {@link IssueDraft#number() issue number}.
+   * 
+   * <p>An issue that was imported may still appear here if its work items were rejected. If the
+   * batch's request failed, all of its issues appear here with the error encountered.</p>
+   * 
+   * @return the errors reported, by issue number
+   * @since 1.0.0
+   */
+  public Map<Integer, String> failed() {
+    return this.failed;
+  }
+
+  /**
+   * The time taken to import the batch, work items included.
+   * 
+   * <p>Useful to tune the batch size: larger batches mean fewer round trips, but longer requests
+   * that are more likely to time out.</p>
+   * 
+   * @return the time taken to import the batch
+   * @since 1.0.0
+   */
+  public Duration duration() {
+    return this.duration;
+  }
+}
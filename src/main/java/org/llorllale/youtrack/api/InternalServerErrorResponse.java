@@ -20,12 +20,13 @@ import java.io.IOException;
 
 import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
+import org.apache.http.StatusLine;
 
 import org.llorllale.youtrack.api.session.UnauthorizedException;
 
 /**
- * A {@link Response} that throws an {@link IOException} if the server responds with code
- * 500.
+ * A {@link Response} that throws a {@link ServerErrorException} if the server responds with a
+ * {@code 5xx} code.
  * 
  * @author George Aristy (george.aristy@gmail.com)
  * @since 0.4.0
@@ -45,9 +46,11 @@ final class InternalServerErrorResponse implements Response {
 
   @Override
   public HttpResponse httpResponse() throws IOException, UnauthorizedException {
-    if (this.base.httpResponse().getStatusLine().getStatusCode() 
-        == HttpStatus.SC_INTERNAL_SERVER_ERROR) {
-      throw new IOException("500 Internal Server error");
+    final StatusLine status = this.base.httpResponse().getStatusLine();
+    if (status.getStatusCode() >= HttpStatus.SC_INTERNAL_SERVER_ERROR) {
+      throw new ServerErrorException(
+        String.format("%d %s", status.getStatusCode(), status.getReasonPhrase())
+      );
     }
 
     return this.base.httpResponse();
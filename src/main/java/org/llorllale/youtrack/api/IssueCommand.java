@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.entity.UrlEncodedFormEntity;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.message.BasicNameValuePair;
+import org.llorllale.youtrack.api.session.Login;
+import org.llorllale.youtrack.api.session.UnauthorizedException;
+
+/**
+ * A YouTrack command setting {@link Field fields} to {@link FieldValue values}, executed on
+ * issues through {@code POST /issue/{id}/execute}.
+ * 
+ * <p>The command's text is built once, so the same instance can be executed on many issues,
+ * concurrently.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class IssueCommand {
+  private static final String SEPARATOR = " ";
+  private final Login login;
+  private final HttpClient httpClient;
+  private final String command;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param login the user's {@link Login}
+   * @param httpClient the {@link HttpClient} to use
+   * @param fields the fields to set, and their values
+   * @since 1.0.0
+   */
+  IssueCommand(Login login, HttpClient httpClient, Map<Field, FieldValue> fields) {
+    this.login = login;
+    this.httpClient = httpClient;
+    this.command = fields.entrySet().stream()
+      .map(e -> String.join(SEPARATOR, e.getKey().name(), e.getValue().asString()))
+      .collect(Collectors.joining(SEPARATOR));
+  }
+
+  /**
+   * Executes this command on the issue.
+   * 
+   * @param issueId the issue's id
+   * @throws IOException if the server is unavailable, or there's no such issue
+   * @throws UnauthorizedException if the user's {@link Login} is unauthorized to perform this
+   *     operation
+   * @since 1.0.0
+   */
+  void execute(String issueId) throws IOException, UnauthorizedException {
+    final int status = new ConsumedResponse(
+      new HttpResponseAsResponse(
+        this.httpClient.execute(
+          new HttpRequestWithSession(
+            this.login.session(),
+            new HttpRequestWithEntity(
+              new UrlEncodedFormEntity(
+                Arrays.asList(new BasicNameValuePair("command", this.command)),
+                StandardCharsets.UTF_8
+              ),
+              new HttpPost(
+                this.login.session().baseUrl().toString()
+                  .concat("/issue/")
+                  .concat(issueId)
+                  .concat("/execute")
+              )
+            )
+          )
+        )
+      )
+    ).httpResponse().getStatusLine().getStatusCode();
+    if (status == HttpStatus.SC_NOT_FOUND) {
+      throw new IOException(String.format("Issue %s not found", issueId));
+    }
+  }
+}
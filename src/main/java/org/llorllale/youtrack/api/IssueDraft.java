@@ -0,0 +1,267 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * The definition of an issue to be {@link Issues#bulkImport(java.util.stream.Stream, int) 
+ * imported} into YouTrack, along with its comments and work items.
+ * 
+ * <p>Drafts are immutable: the description, fields, comments and work items are set on copies.
+ * </p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+public final class IssueDraft {
+  private final int number;
+  private final String summary;
+  private final String reporter;
+  private final Instant created;
+  private final Optional<String> description;
+  private final Map<String, String> fields;
+  private final List<DraftComment> comments;
+  private final List<DraftWorkItem> workItems;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param number the issue's number in its project
+   * @param summary the issue's summary
+   * @param reporter the login of the issue's reporter
+   * @param created when the issue was created
+   * @param description the issue's description
+   * @param fields the issue's custom fields, by name
+   * @param comments the issue's comments
+   * @param workItems the issue's work items
+   * @since 1.0.0
+   */
+  @SuppressWarnings("checkstyle:ParameterNumber")
+  private IssueDraft(
+      int number,
+      String summary,
+      String reporter,
+      Instant created,
+      Optional<String> description,
+      Map<String, String> fields,
+      List<DraftComment> comments,
+      List<DraftWorkItem> workItems
+  ) {
+    this.number = number;
+    this.summary = summary;
+    this.reporter = reporter;
+    this.created = created;
+    this.description = description;
+    this.fields = fields;
+    this.comments = comments;
+    this.workItems = workItems;
+  }
+
+  /**
+   * Ctor.
+   * 
+   * <p>YouTrack's import keeps issue numbers, so the imported issue's id will be
+   * {@code <project id>-<number>}.</p>
+   * 
+   * @param number the issue's number in its project
+   * @param summary the issue's summary
+   * @param reporter the login of the issue's reporter
+   * @param created when the issue was created
+   * @since 1.0.0
+   */
+  public IssueDraft(int number, String summary, String reporter, Instant created) {
+    this(
+      number,
+      summary,
+      reporter,
+      created,
+      Optional.empty(),
+      Collections.emptyMap(),
+      Collections.emptyList(),
+      Collections.emptyList()
+    );
+  }
+
+  /**
+   * A copy of this draft with the given description.
+   * 
+   * @param text the issue's description
+   * @return a copy of this draft with the given description
+   * @since 1.0.0
+   */
+  public IssueDraft description(String text) {
+    return new IssueDraft(
+      this.number, this.summary, this.reporter, this.created,
+      Optional.of(text), this.fields, this.comments, this.workItems
+    );
+  }
+
+  /**
+   * A copy of this draft with the custom field {@code name} set to {@code value}.
+   * 
+   * @param name the field's name, eg. {@code "Priority"}
+   * @param value the field's value, eg. {@code "Critical"}
+   * @return a copy of this draft with the given field
+   * @since 1.0.0
+   */
+  public IssueDraft field(String name, String value) {
+    final Map<String, String> copy = new LinkedHashMap<>(this.fields);
+    copy.put(name, value);
+    return new IssueDraft(
+      this.number, this.summary, this.reporter, this.created,
+      this.description, copy, this.comments, this.workItems
+    );
+  }
+
+  /**
+   * A copy of this draft with the given comment added.
+   * 
+   * @param author the login of the comment's author
+   * @param text the comment's text
+   * @param time when the comment was created
+   * @return a copy of this draft with the given comment added
+   * @since 1.0.0
+   */
+  public IssueDraft comment(String author, String text, Instant time) {
+    final List<DraftComment> copy = new ArrayList<>(this.comments);
+    copy.add(new DraftComment(author, text, time));
+    return new IssueDraft(
+      this.number, this.summary, this.reporter, this.created,
+      this.description, this.fields, copy, this.workItems
+    );
+  }
+
+  /**
+   * A copy of this draft with the given work item added.
+   * 
+   * @param author the login of the work item's author
+   * @param date the date the work was done
+   * @param duration the time spent
+   * @param text the work item's description
+   * @return a copy of this draft with the given work item added
+   * @since 1.0.0
+   */
+  public IssueDraft workItem(String author, LocalDate date, Duration duration, String text) {
+    final List<DraftWorkItem> copy = new ArrayList<>(this.workItems);
+    copy.add(new DraftWorkItem(author, date, duration, text));
+    return new IssueDraft(
+      this.number, this.summary, this.reporter, this.created,
+      this.description, this.fields, this.comments, copy
+    );
+  }
+
+  /**
+   * The issue's number in its project.
+   * 
+   * @return the issue's number in its project
+   * @since 1.0.0
+   */
+  public int number() {
+    return this.number;
+  }
+
+  /**
+   * Writes this draft as an {@code issue} element, with its comments.
+   * 
+   * @param xml the writer
+   * @throws XMLStreamException if there's an error writing
+   * @since 1.0.0
+   */
+  void write(XMLStreamWriter xml) throws XMLStreamException {
+    xml.writeStartElement("issue");
+    writeField(xml, "numberInProject", String.valueOf(this.number));
+    writeField(xml, "summary", this.summary);
+    if (this.description.isPresent()) {
+      writeField(xml, "description", this.description.get());
+    }
+    writeField(xml, "created", String.valueOf(this.created.toEpochMilli()));
+    writeField(xml, "reporterName", this.reporter);
+    this.writeCustom(xml);
+    xml.writeEndElement();
+  }
+
+  /**
+   * Whether this draft has work items, which are imported separately from the issue.
+   * 
+   * @return whether this draft has work items
+   * @since 1.0.0
+   */
+  boolean hasWorkItems() {
+    return !this.workItems.isEmpty();
+  }
+
+  /**
+   * Writes this draft's work items as a {@code workItems} element.
+   * 
+   * @param xml the writer
+   * @throws XMLStreamException if there's an error writing
+   * @since 1.0.0
+   */
+  void writeWorkItems(XMLStreamWriter xml) throws XMLStreamException {
+    xml.writeStartElement("workItems");
+    for (DraftWorkItem item : this.workItems) {
+      item.write(xml);
+    }
+    xml.writeEndElement();
+  }
+
+  /**
+   * Writes this draft's custom fields and comments.
+   * 
+   * @param xml the writer
+   * @throws XMLStreamException if there's an error writing
+   * @since 1.0.0
+   */
+  private void writeCustom(XMLStreamWriter xml) throws XMLStreamException {
+    for (Map.Entry<String, String> custom : this.fields.entrySet()) {
+      writeField(xml, custom.getKey(), custom.getValue());
+    }
+    for (DraftComment comment : this.comments) {
+      comment.write(xml);
+    }
+  }
+
+  /**
+   * Writes a {@code field} element.
+   * 
+   * @param xml the writer
+   * @param name the field's name
+   * @param value the field's value
+   * @throws XMLStreamException if there's an error writing
+   * @since 1.0.0
+   */
+  private static void writeField(XMLStreamWriter xml, String name, String value) 
+      throws XMLStreamException {
+    xml.writeStartElement("field");
+    xml.writeAttribute("name", name);
+    xml.writeStartElement("value");
+    xml.writeCharacters(value);
+    xml.writeEndElement();
+    xml.writeEndElement();
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * YouTrack search queries that, together, match the issues with the given ids.
+ * 
+ * <p>The ids are split across as many {@code "issue id: A-1, A-2, ..."} queries as necessary to
+ * keep each query within the given length, so that the page requests that carry them stay
+ * within the limits that servers and proxies impose on URLs. An id longer than that length
+ * gets a query of its own.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class IssueIdQueries extends AbstractCollection<String> {
+  private static final String PREFIX = "issue id: ";
+  private static final String SEPARATOR = ", ";
+  private static final int MAX_LENGTH = 1024;
+  private final Collection<String> base;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param ids the issues' ids
+   * @param length the maximum length of each query
+   * @since 1.0.0
+   */
+  IssueIdQueries(Collection<String> ids, int length) {
+    this.base = chunks(ids, length).stream()
+      .map(chunk -> PREFIX.concat(String.join(SEPARATOR, chunk)))
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Queries of up to 1024 characters.
+   * 
+   * @param ids the issues' ids
+   * @since 1.0.0
+   */
+  IssueIdQueries(Collection<String> ids) {
+    this(ids, MAX_LENGTH);
+  }
+
+  @Override
+  public Iterator<String> iterator() {
+    return this.base.iterator();
+  }
+
+  @Override
+  public int size() {
+    return this.base.size();
+  }
+
+  /**
+   * Splits {@code ids} into chunks that fit in queries of up to {@code length} characters.
+   * 
+   * @param ids the issues' ids
+   * @param length the maximum length of each query
+   * @return the chunks of ids
+   * @since 1.0.0
+   */
+  private static List<List<String>> chunks(Collection<String> ids, int length) {
+    final List<List<String>> chunks = new ArrayList<>();
+    int used = length;
+    for (String id : ids) {
+      final int size = SEPARATOR.length() + id.length();
+      if (used + size > length) {
+        chunks.add(new ArrayList<>());
+        used = PREFIX.length() - SEPARATOR.length();
+      }
+      chunks.get(chunks.size() - 1).add(id);
+      used += size;
+    }
+    return chunks;
+  }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.EntityTemplate;
+import org.llorllale.youtrack.api.session.Login;
+import org.llorllale.youtrack.api.session.UnauthorizedException;
+
+/**
+ * Imports batches of {@link IssueDraft drafts} into a project through YouTrack's
+ * {@code PUT /import/{project}/issues} endpoint.
+ * 
+ * <p>The issues and their comments are sent with one request per batch. YouTrack's issue import
+ * doesn't take work items, so the work items of each imported issue are sent afterwards through
+ * {@code PUT /import/issue/{issue}/workitems}.</p>
+ * 
+ * <p>Errors are reported in the outcome of the batch they occur in, and never interrupt the
+ * import: a batch whose request fails reports all of its issues as failed, with the error
+ * encountered, and the next batch is sent regardless. So does a batch whose import report
+ * can't be read.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class IssueImport {
+  private final Project project;
+  private final Login login;
+  private final HttpClient httpClient;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param project the project to import into
+   * @param login the user's {@link Login}
+   * @param httpClient the {@link HttpClient} to use
+   * @since 1.0.0
+   */
+  IssueImport(Project project, Login login, HttpClient httpClient) {
+    this.project = project;
+    this.login = login;
+    this.httpClient = httpClient;
+  }
+
+  /**
+   * Imports the {@code drafts}, in batches of {@code size}.
+   * 
+   * @param drafts the drafts to import
+   * @param size the batches' size
+   * @return the outcome of each batch, in order
+   * @since 1.0.0
+   */
+  List<ImportBatch> send(Stream<IssueDraft> drafts, int size) {
+    final List<ImportBatch> batches = new ArrayList<>();
+    final Iterator<IssueDraft> remaining = drafts.iterator();
+    while (remaining.hasNext()) {
+      batches.add(this.send(batch(remaining, size)));
+    }
+    return batches;
+  }
+
+  /**
+   * Imports one batch of {@code drafts}.
+   * 
+   * @param drafts the batch of drafts to import
+   * @return the batch's outcome
+   * @since 1.0.0
+   */
+  ImportBatch send(List<IssueDraft> drafts) {
+    final long start = System.nanoTime();
+    final List<Integer> imported = new ArrayList<>();
+    final Map<Integer, String> failed = new LinkedHashMap<>();
+    this.issues(drafts, imported, failed);
+    for (IssueDraft draft : drafts) {
+      if (draft.hasWorkItems() && imported.contains(draft.number())) {
+        this.workItems(draft, failed);
+      }
+    }
+    return new ImportBatch(imported, failed, Duration.ofNanos(System.nanoTime() - start));
+  }
+
+  /**
+   * Pulls the next batch of drafts.
+   * 
+   * @param drafts the remaining drafts
+   * @param size the batch's maximum size
+   * @return up to {@code size} drafts
+   * @since 1.0.0
+   */
+  private static List<IssueDraft> batch(Iterator<IssueDraft> drafts, int size) {
+    final List<IssueDraft> batch = new ArrayList<>(size);
+    while (drafts.hasNext() && batch.size() < size) {
+      batch.add(drafts.next());
+    }
+    return batch;
+  }
+
+  /**
+   * The payload importing the {@code drafts}' issues and comments.
+   * 
+   * @param drafts the drafts
+   * @return the {@code issues} payload
+   * @since 1.0.0
+   */
+  private static StreamedXml payload(List<IssueDraft> drafts) {
+    return new StreamedXml(
+      xml -> {
+        xml.writeStartElement("issues");
+        for (IssueDraft draft : drafts) {
+          draft.write(xml);
+        }
+        xml.writeEndElement();
+      }
+    );
+  }
+
+  /**
+   * Reads YouTrack's import report.
+   * 
+   * @param report the report's items, one per issue sent
+   * @param imported where to add the numbers of the issues imported
+   * @param failed where to add the errors reported, by issue number
+   * @throws IOException if an item doesn't carry a valid issue number
+   * @since 1.0.0
+   */
+  private static void read(
+      Collection<Xml> report, List<Integer> imported, Map<Integer, String> failed
+  ) throws IOException {
+    for (Xml item : report) {
+      final int number = number(item);
+      if (Boolean.parseBoolean(item.textOf("@imported").orElse("false"))) {
+        imported.add(number);
+      } else {
+        failed.put(number, item.node().getTextContent().trim());
+      }
+    }
+  }
+
+  /**
+   * The number of the issue reported on by the import report's {@code item}.
+   * 
+   * @param item the report's item
+   * @return the issue's number
+   * @throws IOException if the item doesn't carry a valid issue number
+   * @since 1.0.0
+   */
+  private static int number(Xml item) throws IOException {
+    try {
+      return Integer.parseInt(item.textOf("@id").get());
+    } catch (NoSuchElementException | NumberFormatException e) {
+      throw new IOException(
+        String.format("Unexpected item in import report: %s", e.getMessage()), e
+      );
+    }
+  }
+
+  /**
+   * Imports the {@code drafts}' issues and comments.
+   * 
+   * @param drafts the drafts
+   * @param imported where to add the numbers of the issues imported
+   * @param failed where to add the errors reported, by issue number, or the error encountered
+   *     for each issue if the request fails or its report can't be read
+   * @since 1.0.0
+   */
+  private void issues(
+      List<IssueDraft> drafts, List<Integer> imported, Map<Integer, String> failed
+  ) {
+    try {
+      read(
+        new XmlsOf(
+          "//item",
+          this.put("/import/".concat(this.project.id()).concat("/issues"), payload(drafts))
+        ),
+        imported,
+        failed
+      );
+    } catch (IOException | UncheckedException e) {
+      drafts.stream()
+        .filter(d -> !imported.contains(d.number()))
+        .forEach(d -> failed.put(d.number(), e.getMessage()));
+    }
+  }
+
+  /**
+   * Imports the work items of the {@code draft}'s issue, which must have been imported.
+   * 
+   * @param draft the draft
+   * @param failed where to report errors, by issue number
+   * @since 1.0.0
+   */
+  private void workItems(IssueDraft draft, Map<Integer, String> failed) {
+    try {
+      new ConsumedResponse(
+        this.put(
+          String.format("/import/issue/%s-%d/workitems", this.project.id(), draft.number()),
+          new StreamedXml(draft::writeWorkItems)
+        )
+      ).httpResponse();
+    } catch (IOException e) {
+      failed.put(draft.number(), e.getMessage());
+    }
+  }
+
+  /**
+   * Sends the XML {@code payload} to the {@code path} with a PUT request.
+   * 
+   * @param path the path, relative to the base url
+   * @param payload the XML payload
+   * @return the server's response
+   * @throws IOException if the server is unavailable
+   * @throws UnauthorizedException if the user's {@link Login} is unauthorized to perform this
+   *     operation
+   * @since 1.0.0
+   */
+  private Response put(String path, StreamedXml payload) 
+      throws IOException, UnauthorizedException {
+    final EntityTemplate entity = new EntityTemplate(payload);
+    entity.setContentType(ContentType.APPLICATION_XML.toString());
+    return new HttpResponseAsResponse(
+      this.httpClient.execute(
+        new HttpRequestWithSession(
+          this.login.session(),
+          new HttpRequestWithEntity(
+            entity,
+            new HttpPut(this.login.session().baseUrl().toString().concat(path))
+          )
+        )
+      )
+    );
+  }
+}
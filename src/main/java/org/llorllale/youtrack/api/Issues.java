@@ -17,12 +17,18 @@
 package org.llorllale.youtrack.api;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Stream;
 
 import org.llorllale.youtrack.api.session.Login;
 import org.llorllale.youtrack.api.session.UnauthorizedException;
+import org.reactivestreams.Publisher;
 
 /**
  * Issues API.
@@ -30,6 +36,7 @@ import org.llorllale.youtrack.api.session.UnauthorizedException;
  * @author George Aristy (george.aristy@gmail.com)
  * @since 0.4.0
  */
+@SuppressWarnings("checkstyle:MethodCount")
 public interface Issues {
   /**
    * This {@link Issues}' {@link Project}.
@@ -50,6 +57,145 @@ public interface Issues {
    */
   Stream<Issue> stream() throws IOException, UnauthorizedException;
 
+  /**
+   * A {@link Stream} with the {@link Issue issues} of this {@link Project} that match the given
+   * YouTrack search query, eg. {@code "#Unresolved Type: Bug"}.
+   * 
+   * <p>The query is evaluated by the server, so only the matching issues are transferred. The
+   * stream is paginated just like {@link #stream()}.</p>
+   * 
+   * @param query the YouTrack search query
+   * @return a {@link Stream} with the issues of this {@link #project() project} that match
+   *     {@code query}
+   * @throws IOException if the server is unavailable
+   * @throws UnauthorizedException if the user's {@link Login} is not authorized to access this
+   *     resource
+   * @since 1.0.0
+   */
+  Stream<Issue> stream(String query) throws IOException, UnauthorizedException;
+
+  /**
+   * A {@link Publisher} of the {@link Issue issues} of this {@link Project}.
+   * 
+   * <p>Each subscriber gets its own {@link #stream() stream}, whose pages are fetched only as
+   * the subscriber requests issues.</p>
+   * 
+   * @return a {@link Publisher} of the issues of this {@link #project() project}
+   * @see IssuesPublisher
+   * @since 1.0.0
+   */
+  Publisher<Issue> publisher();
+
+  /**
+   * A {@link Publisher} of the {@link Issue issues} of this {@link Project} that match the
+   * given YouTrack search query.
+   * 
+   * <p>Each subscriber gets its own {@link #stream(String) stream}, whose pages are fetched only
+   * as the subscriber requests issues.</p>
+   * 
+   * @param query the YouTrack search query
+   * @return a {@link Publisher} of the issues of this {@link #project() project} that match
+   *     {@code query}
+   * @see IssuesPublisher
+   * @since 1.0.0
+   */
+  Publisher<Issue> publisher(String query);
+
+  /**
+   * The {@link Issue issues} of this {@link Project} updated after {@code since}.
+   * 
+   * <p>Only the issues updated after {@code since} are transferred by the server, so the cost of
+   * keeping a mirror up to date is proportional to the rate of change rather than to the size of
+   * the project. The {@link Updates#stream() stream} is paginated just like {@link #stream()}.
+   * </p>
+   * 
+   * @param since the point in time after which issues must have been updated
+   * @return the issues of this {@link #project() project} updated after {@code since}, along
+   *     with a high-watermark to resume from
+   * @see Updates#watermark()
+   * @since 1.0.0
+   */
+  Updates updatedSince(Instant since);
+
+  /**
+   * A view of these {@link Issues} that materializes each {@link Issue} it returns into an
+   * immutable snapshot.
+   * 
+   * <p>Each issue's payload is read once, and its XML can be garbage-collected right after.
+   * Accessors, {@code hashCode()} and {@code equals()} of the snapshots are cheap, which makes
+   * them suitable for hash-based collections, sorting, and large crawls. Snapshots reflect the
+   * issue's state at the time it was fetched; use {@link Issue#refresh()} to get a fresh one.</p>
+   * 
+   * @return a view of these {@link Issues} that returns immutable snapshots
+   * @since 1.0.0
+   */
+  Issues snapshots();
+
+  /**
+   * A view of these {@link Issues} whose {@link #stream() stream} fetches up to {@code pages}
+   * pages of results ahead of the one being consumed.
+   * 
+   * <p>Pages are fetched in the background on a bounded, process-wide pool of threads, so that
+   * consuming a stream is bound by the slowest of the network and the consumer instead of by the
+   * sum of both. A value of {@code 0} disables prefetching.</p>
+   * 
+   * @param pages the maximum number of pages to fetch ahead of the one being consumed
+   * @return a view of these {@link Issues} that prefetches pages
+   * @throws IllegalArgumentException if {@code pages} is negative
+   * @since 1.0.0
+   */
+  Issues prefetch(int pages);
+
+  /**
+   * A view of these {@link Issues} whose {@link #stream() stream} requests {@code size} issues
+   * per page of results.
+   * 
+   * <p>Larger pages mean fewer round trips to the server. The default is 10.</p>
+   * 
+   * @param size the number of issues per page
+   * @return a view of these {@link Issues} with the given page size
+   * @throws IllegalArgumentException if {@code size} is not positive
+   * @since 1.0.0
+   */
+  Issues pageSize(int size);
+
+  /**
+   * A view of these {@link Issues} whose {@link #stream() stream} adapts its page size to the
+   * server's responses.
+   * 
+   * <p>Streams start with pages of size {@code min}. The page size is doubled, up to {@code max},
+   * while pages take less than half of {@code latency} to be received and read and are less than
+   * half of {@code bytes} long. It is halved, down to {@code min}, whenever a page exceeds either
+   * target.</p>
+   * 
+   * <p>Each stream adapts its page size on its own, starting over at {@code min}.</p>
+   * 
+   * @param min the minimum page size
+   * @param max the maximum page size
+   * @param latency the target time to receive and read a page
+   * @param bytes the target length of a page's payload
+   * @return a view of these {@link Issues} with an adaptive page size
+   * @throws IllegalArgumentException if {@code min} is not positive or is greater than 
+   *     {@code max}, or if {@code latency} or {@code bytes} is not positive
+   * @since 1.0.0
+   */
+  Issues adaptivePageSize(int min, int max, Duration latency, long bytes);
+
+  /**
+   * A view of these {@link Issues} whose {@link #stream() streams} add each page request they
+   * execute to {@code requests}. Prefetched pages that are cancelled before being sent are not
+   * counted.
+   * 
+   * <p>Streams stop requesting pages as soon as one arrives with fewer issues than the page
+   * size, so a stream of {@code n} issues in pages of {@code size} issues costs
+   * {@code n / size + 1} requests, or more while prefetching.</p>
+   * 
+   * @param requests the counter of page requests
+   * @return a view of these {@link Issues} that counts page requests
+   * @since 1.0.0
+   */
+  Issues counting(LongAdder requests);
+
   /**
    * The {@link Issue} with the given {@code id}, if it exists.
    * 
@@ -62,6 +208,27 @@ public interface Issues {
    */
   Optional<Issue> get(String id) throws IOException, UnauthorizedException;
 
+  /**
+   * The {@link Issue issues} with the given {@code ids}.
+   * 
+   * <p>The issues are fetched with as few paginated search queries as the length of the ids
+   * allows, instead of one request per issue, so this is also the cheap way to
+   * {@link Issue#refresh() refresh} many issues at once. Up to 4 of the queries are run
+   * concurrently.</p>
+   * 
+   * <p>The returned map has one entry per id, in the order given. The ids of issues that do not
+   * exist in this {@link #project() project} are mapped to {@link Optional#empty()}.</p>
+   * 
+   * @param ids the {@link Issue#id() issues' ids}
+   * @return the issues, by id
+   * @throws IOException if the server is unavailable
+   * @throws UnauthorizedException if the user's {@link Login} is unauthorized to perform this
+   *     operation
+   * @since 1.0.0
+   */
+  Map<String, Optional<Issue>> get(Collection<String> ids) 
+      throws IOException, UnauthorizedException;
+
   /**
    * Creates an {@link Issue issue} with the given {@code summary} and {@code description}.
    * 
@@ -79,6 +246,10 @@ public interface Issues {
    * Creates an {@link Issue issue} with the given {@code summary}, {@code description}, and 
    * {@code fields}.
    * 
+   * <p>The issue is created with one request, plus one to set its {@code fields} if there are
+   * any. The returned issue's {@link Issue#id() id} is known right away, but its data is only
+   * fetched from the server when first read.</p>
+   * 
    * @param summary the issue's summary
    * @param description the issue's description
    * @param fields the issue's fields
@@ -90,4 +261,47 @@ public interface Issues {
    */
   Issue create(String summary, String description, Map<Field, FieldValue> fields) 
       throws IOException, UnauthorizedException;
+
+  /**
+   * Sets the {@code fields} to the given values on all the {@code issues}, with one YouTrack
+   * command per issue.
+   * 
+   * <p>The commands are executed concurrently, a bounded number at a time, and a failure on one
+   * issue doesn't stop the others: the outcome of each issue is reported in the returned map,
+   * in the order given, as either empty on success or the error encountered. The issues are not
+   * refreshed; {@link #get(Collection) fetch them} afterwards if needed.</p>
+   * 
+   * @param fields the fields to set, and their values
+   * @param issues the issues to update
+   * @return the outcome for each issue: empty on success, else the error encountered
+   * @throws IOException if the user's {@link Login} fails
+   * @throws UnauthorizedException if the user's {@link Login} is unauthorized
+   * @since 1.0.0
+   */
+  Map<Issue, Optional<IOException>> apply(Map<Field, FieldValue> fields, Collection<Issue> issues)
+      throws IOException, UnauthorizedException;
+
+  /**
+   * Imports the {@code drafts} into this {@link #project() project}, in batches of
+   * {@code batchSize} issues, through YouTrack's import endpoint.
+   * 
+   * <p>Each batch of issues and their comments is sent with a single request whose XML payload
+   * is written as it is sent, and the {@code drafts} are pulled from the stream one batch at a
+   * time, so that arbitrarily large migrations can be imported in constant memory. The work
+   * items of the issues imported are sent afterwards, with one request per issue that has any.
+   * </p>
+   * 
+   * <p>Batches are sent one after the other, and the outcome of each is reported in the returned
+   * list, in order. A batch whose request fails doesn't interrupt the import: its issues are all
+   * reported {@link ImportBatch#failed() failed} with the error encountered, and the next batch
+   * is sent. Issues keep their {@link IssueDraft#number() number}, so the failed ones can be sent
+   * again; those that YouTrack imported despite the error are then rejected as existing.</p>
+   * 
+   * @param drafts the issues to import
+   * @param batchSize the number of issues per request, from 1 to 100; an
+   *     {@link IllegalArgumentException} is thrown if it is out of range
+   * @return the outcome of each batch
+   * @since 1.0.0
+   */
+  List<ImportBatch> bulkImport(Stream<IssueDraft> drafts, int batchSize);
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+
+/**
+ * A {@link Publisher} of {@link Issue issues} that fetches pages according to the demand
+ * of its subscribers.
+ * 
+ * <p>Each subscriber gets its own {@link Issues#stream() stream}. Issues are sent on a
+ * background thread, and pages are fetched only as the subscriber requests issues, so slow
+ * subscribers throttle the fetching instead of having pages buffered for them. Use the views of
+ * {@link Issues} to control the pages (eg. {@link Issues#pageSize(int)}).</p>
+ * 
+ * <p>Example:</p>
+ * <pre>
+ * {@code project.issues().pageSize(100).publisher().subscribe(subscriber);}
+ * </pre>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see Issues#publisher()
+ * @since 1.0.0
+ */
+public final class IssuesPublisher implements Publisher<Issue> {
+  private final Callable<Stream<Issue>> source;
+  private final Executor executor;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param source opens a stream of issues for each subscriber
+   * @param executor the executor on which issues are fetched and sent
+   * @since 1.0.0
+   */
+  IssuesPublisher(Callable<Stream<Issue>> source, Executor executor) {
+    this.source = source;
+    this.executor = executor;
+  }
+
+  /**
+   * Publishes all {@code issues}.
+   * 
+   * @param issues the issues
+   * @see Issues#stream()
+   * @since 1.0.0
+   */
+  public IssuesPublisher(Issues issues) {
+    this(issues::stream, new FanOut());
+  }
+
+  /**
+   * Publishes the {@code issues} that match the given search query.
+   * 
+   * @param issues the issues
+   * @param query the YouTrack search query
+   * @see Issues#stream(String)
+   * @since 1.0.0
+   */
+  public IssuesPublisher(Issues issues, String query) {
+    this(() -> issues.stream(query), new FanOut());
+  }
+
+  @Override
+  public void subscribe(Subscriber<? super Issue> subscriber) {
+    subscriber.onSubscribe(new StreamSubscription<>(this.source, subscriber, this.executor));
+  }
+}
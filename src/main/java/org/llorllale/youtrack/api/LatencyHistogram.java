@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.LongStream;
+
+/**
+ * A lock-free histogram of latencies.
+ * 
+ * <p>Latencies are counted in buckets whose upper bounds are powers of two microseconds, so
+ * quantiles are estimated within a factor of two with a fixed, small footprint. Recording never
+ * blocks, even under contention, and reading never blocks recording.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class LatencyHistogram {
+  private static final int BUCKETS = 40;
+  private final LongAdder[] buckets;
+  private final LongAdder count;
+  private final LongAdder total;
+  private final LongAccumulator max;
+
+  /**
+   * Ctor.
+   * 
+   * @since 1.0.0
+   */
+  LatencyHistogram() {
+    this.buckets = new LongAdder[BUCKETS];
+    for (int i = 0; i < BUCKETS; i++) {
+      this.buckets[i] = new LongAdder();
+    }
+    this.count = new LongAdder();
+    this.total = new LongAdder();
+    this.max = new LongAccumulator(Math::max, 0);
+  }
+
+  /**
+   * Records {@code latency}.
+   * 
+   * @param latency the latency
+   * @since 1.0.0
+   */
+  public void record(Duration latency) {
+    final long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(latency.toNanos()));
+    this.buckets[Math.min(BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(micros))]
+      .increment();
+    this.count.increment();
+    this.total.add(micros);
+    this.max.accumulate(micros);
+  }
+
+  /**
+   * The number of latencies recorded.
+   * 
+   * @return the number of latencies recorded
+   * @since 1.0.0
+   */
+  public long count() {
+    return this.count.sum();
+  }
+
+  /**
+   * The mean of the latencies recorded.
+   * 
+   * @return the mean of the latencies recorded, or zero if none were
+   * @since 1.0.0
+   */
+  public Duration mean() {
+    return micros(this.total.sum() / Math.max(1, this.count.sum()));
+  }
+
+  /**
+   * The highest latency recorded.
+   * 
+   * @return the highest latency recorded, or zero if none were
+   * @since 1.0.0
+   */
+  public Duration max() {
+    return micros(this.max.get());
+  }
+
+  /**
+   * Estimates the latency below which the given fraction of the recorded latencies fall.
+   * 
+   * @param quantile the fraction, between 0 and 1
+   * @return the upper bound of the bucket in which the quantile falls, capped at the highest
+   *     latency recorded; zero if none were
+   * @since 1.0.0
+   */
+  public Duration quantile(double quantile) {
+    final long[] counts = Arrays.stream(this.buckets).mapToLong(LongAdder::sum).toArray();
+    final long rank = (long) Math.ceil(quantile * LongStream.of(counts).sum());
+    int bucket = 0;
+    for (long seen = counts[0]; seen < rank && bucket < BUCKETS - 1; seen += counts[bucket]) {
+      bucket++;
+    }
+    return micros(Math.min(1L << bucket, this.max.get()));
+  }
+
+  /**
+   * The duration of {@code amount} microseconds.
+   * 
+   * @param amount the number of microseconds
+   * @return the duration
+   * @since 1.0.0
+   */
+  private static Duration micros(long amount) {
+    return Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(amount));
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+import org.apache.http.client.HttpClient;
+import org.llorllale.youtrack.api.session.Login;
+
+/**
+ * An {@link Issue} known by its id, whose data is fetched on first read.
+ * 
+ * <p>The issue's {@link #id() id} and {@link #project() project} are free, and so are its
+ * {@link #comments() comments}, {@link #timetracking() timetracking} and
+ * {@link #update() update} facades. Its data is fetched from the project's
+ * {@link Project#issues() issues} the first time any other accessor is called, and memoized.
+ * Errors fetching the issue are rethrown as {@link UncheckedIOException}, and the fetch is
+ * retried on the next read.</p>
+ * 
+ * <p>{@link #refresh() Refreshing} this issue is free too: it returns a new lazy issue that will
+ * fetch the issue's data when read.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+@SuppressWarnings("checkstyle:MethodCount")
+final class LazyIssue implements Issue {
+  private final Project project;
+  private final String id;
+  private final Login login;
+  private final HttpClient httpClient;
+  private volatile Issue issue;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param project the issue's {@link Project}
+   * @param id the issue's id
+   * @param login the user's {@link Login}
+   * @param httpClient the {@link HttpClient} shared with this issue's resources
+   * @since 1.0.0
+   */
+  LazyIssue(Project project, String id, Login login, HttpClient httpClient) {
+    this.project = project;
+    this.id = id;
+    this.login = login;
+    this.httpClient = httpClient;
+  }
+
+  @Override
+  public Project project() {
+    return this.project;
+  }
+
+  @Override
+  public String id() {
+    return this.id;
+  }
+
+  @Override
+  public Instant creationDate() {
+    return this.fetched().creationDate();
+  }
+
+  @Override
+  public String summary() {
+    return this.fetched().summary();
+  }
+
+  @Override
+  public Optional<String> description() {
+    return this.fetched().description();
+  }
+
+  @Override
+  public UsersOfIssue users() {
+    return this.fetched().users();
+  }
+
+  @Override
+  public Comments comments() {
+    return new DefaultComments(this.login, this, this.httpClient);
+  }
+
+  @Override
+  public IssueTimeTracking timetracking() {
+    return new DefaultIssueTimeTracking(this.login, this, this.httpClient);
+  }
+
+  @Override
+  public Issue refresh() {
+    return new LazyIssue(this.project, this.id, this.login, this.httpClient);
+  }
+
+  @Override
+  public UpdateIssue update() {
+    return new DefaultUpdateIssue(this, this.login, this.httpClient);
+  }
+
+  @Override
+  public Collection<AssignedField> fields() {
+    return this.fetched().fields();
+  }
+
+  @Override
+  public int hashCode() {
+    return this.id().hashCode();
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (!(object instanceof Issue)) {
+      return false;
+    }
+
+    final Issue other = (Issue) object;
+    return this.id().equals(other.id()) && this.project().equals(other.project());
+  }
+
+  /**
+   * The issue fetched from YouTrack, fetching it if not done already.
+   * 
+   * @return the fetched issue
+   * @throws UncheckedIOException if there's an error fetching the issue, or it doesn't exist
+   * @since 1.0.0
+   */
+  private Issue fetched() {
+    Issue fetched = this.issue;
+    if (fetched == null) {
+      synchronized (this) {
+        if (this.issue == null) {
+          this.issue = new UncheckedIoFunction<String, Issue>(
+            i -> this.project.issues().get(i).orElseThrow(
+              () -> new IOException(String.format("Issue %s not found", i))
+            )
+          ).apply(this.id);
+        }
+        fetched = this.issue;
+      }
+    }
+    return fetched;
+  }
+}
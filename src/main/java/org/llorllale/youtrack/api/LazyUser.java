@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+
+/**
+ * A {@link User} known by its login, whose details are fetched on first use.
+ * 
+ * <p>The {@link #loginName() login} is free. The user's {@link #name() name} and
+ * {@link #email() email} are fetched from {@code source} the first time either is requested, and
+ * the fetched user is memoized. Errors fetching the user are rethrown as
+ * {@link UncheckedIOException}, and the fetch is retried on the next request.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class LazyUser implements User {
+  private final String login;
+  private final Function<String, User> source;
+  private volatile User user;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param login the user's login
+   * @param source fetches the user with the given login
+   * @since 1.0.0
+   */
+  LazyUser(String login, ExceptionalFunction<String, User, IOException> source) {
+    this.login = login;
+    this.source = new UncheckedIoFunction<>(source);
+  }
+
+  @Override
+  public String name() {
+    return this.fetched().name();
+  }
+
+  @Override
+  public String email() {
+    return this.fetched().email();
+  }
+
+  @Override
+  public String loginName() {
+    return this.login;
+  }
+
+  /**
+   * The user fetched from the source, fetching it if not done already.
+   * 
+   * @return the fetched user
+   * @throws UncheckedIOException if there's an error fetching the user
+   * @since 1.0.0
+   */
+  private User fetched() {
+    User fetched = this.user;
+    if (fetched == null) {
+      synchronized (this) {
+        if (this.user == null) {
+          this.user = this.source.apply(this.login);
+        }
+        fetched = this.user;
+      }
+    }
+    return fetched;
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Function;
+import org.apache.http.HttpEntity;
+
+/**
+ * The elements found at a given path of a {@link Response response's} payload, each mapped as
+ * soon as it is pulled out of the payload.
+ * 
+ * <p>Elements are pulled out one at a time by {@link XmlFragments} and handed to the mapping
+ * function right away, so the {@link Xml} of an element can be garbage-collected as soon as it
+ * is mapped, unless the result keeps it. Only the mapped results are collected. The payload is
+ * read to its end and the stream is closed before the constructor returns, releasing the
+ * underlying connection.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @param <T> the type of the mapped elements
+ * @since 1.0.0
+ */
+final class MappedXmls<T> extends AbstractCollection<T> {
+  private final Collection<T> base;
+
+  /**
+   * Ctor.
+   * 
+   * @param path the path of the elements to map
+   * @param response the response whose payload holds the elements
+   * @param mapping maps each element
+   * @throws IOException if there's an error reading the response's entity's contents
+   * @throws UncheckedException if there's an error parsing the xml payload
+   * @see XmlFragments
+   * @since 1.0.0
+   */
+  MappedXmls(String path, Response response, Function<Xml, T> mapping) 
+      throws IOException, UncheckedException {
+    this.base = new ArrayList<>();
+    final HttpEntity entity = response.httpResponse().getEntity();
+    if (entity != null) {
+      try (InputStream input = entity.getContent()) {
+        new XmlFragments(path, input).forEachRemaining(xml -> this.base.add(mapping.apply(xml)));
+      }
+    }
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return this.base.iterator();
+  }
+
+  @Override
+  public int size() {
+    return this.base.size();
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongConsumer;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.HttpEntityWrapper;
+
+/**
+ * A response's {@link HttpEntity} that counts the bytes read from its payload.
+ * 
+ * <p>The number of bytes read is reported once, as soon as the payload is read to its end or
+ * its stream is closed. Closing the stream first reads the rest of the payload, just like the
+ * client does to release the connection, so the whole payload is counted even if it was not
+ * read. Payloads of unknown length (eg. chunked ones) are counted just the same. This entity is
+ * always {@link #isStreaming() streaming}, so that consuming it with
+ * {@link org.apache.http.util.EntityUtils#consume(HttpEntity)} reports it too.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see MeteredHttpClient
+ * @since 1.0.0
+ */
+final class MeteredEntity extends HttpEntityWrapper {
+  private static final int BUFFER = 8192;
+  private final LongConsumer listener;
+  private final AtomicBoolean reported;
+
+  /**
+   * Ctor.
+   * 
+   * @param origin the response's entity
+   * @param listener is told the number of bytes read from the payload
+   * @since 1.0.0
+   */
+  MeteredEntity(HttpEntity origin, LongConsumer listener) {
+    super(origin);
+    this.listener = listener;
+    this.reported = new AtomicBoolean();
+  }
+
+  @Override
+  public InputStream getContent() throws IOException {
+    return new Counting(super.getContent());
+  }
+
+  @Override
+  public boolean isStreaming() {
+    return true;
+  }
+
+  @Override
+  public void writeTo(OutputStream output) throws IOException {
+    try (InputStream input = this.getContent()) {
+      final byte[] buffer = new byte[BUFFER];
+      int read = input.read(buffer);
+      while (read >= 0) {
+        output.write(buffer, 0, read);
+        read = input.read(buffer);
+      }
+    }
+  }
+
+  /**
+   * Reports {@code bytes} to the listener, unless they were already reported.
+   * 
+   * @param bytes the number of bytes read from the payload
+   * @since 1.0.0
+   */
+  private void report(long bytes) {
+    if (this.reported.compareAndSet(false, true)) {
+      this.listener.accept(bytes);
+    }
+  }
+
+  /**
+   * Counts the bytes read from the payload.
+   * 
+   * @since 1.0.0
+   */
+  private final class Counting extends FilterInputStream {
+    private long count;
+
+    /**
+     * Ctor.
+     * 
+     * @param origin the payload's stream
+     * @since 1.0.0
+     */
+    Counting(InputStream origin) {
+      super(origin);
+    }
+
+    @Override
+    public int read() throws IOException {
+      final int read = super.read();
+      if (read < 0) {
+        MeteredEntity.this.report(this.count);
+      } else {
+        this.count++;
+      }
+      return read;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+      final int read = super.read(bytes, offset, length);
+      if (read < 0) {
+        MeteredEntity.this.report(this.count);
+      } else {
+        this.count += read;
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(long bytes) throws IOException {
+      final long skipped = super.skip(bytes);
+      this.count += skipped;
+      return skipped;
+    }
+
+    /**
+     * Reads the rest of the payload.
+     * 
+     * @throws IOException if the payload cannot be read
+     * @since 1.0.0
+     */
+    private void drain() throws IOException {
+      final byte[] rest = new byte[BUFFER];
+      while (this.read(rest) >= 0) {
+        continue;
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        if (!MeteredEntity.this.reported.get()) {
+          this.drain();
+        }
+        super.close();
+      } finally {
+        MeteredEntity.this.report(this.count);
+      }
+    }
+  }
+}
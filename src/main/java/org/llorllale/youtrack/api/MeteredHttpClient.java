@@ -0,0 +1,187 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.ObjLongConsumer;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.ClientProtocolException;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * {@link HttpClient} that reports each request it sends to a {@link RequestListener}.
+ * 
+ * <p>Requests are reported with their {@link EndpointTemplate endpoint template}, the status of
+ * their response, the lengths of both payloads, and the time elapsed from sending the request
+ * until the response's payload was read. The response's payload is {@link MeteredEntity metered}
+ * as it is read, so the request is reported once the payload has been read to its end or closed;
+ * responses without a payload, and requests that fail, are reported right away. Only requests
+ * sent with {@link #execute(HttpUriRequest)} and {@link #execute(HttpUriRequest, HttpContext)},
+ * the ones used by this library, are reported.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see RequestMetrics
+ * @since 1.0.0
+ */
+@SuppressWarnings("deprecation")
+final class MeteredHttpClient implements HttpClient {
+  private final HttpClient origin;
+  private final RequestListener listener;
+
+  /**
+   * Ctor.
+   * 
+   * @param origin the client that sends the requests
+   * @param listener the listener to report requests to
+   * @since 1.0.0
+   */
+  MeteredHttpClient(HttpClient origin, RequestListener listener) {
+    this.origin = origin;
+    this.listener = listener;
+  }
+
+  @Override
+  public org.apache.http.params.HttpParams getParams() {
+    return this.origin.getParams();
+  }
+
+  @Override
+  public org.apache.http.conn.ClientConnectionManager getConnectionManager() {
+    return this.origin.getConnectionManager();
+  }
+
+  @Override
+  public HttpResponse execute(HttpUriRequest request) throws IOException, ClientProtocolException {
+    return this.metered(request, this.origin::execute);
+  }
+
+  @Override
+  public HttpResponse execute(HttpUriRequest request, HttpContext context) 
+      throws IOException, ClientProtocolException {
+    return this.metered(request, req -> this.origin.execute(req, context));
+  }
+
+  @Override
+  public HttpResponse execute(HttpHost target, HttpRequest request) 
+      throws IOException, ClientProtocolException {
+    return this.origin.execute(target, request);
+  }
+
+  @Override
+  public HttpResponse execute(HttpHost target, HttpRequest request, HttpContext context) 
+      throws IOException, ClientProtocolException {
+    return this.origin.execute(target, request, context);
+  }
+
+  @Override
+  public <T> T execute(HttpUriRequest request, ResponseHandler<? extends T> handler) 
+      throws IOException, ClientProtocolException {
+    return this.origin.execute(request, handler);
+  }
+
+  @Override
+  public <T> T execute(
+      HttpUriRequest request, 
+      ResponseHandler<? extends T> handler, 
+      HttpContext context
+  ) throws IOException, ClientProtocolException {
+    return this.origin.execute(request, handler, context);
+  }
+
+  @Override
+  public <T> T execute(HttpHost target, HttpRequest request, ResponseHandler<? extends T> handler)
+      throws IOException, ClientProtocolException {
+    return this.origin.execute(target, request, handler);
+  }
+
+  @Override
+  public <T> T execute(
+      HttpHost target, 
+      HttpRequest request, 
+      ResponseHandler<? extends T> handler, 
+      HttpContext context
+  ) throws IOException, ClientProtocolException {
+    return this.origin.execute(target, request, handler, context);
+  }
+
+  /**
+   * Sends {@code request} with {@code client} and reports it to the listener.
+   * 
+   * @param request the request
+   * @param client sends the request
+   * @return the response
+   * @throws IOException from {@code client}
+   * @since 1.0.0
+   */
+  private HttpResponse metered(
+      HttpUriRequest request, 
+      ExceptionalFunction<HttpUriRequest, HttpResponse, IOException> client
+  ) throws IOException {
+    final long start = System.nanoTime();
+    final String endpoint = new EndpointTemplate(request).get();
+    final long sent = Optional.of(request)
+      .filter(HttpEntityEnclosingRequest.class::isInstance)
+      .map(r -> ((HttpEntityEnclosingRequest) r).getEntity())
+      .map(e -> Math.max(0, e.getContentLength()))
+      .orElse(0L);
+    final ObjLongConsumer<Integer> report = (status, received) -> this.listener.completed(
+      endpoint, status, sent, received, Duration.ofNanos(System.nanoTime() - start)
+    );
+    final HttpResponse response;
+    boolean received = false;
+    try {
+      response = client.apply(request);
+      received = true;
+    } finally {
+      if (!received) {
+        report.accept(0, 0);
+      }
+    }
+    return observed(response, report);
+  }
+
+  /**
+   * Meters the payload of {@code response}, or reports it right away if it has none.
+   * 
+   * @param response the response
+   * @param report reports the request with the response's status and the bytes read from its
+   *     payload
+   * @return the response
+   * @since 1.0.0
+   */
+  private static HttpResponse observed(
+      HttpResponse response, ObjLongConsumer<Integer> report
+  ) {
+    final int status = response.getStatusLine().getStatusCode();
+    final HttpEntity entity = response.getEntity();
+    if (entity == null) {
+      report.accept(status, 0);
+    } else {
+      response.setEntity(new MeteredEntity(entity, received -> report.accept(status, received)));
+    }
+    return response;
+  }
+}
@@ -34,16 +34,60 @@ import org.apache.http.client.methods.HttpUriRequest;
  * 
  * @author George Aristy (george.aristy@gmail.com)
  * @param <T> the type of the contents of this page
- * @see Pagination
+ * @see Paging
  * @since 0.7.0
  */
 final class Page<T> implements Iterator<T> {
   private final Deque<T> contents;
+  private final int size;
+  private final int count;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param request the {@link HttpUriRequest} for the page
+   * @param size the number of results requested for the page
+   * @param fetch executes the page's request and maps its response into types T
+   * @throws UncheckedException wrapping any IOException thrown when fetching this page's contents
+   * @since 1.0.0
+   */
+  Page(
+      HttpUriRequest request,
+      int size,
+      ExceptionalFunction<HttpUriRequest, Collection<T>, IOException> fetch
+  ) throws UncheckedException {
+    try {
+      this.contents = new ArrayDeque<>(fetch.apply(request));
+    } catch (IOException e) {
+      throw new UncheckedException(e);
+    }
+    this.size = size;
+    this.count = this.contents.size();
+  }
 
   /**
    * Ctor.
    * 
    * @param request the {@link HttpUriRequest} for the page
+   * @param size the number of results requested for the page
+   * @param mapper the mapping function to transform the results from YouTrack into types T
+   * @param httpClient the {@link HttpClient} to use
+   * @throws UncheckedException wrapping any IOException thrown when fetching this page's contents
+   * @since 1.0.0
+   */
+  Page(
+      HttpUriRequest request, 
+      int size,
+      ExceptionalFunction<Response, Collection<T>, IOException> mapper,
+      HttpClient httpClient
+  ) throws UncheckedException {
+    this(request, size, req -> mapper.apply(new HttpResponseAsResponse(httpClient.execute(req))));
+  }
+
+  /**
+   * Ctor for pages of unknown size: only an empty page is the {@link #last() last} one.
+   * 
+   * @param request the {@link HttpUriRequest} for the page
    * @param mapper the mapping function to transform the results from YouTrack into types T
    * @param httpClient the {@link HttpClient} to use
    * @throws UncheckedException wrapping any IOException thrown when fetching this page's contents
@@ -54,17 +98,27 @@ final class Page<T> implements Iterator<T> {
       ExceptionalFunction<Response, Collection<T>, IOException> mapper,
       HttpClient httpClient
   ) throws UncheckedException {
-    try {
-      this.contents = new ArrayDeque<>(
-          mapper.apply(
-              new HttpResponseAsResponse(
-                  httpClient.execute(request)
-              )
-          )
-      );
-    } catch (IOException e) {
-      throw new UncheckedException(e);
-    }
+    this(request, 1, mapper, httpClient);
+  }
+
+  /**
+   * Whether this is the last page of results, ie. it holds fewer results than requested.
+   * 
+   * @return whether this is the last page of results
+   * @since 1.0.0
+   */
+  boolean last() {
+    return this.count < this.size;
+  }
+
+  /**
+   * The number of results this page was received with.
+   * 
+   * @return the number of results in this page
+   * @since 1.0.0
+   */
+  int count() {
+    return this.count;
   }
 
   @Override
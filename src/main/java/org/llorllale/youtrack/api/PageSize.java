@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.util.Collection;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpUriRequest;
+
+/**
+ * Policy for the number of results requested per page of a paginated resource.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see Paging
+ * @since 1.0.0
+ */
+interface PageSize {
+  /**
+   * The number of results to request for the next page.
+   * 
+   * @return the size of the next page
+   * @since 1.0.0
+   */
+  int next();
+
+  /**
+   * Lets this policy observe each page as it is fetched: from the moment its request is sent
+   * until its response has been mapped by {@code mapper}.
+   * 
+   * @param <T> the type of the page's contents
+   * @param httpClient the {@link HttpClient} that executes each page's request
+   * @param mapper the function that maps each page's response to its contents
+   * @return a function that fetches and maps pages while observing them
+   * @since 1.0.0
+   */
+  <T> ExceptionalFunction<HttpUriRequest, Collection<T>, IOException> observed(
+      HttpClient httpClient,
+      ExceptionalFunction<Response, Collection<T>, IOException> mapper
+  );
+
+  /**
+   * A fixed page size.
+   * 
+   * @since 1.0.0
+   */
+  final class Fixed implements PageSize {
+    private final int size;
+
+    /**
+     * Ctor.
+     * 
+     * @param size the page size
+     * @since 1.0.0
+     */
+    Fixed(int size) {
+      this.size = size;
+    }
+
+    @Override
+    public int next() {
+      return this.size;
+    }
+
+    @Override
+    public <T> ExceptionalFunction<HttpUriRequest, Collection<T>, IOException> observed(
+        HttpClient httpClient,
+        ExceptionalFunction<Response, Collection<T>, IOException> mapper
+    ) {
+      return request -> mapper.apply(new HttpResponseAsResponse(httpClient.execute(request)));
+    }
+  }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpUriRequest;
+
+/**
+ * A {@link Spliterator} over a paginated resource, addressed by result offsets.
+ * 
+ * <p>Unlike an iterator over pages wrapped in a
+ * {@link java.util.Spliterators#spliteratorUnknownSize spliterator of unknown size}, this
+ * spliterator can be split so that parallel streams fetch and map disjoint ranges of pages
+ * concurrently. The total number of results is not known up front:
+ * the root spliterator covers an open-ended range, and each {@link #trySplit() split} hands out
+ * the next batch of pages as a prefix, after fetching the first page of that batch to make sure
+ * the results have not ended. Batches double in size with every split, up to
+ * {@link #MAX_BATCH} pages. Closed ranges handed out by a split are not split further.</p>
+ * 
+ * <p>Pages are fetched as {@link ForkJoinPool#managedBlock managed blocking} calls, so a
+ * parallel stream running on the common {@link ForkJoinPool} gets compensating threads while
+ * its workers wait on the network, instead of starving other users of the common pool.</p>
+ * 
+ * <p>Results are reported in order. All ranges split from the same root share the knowledge of
+ * where the results end, which is found by the first page holding fewer results than
+ * requested.</p>
+ * 
+ * <p>Note: the {@link #tryAdvance(Consumer)} and {@link #trySplit()} methods wrap checked
+ * exceptions inside {@link UncheckedException}.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @param <T> the resource's type
+ * @see Paging
+ * @since 1.0.0
+ */
+final class PageSpliterator<T> implements Spliterator<T> {
+  private static final int OPEN = Integer.MAX_VALUE;
+  private static final int MAX_BATCH = 16;
+  private final PageSize pageSize;
+  private final BiFunction<Integer, Integer, HttpUriRequest> combiner;
+  private final ExceptionalFunction<HttpUriRequest, Collection<T>, IOException> fetch;
+  private final AtomicInteger end;
+  private final int to;
+  private final Deque<T> buffer;
+
+  private int offset;
+  private int batch;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param pageSize the size of each page
+   * @param combiner maps each page's offset and size to its request
+   * @param fetch executes each page's request and maps its response to its contents
+   * @param end the offset past the last result, shared by all ranges split from the same root
+   * @param offset the offset of the first result in this range
+   * @param to the offset past the last result in this range, or {@link #OPEN}
+   * @since 1.0.0
+   */
+  @SuppressWarnings("checkstyle:ParameterNumber")
+  private PageSpliterator(
+      PageSize pageSize,
+      BiFunction<Integer, Integer, HttpUriRequest> combiner,
+      ExceptionalFunction<HttpUriRequest, Collection<T>, IOException> fetch,
+      AtomicInteger end,
+      int offset,
+      int to
+  ) {
+    this.pageSize = pageSize;
+    this.combiner = combiner;
+    this.fetch = fetch;
+    this.end = end;
+    this.offset = offset;
+    this.to = to;
+    this.buffer = new ArrayDeque<>();
+    this.batch = 1;
+  }
+
+  /**
+   * Ctor. Covers all results.
+   * 
+   * @param pageSize the size of each page
+   * @param combiner maps each page's offset and size to its request
+   * @param mapper maps each page's response to its contents
+   * @param httpClient the {@link HttpClient} to use to execute the requests, observed by
+   *     {@code pageSize}
+   * @since 1.0.0
+   */
+  PageSpliterator(
+      PageSize pageSize,
+      BiFunction<Integer, Integer, HttpUriRequest> combiner,
+      ExceptionalFunction<Response, Collection<T>, IOException> mapper,
+      HttpClient httpClient
+  ) {
+    this(
+        pageSize, combiner, pageSize.observed(httpClient, mapper), new AtomicInteger(OPEN), 0, OPEN
+    );
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super T> action) throws UncheckedException {
+    while (this.starved()) {
+      this.fetch();
+    }
+    final boolean advanced = !this.buffer.isEmpty();
+    if (advanced) {
+      action.accept(this.buffer.pop());
+    }
+    return advanced;
+  }
+
+  @Override
+  public Spliterator<T> trySplit() throws UncheckedException {
+    Spliterator<T> prefix = null;
+    if (this.splittable()) {
+      final int span = (int) Math.min(
+          (long) this.batch * this.pageSize.next(), (long) OPEN - this.offset - 1
+      );
+      final PageSpliterator<T> split = new PageSpliterator<>(
+          this.pageSize, this.combiner, this.fetch,
+          this.end, this.offset, this.offset + span
+      );
+      split.fetch();
+      this.offset += span;
+      this.batch = Math.min(this.batch * 2, MAX_BATCH);
+      prefix = split;
+    }
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    final long size;
+    if (this.to == OPEN) {
+      size = Long.MAX_VALUE;
+    } else {
+      size = Math.max(0, this.limit() - this.offset) + this.buffer.size();
+    }
+    return size;
+  }
+
+  @Override
+  public int characteristics() {
+    return Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL;
+  }
+
+  /**
+   * Whether this is an open-ended range whose next page may hold results.
+   * 
+   * @return whether this range can be split
+   * @since 1.0.0
+   */
+  private boolean splittable() {
+    return this.to == OPEN && this.buffer.isEmpty() && this.offset < this.end.get();
+  }
+
+  /**
+   * Whether the buffer is empty while this range may have more pages with results.
+   * 
+   * @return whether the next page of this range should be fetched
+   * @since 1.0.0
+   */
+  private boolean starved() {
+    return this.buffer.isEmpty() && this.offset < this.limit();
+  }
+
+  /**
+   * The offset past the last result that can be found in this range.
+   * 
+   * @return the offset past the last result in this range
+   * @since 1.0.0
+   */
+  private int limit() {
+    return Math.min(this.to, this.end.get());
+  }
+
+  /**
+   * Fetches the next page of this range into the buffer.
+   * 
+   * <p>If the page is the {@link Page#last() last} one, the offset past the last result is
+   * updated for all ranges.</p>
+   * 
+   * @throws UncheckedException wrapping any IOException thrown when fetching the page
+   * @since 1.0.0
+   */
+  private void fetch() throws UncheckedException {
+    final int size = Math.min(this.pageSize.next(), this.to - this.offset);
+    final HttpUriRequest request = this.combiner.apply(this.offset, size);
+    final Page<T> page = new Blocking<>(() -> new Page<>(request, size, this.fetch)).value();
+    if (page.last()) {
+      this.end.accumulateAndGet(this.offset + page.count(), Math::min);
+    }
+    page.forEachRemaining(this.buffer::add);
+    this.offset += size;
+  }
+
+  /**
+   * A blocking call run as a {@link ForkJoinPool.ManagedBlocker}.
+   * 
+   * <p>Off a {@link ForkJoinPool}, the call simply runs on the calling thread.</p>
+   * 
+   * @param <V> the type of the call's result
+   * @since 1.0.0
+   */
+  private static final class Blocking<V> implements ForkJoinPool.ManagedBlocker {
+    private final Supplier<V> call;
+    private V result;
+
+    /**
+     * Ctor.
+     * 
+     * @param call the blocking call
+     * @since 1.0.0
+     */
+    Blocking(Supplier<V> call) {
+      this.call = call;
+    }
+
+    /**
+     * Runs the call.
+     * 
+     * @return the call's result
+     * @throws UncheckedException if the calling thread is interrupted while waiting, or wrapping
+     *     any exception thrown by the call
+     * @since 1.0.0
+     */
+    V value() throws UncheckedException {
+      try {
+        ForkJoinPool.managedBlock(this);
+      } catch(InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new UncheckedException(e);
+      }
+      return this.result;
+    }
+
+    @Override
+    public boolean block() {
+      this.result = this.call.get();
+      return true;
+    }
+
+    @Override
+    public boolean isReleasable() {
+      return this.result != null;
+    }
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpUriRequest;
+
+/**
+ * How a paginated resource is streamed: the {@link PageSize size} of its pages, how many pages
+ * are {@link PrefetchingPagination prefetched}, and where the page requests are counted.
+ * 
+ * <p>Each stream gets its own {@link PageSize} policy, so that stateful policies such as
+ * {@link AdaptivePageSize} adapt to the stream they observe only.</p>
+ * 
+ * <p>A page request is counted once its response has been received, so requests built ahead of
+ * time but cancelled before they were sent are not counted.</p>
+ * 
+ * <p>Without prefetching, resources are streamed through a {@link PageSpliterator} that can be
+ * split for parallel streams.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class Paging {
+  private static final int DEFAULT_SIZE = 10;
+  private final Supplier<PageSize> size;
+  private final int lookahead;
+  private final LongAdder requests;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param size supplies the page size policy of each stream
+   * @param lookahead the number of pages to prefetch; {@code 0} disables prefetching
+   * @param requests counts the page requests executed
+   * @since 1.0.0
+   */
+  Paging(Supplier<PageSize> size, int lookahead, LongAdder requests) {
+    this.size = size;
+    this.lookahead = lookahead;
+    this.requests = requests;
+  }
+
+  /**
+   * Pages of 10 results, no prefetching.
+   * 
+   * @since 1.0.0
+   */
+  Paging() {
+    this(() -> new PageSize.Fixed(DEFAULT_SIZE), 0, new LongAdder());
+  }
+
+  /**
+   * This paging with the given page size.
+   * 
+   * @param pageSize supplies a new page size policy for each stream
+   * @return a new paging with the given page size
+   * @since 1.0.0
+   */
+  public Paging size(Supplier<PageSize> pageSize) {
+    return new Paging(pageSize, this.lookahead, this.requests);
+  }
+
+  /**
+   * This paging with the given number of pages to prefetch.
+   * 
+   * @param pages the number of pages to prefetch; {@code 0} disables prefetching
+   * @return a new paging with the given lookahead
+   * @since 1.0.0
+   */
+  public Paging lookahead(int pages) {
+    return new Paging(this.size, pages, this.requests);
+  }
+
+  /**
+   * This paging, counting page requests with the given counter.
+   * 
+   * @param counter counts the page requests executed
+   * @return a new paging that counts requests with {@code counter}
+   * @since 1.0.0
+   */
+  public Paging counted(LongAdder counter) {
+    return new Paging(this.size, this.lookahead, counter);
+  }
+
+  /**
+   * Streams the paginated resource.
+   * 
+   * @param <T> the resource's type
+   * @param combiner maps each page's offset and size to its request
+   * @param mapper maps each page's response to its contents
+   * @param httpClient the {@link HttpClient} to use to execute the requests
+   * @return a stream of the resource's contents
+   * @since 1.0.0
+   */
+  public <T> Stream<T> stream(
+      BiFunction<Integer, Integer, HttpUriRequest> combiner,
+      ExceptionalFunction<Response, Collection<T>, IOException> mapper,
+      HttpClient httpClient
+  ) {
+    final ExceptionalFunction<Response, Collection<T>, IOException> counted = resp -> {
+      this.requests.increment();
+      return mapper.apply(resp);
+    };
+    final PageSize pages = this.size.get();
+    final Stream<T> stream;
+    if (this.lookahead > 0) {
+      stream = new StreamOf<>(
+          new PrefetchingPagination<>(
+              this.lookahead, new FanOut(), pages, combiner, counted, httpClient
+          )
+      );
+    } else {
+      stream = new StreamOf<>(
+          new PageSpliterator<>(pages, combiner, counted, httpClient)
+      );
+    }
+    return stream;
+  }
+}
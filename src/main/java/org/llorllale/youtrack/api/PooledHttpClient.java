@@ -0,0 +1,144 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.Closeable;
+import java.io.IOException;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.ClientProtocolException;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * {@link HttpClient} backed by a {@link PoolingHttpClientConnectionManager} so that persistent
+ * connections to the YouTrack server are reused across requests.
+ * 
+ * <p>A single instance is meant to be shared by the whole object graph spawned from a
+ * {@link YouTrack}. Note that connections are only returned to the pool once the response's
+ * entity has been fully consumed.
+ * 
+ * <p>The pool's connections stay open until the client is {@link #close() closed}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see ConsumedResponse
+ * @since 1.0.0
+ */
+@SuppressWarnings("deprecation")
+final class PooledHttpClient implements HttpClient, Closeable {
+  private static final int DEFAULT_MAX_PER_ROUTE = 20;
+  private static final int DEFAULT_MAX_TOTAL = 50;
+  private final CloseableHttpClient origin;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param maxPerRoute the maximum number of connections to keep per route
+   * @param maxTotal the maximum number of connections to keep in total
+   * @since 1.0.0
+   */
+  PooledHttpClient(int maxPerRoute, int maxTotal) {
+    final PoolingHttpClientConnectionManager manager = new PoolingHttpClientConnectionManager();
+    manager.setDefaultMaxPerRoute(maxPerRoute);
+    manager.setMaxTotal(maxTotal);
+    this.origin = HttpClients.custom().setConnectionManager(manager).build();
+  }
+
+  /**
+   * Uses sensible defaults for the connection limits.
+   * 
+   * @since 1.0.0
+   */
+  PooledHttpClient() {
+    this(DEFAULT_MAX_PER_ROUTE, DEFAULT_MAX_TOTAL);
+  }
+
+  @Override
+  public org.apache.http.params.HttpParams getParams() {
+    return this.origin.getParams();
+  }
+
+  @Override
+  public org.apache.http.conn.ClientConnectionManager getConnectionManager() {
+    return this.origin.getConnectionManager();
+  }
+
+  @Override
+  public HttpResponse execute(HttpUriRequest request) throws IOException, ClientProtocolException {
+    return this.origin.execute(request);
+  }
+
+  @Override
+  public HttpResponse execute(HttpUriRequest request, HttpContext context) 
+      throws IOException, ClientProtocolException {
+    return this.origin.execute(request, context);
+  }
+
+  @Override
+  public HttpResponse execute(HttpHost target, HttpRequest request) 
+      throws IOException, ClientProtocolException {
+    return this.origin.execute(target, request);
+  }
+
+  @Override
+  public HttpResponse execute(HttpHost target, HttpRequest request, HttpContext context) 
+      throws IOException, ClientProtocolException {
+    return this.origin.execute(target, request, context);
+  }
+
+  @Override
+  public <T> T execute(HttpUriRequest request, ResponseHandler<? extends T> handler) 
+      throws IOException, ClientProtocolException {
+    return this.origin.execute(request, handler);
+  }
+
+  @Override
+  public <T> T execute(
+      HttpUriRequest request, 
+      ResponseHandler<? extends T> handler, 
+      HttpContext context
+  ) throws IOException, ClientProtocolException {
+    return this.origin.execute(request, handler, context);
+  }
+
+  @Override
+  public <T> T execute(HttpHost target, HttpRequest request, ResponseHandler<? extends T> handler)
+      throws IOException, ClientProtocolException {
+    return this.origin.execute(target, request, handler);
+  }
+
+  @Override
+  public <T> T execute(
+      HttpHost target, 
+      HttpRequest request, 
+      ResponseHandler<? extends T> handler, 
+      HttpContext context
+  ) throws IOException, ClientProtocolException {
+    return this.origin.execute(target, request, handler, context);
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.origin.close();
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpUriRequest;
+
+/**
+ * An {@link Iterator} over a paginated resource that fetches the pages ahead of the one being
+ * consumed.
+ * 
+ * <p>Up to {@code lookahead} pages ahead of the current one are kept in flight on the given
+ * {@link Executor} while the current page is consumed, so a consumer's processing overlaps with
+ * the network round trips. Pages are still returned in order. Once a page comes back with fewer
+ * results than requested, requests still in flight are cancelled; the ones not started yet are
+ * never sent.</p>
+ * 
+ * <p>Note: the {@link #hasNext()} and {@link #next()} methods wrap checked exceptions inside
+ * {@link UncheckedException}.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @param <T> the resource's type
+ * @see Paging
+ * @since 1.0.0
+ */
+final class PrefetchingPagination<T> implements Iterator<T> {
+  private final int lookahead;
+  private final Executor executor;
+  private final PageSize pageSize;
+  private final BiFunction<Integer, Integer, HttpUriRequest> combiner;
+  private final ExceptionalFunction<HttpUriRequest, Collection<T>, IOException> fetch;
+  private final Deque<CompletableFuture<Page<T>>> inflight;
+
+  private Iterator<T> page;
+  private boolean done;
+  private int offset;
+
+  /**
+   * Ctor.
+   * 
+   * @param lookahead the maximum number of pages requested ahead of the current one
+   * @param executor the executor on which pages are fetched
+   * @param pageSize the size of each page
+   * @param combiner maps each page's offset and size to its request
+   * @param mapper maps each page's response into its corresponding contents
+   * @param httpClient the {@link HttpClient} to use to execute the requests, observed by
+   *     {@code pageSize}
+   * @since 1.0.0
+   */
+  @SuppressWarnings("checkstyle:ParameterNumber")
+  PrefetchingPagination(
+      int lookahead,
+      Executor executor,
+      PageSize pageSize,
+      BiFunction<Integer, Integer, HttpUriRequest> combiner,
+      ExceptionalFunction<Response, Collection<T>, IOException> mapper,
+      HttpClient httpClient
+  ) {
+    this.lookahead = lookahead;
+    this.executor = executor;
+    this.pageSize = pageSize;
+    this.combiner = combiner;
+    this.fetch = pageSize.observed(httpClient, mapper);
+    this.inflight = new ArrayDeque<>();
+    this.page = new Page.Empty<>();
+    this.done = false;
+    this.offset = 0;
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!this.page.hasNext() && !this.done) {
+      this.page = this.nextPage();
+    }
+    return this.page.hasNext();
+  }
+
+  @Override
+  public T next() {
+    if (this.hasNext()) {
+      return this.page.next();
+    }
+
+    throw new NoSuchElementException();
+  }
+
+  /**
+   * Waits for the next page, topping up the pages in flight first.
+   * 
+   * <p>If the page is the {@link Page#last() last} one then the pages in flight are
+   * cancelled.</p>
+   * 
+   * @return the next page
+   * @throws UncheckedException if there was an error fetching the page
+   * @since 1.0.0
+   */
+  private Iterator<T> nextPage() throws UncheckedException {
+    this.fill();
+    final Page<T> next = this.await(this.inflight.removeFirst());
+    this.done = next.last();
+    if (this.done) {
+      this.inflight.forEach(pending -> pending.cancel(false));
+      this.inflight.clear();
+    }
+    return next;
+  }
+
+  /**
+   * Requests pages until the next page and {@code lookahead} pages after it are in flight.
+   * 
+   * <p>Page requests are built on the calling thread so that pages are requested in order.</p>
+   * 
+   * @since 1.0.0
+   */
+  private void fill() {
+    while (this.inflight.size() <= this.lookahead) {
+      final int size = this.pageSize.next();
+      final HttpUriRequest request = this.combiner.apply(this.offset, size);
+      this.offset += size;
+      this.inflight.addLast(
+          CompletableFuture.supplyAsync(
+            () -> new Page<>(request, size, this.fetch),
+            this.executor
+          )
+      );
+    }
+  }
+
+  /**
+   * Waits for the given page to arrive.
+   * 
+   * @param future the page in flight
+   * @return the page
+   * @throws UncheckedException if there was an error fetching the page
+   * @since 1.0.0
+   */
+  private Page<T> await(CompletableFuture<Page<T>> future) throws UncheckedException {
+    try {
+      return future.join();
+    } catch(CompletionException e) {
+      if (e.getCause() instanceof UncheckedException) {
+        throw (UncheckedException) e.getCause();
+      }
+      throw new UncheckedException(e.getCause());
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.util.EntityUtils;
+import org.llorllale.youtrack.api.session.Login;
+
+/**
+ * Fetches the {@link FieldBundle} at a given URL, revalidating the previous fetch if any.
+ * 
+ * <p>If the previous fetch is still current, as told by a {@code 304 Not Modified} response, it
+ * is returned as is.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see BundleCache
+ * @since 1.0.0
+ */
+final class RemoteBundle 
+    implements ExceptionalFunction<Optional<FieldBundle>, FieldBundle, IOException> {
+  private final Login login;
+  private final HttpClient httpClient;
+  private final String url;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param login the user's {@link Login}
+   * @param httpClient the {@link HttpClient} to use
+   * @param url the bundle's URL
+   * @since 1.0.0
+   */
+  RemoteBundle(Login login, HttpClient httpClient, String url) {
+    this.login = login;
+    this.httpClient = httpClient;
+    this.url = url;
+  }
+
+  @Override
+  public FieldBundle apply(Optional<FieldBundle> previous) throws IOException {
+    final HttpGet get = new HttpGet(this.url);
+    previous.ifPresent(p -> p.revalidate(get));
+    final HttpResponse response = new HttpResponseAsResponse(
+      this.httpClient.execute(new HttpRequestWithSession(this.login.session(), get))
+    ).httpResponse();
+    final FieldBundle bundle;
+    if (previous.isPresent()
+        && response.getStatusLine().getStatusCode() == HttpStatus.SC_NOT_MODIFIED) {
+      EntityUtils.consume(response.getEntity());
+      bundle = previous.get();
+    } else {
+      bundle = new FieldBundle(
+        new XmlsOf("/enumeration/value", new IdentityResponse(response)).stream()
+          .map(x -> x.textOf("text()").get())
+          .collect(Collectors.toList()),
+        header(response, HttpHeaders.ETAG),
+        header(response, HttpHeaders.LAST_MODIFIED)
+      );
+    }
+    return bundle;
+  }
+
+  /**
+   * The value of the {@code response}'s header.
+   * 
+   * @param response the response
+   * @param name the header's name
+   * @return the header's value, if present
+   * @since 1.0.0
+   */
+  private static Optional<String> header(HttpResponse response, String name) {
+    return Optional.ofNullable(response.getFirstHeader(name)).map(Header::getValue);
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.util.Optional;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.llorllale.youtrack.api.session.Login;
+
+/**
+ * Fetches the {@link User} at a given resource URL.
+ * 
+ * <p>YouTrack describes missing users in the payload of a {@code 404} response; those yield an
+ * empty optional.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see UserCache
+ * @since 1.0.0
+ */
+final class RemoteUser implements ExceptionalFunction<String, Optional<User>, IOException> {
+  private final Login login;
+  private final HttpClient httpClient;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param login the user's {@link Login}
+   * @param httpClient the {@link HttpClient} to use
+   * @since 1.0.0
+   */
+  RemoteUser(Login login, HttpClient httpClient) {
+    this.login = login;
+    this.httpClient = httpClient;
+  }
+
+  @Override
+  public Optional<User> apply(String url) throws IOException {
+    return new XmlsOf(
+      "/user",
+      new HttpResponseAsResponse(
+        this.httpClient.execute(
+          new HttpRequestWithSession(this.login.session(), new HttpGet(url))
+        )
+      )
+    ).stream().findAny().map(XmlUser::new);
+  }
+}
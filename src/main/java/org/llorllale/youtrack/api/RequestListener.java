@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.time.Duration;
+
+/**
+ * Listens to the requests sent to the YouTrack server.
+ * 
+ * <p>This is a service provider interface for metrics: implement it to feed your own metrics
+ * library, or use the built-in, dependency-free {@link RequestMetrics}. Implementations are
+ * called by the threads that send requests, right after each response's payload has been read,
+ * so they must be thread-safe and fast.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see DefaultYouTrack#DefaultYouTrack(org.llorllale.youtrack.api.session.Login, RequestListener)
+ * @since 1.0.0
+ */
+public interface RequestListener {
+  /**
+   * Called after the payload of a request's response has been read, or the request has failed.
+   * 
+   * @param endpoint the request's method and endpoint template, eg. 
+   *     {@code "GET /issue/{id}/comment"}
+   * @param status the response's status code, or {@code 0} if no response was received
+   * @param sent the length of the request's payload, in bytes
+   * @param received the number of bytes read from the response's payload
+   * @param latency the time elapsed from sending the request until its response's payload was
+   *     read
+   * @since 1.0.0
+   */
+  @SuppressWarnings("checkstyle:ParameterNumber")
+  void completed(String endpoint, int status, long sent, long received, Duration latency);
+}
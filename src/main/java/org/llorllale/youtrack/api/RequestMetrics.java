@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Built-in, dependency-free {@link RequestListener} that keeps metrics per endpoint.
+ * 
+ * <p>For each endpoint template (eg. {@code "GET /issue/{id}/comment"}), it counts requests by
+ * class of response status, adds up the bytes sent and received, and records latencies in a
+ * lock-free histogram. Use {@link #snapshot()} to scrape the metrics. This class is
+ * thread-safe.</p>
+ * 
+ * <p>Example:</p>
+ * <pre>
+ * {@code final RequestMetrics metrics = new RequestMetrics();
+ * final YouTrack youtrack = new DefaultYouTrack(login, metrics);
+ * ...
+ * metrics.snapshot().forEach((endpoint, stats) -> log.info(endpoint + ": " + stats));}
+ * </pre>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+public final class RequestMetrics implements RequestListener {
+  private final ConcurrentMap<String, EndpointMetrics> endpoints;
+
+  /**
+   * Ctor.
+   * 
+   * @since 1.0.0
+   */
+  public RequestMetrics() {
+    this.endpoints = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  @SuppressWarnings("checkstyle:ParameterNumber")
+  public void completed(
+      String endpoint, int status, long sent, long received, Duration latency
+  ) {
+    this.endpoints.computeIfAbsent(endpoint, e -> new EndpointMetrics())
+      .record(status, sent, received, latency);
+  }
+
+  /**
+   * A snapshot of the metrics of every endpoint to which requests were sent.
+   * 
+   * @return the snapshots, by endpoint template
+   * @since 1.0.0
+   */
+  public SortedMap<String, EndpointSnapshot> snapshot() {
+    final SortedMap<String, EndpointSnapshot> snapshot = new TreeMap<>();
+    for (Map.Entry<String, EndpointMetrics> entry : this.endpoints.entrySet()) {
+      snapshot.put(entry.getKey(), entry.getValue().snapshot());
+    }
+    return snapshot;
+  }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.http.conn.ConnectTimeoutException;
+
+/**
+ * Sends {@link WriteBehind.Write writes}, retrying the ones that fail with exponential backoff.
+ * 
+ * <p>Writes are only retried when they are known not to have reached YouTrack, that is when the
+ * connection to the server couldn't be established, or when the server responded with a
+ * {@link ServerErrorException 5xx} code. Other errors, such as timeouts reading the response of
+ * a write that was sent, are not retried lest the write be duplicated; neither are
+ * {@code 4xx} responses, since they won't go away by themselves.</p>
+ * 
+ * <p>Attempts are run as {@link BoundedCalls calls}, and the wait between them is scheduled on a
+ * timer, so that no thread is blocked while waiting to retry. This class is thread-safe.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class Retries {
+  private static final List<Class<? extends IOException>> UNSENT = Arrays.asList(
+    ConnectException.class,
+    ConnectTimeoutException.class,
+    NoRouteToHostException.class,
+    UnknownHostException.class
+  );
+  private static final Duration MAX_PAUSE = Duration.ofMinutes(1);
+  private final BoundedCalls calls;
+  private final ScheduledExecutorService timer;
+  private final int attempts;
+  private final Duration backoff;
+  private final LongAdder retried;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param calls runs the attempts
+   * @param timer schedules the retries
+   * @param attempts the maximum number of attempts to send each write
+   * @param backoff the time to wait before the first retry; it doubles with each retry, up to a
+   *     minute
+   * @throws IllegalArgumentException if {@code attempts} is not positive, or {@code backoff} is
+   *     negative or longer than a minute
+   * @since 1.0.0
+   */
+  Retries(BoundedCalls calls, ScheduledExecutorService timer, int attempts, Duration backoff) {
+    if (attempts < 1 || backoff.isNegative() || backoff.compareTo(MAX_PAUSE) > 0) {
+      throw new IllegalArgumentException(
+        "attempts must be positive, and backoff from zero to a minute"
+      );
+    }
+    this.calls = calls;
+    this.timer = timer;
+    this.attempts = attempts;
+    this.backoff = backoff;
+    this.retried = new LongAdder();
+  }
+
+  /**
+   * Sends the {@code write}, retrying it if it fails.
+   * 
+   * @param write the write
+   * @return a future completed with nothing on success, else the error of the last attempt
+   * @since 1.0.0
+   */
+  CompletableFuture<Optional<IOException>> outcome(WriteBehind.Write write) {
+    return this.sending(write, 1);
+  }
+
+  /**
+   * The number of retries so far.
+   * 
+   * @return the number of retries so far
+   * @since 1.0.0
+   */
+  long count() {
+    return this.retried.sum();
+  }
+
+  /**
+   * Sends the {@code write} from the given attempt on.
+   * 
+   * @param write the write
+   * @param attempt the attempt's number, starting at 1
+   * @return a future completed with nothing on success, else the error of the last attempt
+   * @since 1.0.0
+   */
+  private CompletableFuture<Optional<IOException>> sending(WriteBehind.Write write, int attempt) {
+    return this.calls.submit(() -> sent(write)).thenCompose(
+      error -> {
+        final CompletableFuture<Optional<IOException>> outcome;
+        if (attempt < this.attempts && retriable(error)) {
+          this.retried.increment();
+          outcome = this.pause(attempt).thenCompose(done -> this.sending(write, attempt + 1));
+        } else {
+          outcome = CompletableFuture.completedFuture(error);
+        }
+        return outcome;
+      }
+    );
+  }
+
+  /**
+   * Waits before the {@code retry}.
+   * 
+   * @param retry the retry's number, starting at 1
+   * @return a future completed when it is time to retry
+   * @since 1.0.0
+   */
+  private CompletableFuture<Void> pause(int retry) {
+    final CompletableFuture<Void> pause = new CompletableFuture<>();
+    this.timer.schedule(() -> pause.complete(null), this.delay(retry), TimeUnit.NANOSECONDS);
+    return pause;
+  }
+
+  /**
+   * The time to wait before the {@code retry}: the backoff, doubled with each retry up to a
+   * minute.
+   * 
+   * @param retry the retry's number, starting at 1
+   * @return the time to wait, in nanoseconds
+   * @since 1.0.0
+   */
+  private long delay(int retry) {
+    final long max = MAX_PAUSE.toNanos();
+    long delay = this.backoff.toNanos();
+    for (int doubled = 1; doubled < retry && delay < max; doubled++) {
+      delay <<= 1;
+    }
+    return Math.min(delay, max);
+  }
+
+  /**
+   * Sends the {@code write} once.
+   * 
+   * <p>Unchecked exceptions thrown by the write are reported as {@link IOException}s.</p>
+   * 
+   * @param write the write
+   * @return empty on success, else the error encountered
+   * @since 1.0.0
+   */
+  private static Optional<IOException> sent(WriteBehind.Write write) {
+    Optional<IOException> error;
+    try {
+      write.send();
+      error = Optional.empty();
+    } catch (IOException e) {
+      error = Optional.of(e);
+    } catch (UncheckedIOException e) {
+      error = Optional.of(e.getCause());
+    //@checkstyle IllegalCatch (1 line)
+    } catch (RuntimeException e) {
+      error = Optional.of(new IOException(e.getMessage(), e));
+    }
+    return error;
+  }
+
+  /**
+   * Whether the {@code error} may go away with a retry, without duplicating the write.
+   * 
+   * @param error the error of the last attempt, if any
+   * @return whether to retry
+   * @since 1.0.0
+   */
+  private static boolean retriable(Optional<IOException> error) {
+    return error.filter(
+      e -> e instanceof ServerErrorException || UNSENT.stream().anyMatch(u -> u.isInstance(e))
+    ).isPresent();
+  }
+}
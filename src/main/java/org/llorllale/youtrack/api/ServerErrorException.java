@@ -16,33 +16,27 @@
 
 package org.llorllale.youtrack.api;
 
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Supplier;
+import java.io.IOException;
 
 /**
- * Simple counter utility.
+ * Signals that the YouTrack server failed to fulfill a request, responding with a {@code 5xx}
+ * status code.
+ * 
+ * <p>Unlike other errors, these may go away if the request is sent again later.</p>
  * 
  * @author George Aristy (george.aristy@gmail.com)
- * @since 0.7.0
+ * @since 1.0.0
  */
-final class Counter implements Supplier<Integer> {
-  private final AtomicInteger start;
-  private final int increment;
+public final class ServerErrorException extends IOException {
+  private static final long serialVersionUID = 4127565034917368752L;
 
   /**
    * Ctor.
    * 
-   * @param start the starting value
-   * @param increment the amount to increment with each call to {@link #get()}
-   * @since 0.7.0
+   * @param message the exception message
+   * @since 1.0.0
    */
-  Counter(int start, int increment) {
-    this.start = new AtomicInteger(start);
-    this.increment = increment;
-  }
-
-  @Override
-  public Integer get() {
-    return this.start.getAndAdd(this.increment);
+  public ServerErrorException(String message) {
+    super(message);
   }
 }
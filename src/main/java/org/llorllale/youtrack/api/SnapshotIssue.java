@@ -0,0 +1,198 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.http.client.HttpClient;
+import org.llorllale.youtrack.api.session.Login;
+import org.llorllale.youtrack.api.session.UnauthorizedException;
+
+/**
+ * Immutable snapshot of an {@link Issue}.
+ * 
+ * <p>Unlike {@link XmlIssue}, the issue's XML is read once upon construction into a compact
+ * map of field values, after which it can be garbage-collected. Accessors, {@link #hashCode()}
+ * and {@link #equals(java.lang.Object)} never evaluate xpath expressions.</p>
+ * 
+ * <p>Like {@link XmlIssue}, only the first value of a multi-valued field is kept, since an
+ * {@link AssignedField} holds a single {@link FieldValue}.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+@SuppressWarnings("checkstyle:MethodCount")
+final class SnapshotIssue implements Issue {
+  private static final String NAME = "@name";
+  private static final String VALUE = "value";
+  private final Project project;
+  private final Login login;
+  private final HttpClient httpClient;
+  private final String id;
+  private final Map<String, String> values;
+  private final Set<String> custom;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param project this {@link Issue issue's} {@link Project}
+   * @param login the user's {@link Login}
+   * @param httpClient the {@link HttpClient} shared with this issue's resources
+   * @param id the issue's id
+   * @param values the values of all the issue's fields, keyed by field name
+   * @param custom the names of the issue's custom fields
+   * @since 1.0.0
+   */
+  @SuppressWarnings("checkstyle:ParameterNumber")
+  SnapshotIssue(
+      Project project,
+      Login login,
+      HttpClient httpClient,
+      String id,
+      Map<String, String> values,
+      Set<String> custom
+  ) {
+    this.project = project;
+    this.login = login;
+    this.httpClient = httpClient;
+    this.id = id;
+    this.values = Collections.unmodifiableMap(values);
+    this.custom = Collections.unmodifiableSet(custom);
+  }
+
+  /**
+   * Reads the issue's id and fields out of {@code xml}.
+   * 
+   * @param project this {@link Issue issue's} {@link Project}
+   * @param login the user's {@link Login}
+   * @param xml the xml object received from YouTrack
+   * @param httpClient the {@link HttpClient} shared with this issue's resources
+   * @since 1.0.0
+   */
+  SnapshotIssue(Project project, Login login, Xml xml, HttpClient httpClient) {
+    this(
+        project,
+        login,
+        httpClient,
+        xml.textOf("@id").get(),
+        values(xml),
+        xml.children("field[count(valueId) > 0]").stream()
+            .map(f -> f.textOf(NAME).get())
+            .collect(Collectors.toSet())
+    );
+  }
+
+  @Override
+  public Project project() {
+    return this.project;
+  }
+
+  @Override
+  public String id() {
+    return this.id;
+  }
+
+  @Override
+  public Instant creationDate() {
+    return Instant.ofEpochMilli(Long.parseLong(this.values.get("created")));
+  }
+
+  @Override
+  public String summary() {
+    return this.values.get("summary");
+  }
+
+  @Override
+  public Optional<String> description() {
+    return Optional.ofNullable(this.values.get("description"));
+  }
+
+  @Override
+  public UsersOfIssue users() {
+    return new BasicUsersOfIssue(this, this.values);
+  }
+
+  @Override
+  public Comments comments() {
+    return new DefaultComments(this.login, this, this.httpClient);
+  }
+
+  @Override
+  public IssueTimeTracking timetracking() {
+    return new DefaultIssueTimeTracking(this.login, this, this.httpClient);
+  }
+
+  @Override
+  public Issue refresh() throws IOException, UnauthorizedException {
+    return this.project().issues()
+      .snapshots()
+      .get(this.id())
+      .get();
+  }
+
+  @Override
+  public UpdateIssue update() {
+    return new DefaultUpdateIssue(this, this.login, this.httpClient);
+  }
+
+  @Override
+  public Collection<AssignedField> fields() {
+    return this.custom.stream()
+        .map(name -> new BasicAssignedField(
+            new BasicField(name, this.project()),
+            this,
+            this.values.get(name)
+        )).collect(Collectors.toList());
+  }
+
+  @Override
+  public int hashCode() {
+    return this.id().hashCode();
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (!(object instanceof Issue)) {
+      return false;
+    }
+
+    final Issue other = (Issue) object;
+    return this.id().equals(other.id()) && this.project().equals(other.project());
+  }
+
+  /**
+   * The first value of each of the issue's fields, keyed by field name.
+   * 
+   * @param xml the issue's xml
+   * @return the values of the issue's fields
+   * @since 1.0.0
+   */
+  private static Map<String, String> values(Xml xml) {
+    final Map<String, String> values = new LinkedHashMap<>();
+    xml.children("field").stream()
+        .filter(f -> f.child(VALUE).isPresent())
+        .forEach(f -> values.putIfAbsent(f.textOf(NAME).get(), f.textOf(VALUE).get()));
+    return values;
+  }
+}
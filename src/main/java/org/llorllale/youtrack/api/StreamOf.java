@@ -86,6 +86,16 @@ final class StreamOf<T> implements Stream<T> {
     );
   }
 
+  /**
+   * Encapsulates the given spliterator as a stream.
+   * 
+   * @param spliterator the spliterator to encapsulate
+   * @since 1.0.0
+   */
+  StreamOf(Spliterator<T> spliterator) {
+    this(StreamSupport.stream(spliterator, false));
+  }
+
   @Override
   public Stream<T> filter(Predicate<? super T> predicate) {
     return this.stream.filter(predicate);
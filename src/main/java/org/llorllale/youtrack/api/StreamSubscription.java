@@ -0,0 +1,220 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * A {@link Subscription} that pulls the items of a lazy {@link Stream} as they are
+ * requested.
+ * 
+ * <p>The stream is opened upon the first request. Items are pulled and sent to the subscriber
+ * on the {@link Executor}, one request at a time, and only while there is outstanding demand:
+ * for a paginated stream, pages are fetched as the subscriber asks for items, at most one page
+ * ahead of its demand. Signals to the subscriber are never concurrent.</p>
+ * 
+ * <p>Once done, whether completed, failed or cancelled, the stream is closed, releasing the
+ * connections and pages it holds, and the references to the stream and the subscriber are
+ * dropped. This is done on the {@link Executor}, so a cancelled stream is closed once the item
+ * being sent, if any, is sent.</p>
+ * 
+ * <p>Demand is capped at {@link Long#MAX_VALUE}, which means unbounded.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @param <T> the type of the items
+ * @since 1.0.0
+ */
+final class StreamSubscription<T> implements Subscription {
+  private final Callable<Stream<T>> source;
+  private final Executor executor;
+  private final AtomicLong demand;
+  private final AtomicInteger pending;
+  private volatile boolean done;
+  private volatile Throwable error;
+  private Subscriber<? super T> subscriber;
+  private Stream<T> stream;
+  private Iterator<T> items;
+
+  /**
+   * Ctor.
+   * 
+   * @param source opens the stream of items
+   * @param subscriber the subscriber
+   * @param executor the executor on which items are pulled and sent
+   * @since 1.0.0
+   */
+  StreamSubscription(
+      Callable<Stream<T>> source, 
+      Subscriber<? super T> subscriber, 
+      Executor executor
+  ) {
+    this.source = source;
+    this.subscriber = subscriber;
+    this.executor = executor;
+    this.demand = new AtomicLong();
+    this.pending = new AtomicInteger();
+  }
+
+  @Override
+  public void request(long count) {
+    if (count < 1) {
+      this.error = new IllegalArgumentException("count must be positive");
+    } else {
+      this.demand.getAndUpdate(d -> saturated(d + count));
+    }
+    this.signal();
+  }
+
+  @Override
+  public void cancel() {
+    this.done = true;
+    this.signal();
+  }
+
+  /**
+   * The demand after adding a request to it.
+   * 
+   * @param sum the outstanding demand plus the count requested, which may have overflowed
+   * @return the new demand, capped at {@link Long#MAX_VALUE}
+   * @since 1.0.0
+   */
+  private static long saturated(long sum) {
+    long demand = sum;
+    if (sum < 0) {
+      demand = Long.MAX_VALUE;
+    }
+    return demand;
+  }
+
+  /**
+   * Drains on the {@link Executor}, unless already draining.
+   * 
+   * @since 1.0.0
+   */
+  private void signal() {
+    if (this.pending.getAndIncrement() == 0) {
+      this.executor.execute(this::drain);
+    }
+  }
+
+  /**
+   * Sends items until the demand is met, for as long as there are requests to serve.
+   * 
+   * @since 1.0.0
+   */
+  private void drain() {
+    int missed = 1;
+    do {
+      try {
+        this.emit();
+      //@checkstyle IllegalCatch (1 line)
+      } catch (Exception e) {
+        this.error = e;
+      }
+      this.fail();
+      this.release();
+      missed = this.pending.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  /**
+   * Sends items while there is demand, and signals completion when there are no more items.
+   * 
+   * @throws Exception from the {@code source}
+   * @since 1.0.0
+   */
+  private void emit() throws Exception {
+    if (!this.done) {
+      this.open();
+      while (this.wanted()) {
+        this.demand.decrementAndGet();
+        this.subscriber.onNext(this.items.next());
+      }
+      this.complete();
+    }
+  }
+
+  /**
+   * Opens the stream of items, unless already open.
+   * 
+   * @throws Exception from the {@code source}
+   * @since 1.0.0
+   */
+  private void open() throws Exception {
+    if (this.items == null) {
+      this.stream = this.source.call();
+      this.items = this.stream.iterator();
+    }
+  }
+
+  /**
+   * Closes the stream and drops the references to it and to the subscriber, once done.
+   * 
+   * @since 1.0.0
+   */
+  private void release() {
+    if (this.done && this.subscriber != null) {
+      if (this.stream != null) {
+        this.stream.close();
+      }
+      this.stream = null;
+      this.items = null;
+      this.subscriber = null;
+    }
+  }
+
+  /**
+   * Whether there is demand for the next item and there is one.
+   * 
+   * @return whether the next item should be sent
+   * @since 1.0.0
+   */
+  private boolean wanted() {
+    return this.demand.get() > 0 && !this.done && this.items.hasNext();
+  }
+
+  /**
+   * Signals completion if there are no more items, unless already done.
+   * 
+   * @since 1.0.0
+   */
+  private void complete() {
+    if (!this.done && !this.items.hasNext()) {
+      this.done = true;
+      this.subscriber.onComplete();
+    }
+  }
+
+  /**
+   * Signals the error raised, if any, unless already done.
+   * 
+   * @since 1.0.0
+   */
+  private void fail() {
+    if (this.error != null && !this.done) {
+      this.done = true;
+      this.subscriber.onError(this.error);
+    }
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import org.apache.http.entity.ContentProducer;
+
+/**
+ * An XML payload written with a StAX cursor straight to the request's output stream.
+ * 
+ * <p>Neither the payload in {@link String} form nor a DOM of it is ever built, so the memory
+ * needed to send it doesn't grow with its size.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see XmlFragments
+ * @since 1.0.0
+ */
+final class StreamedXml implements ContentProducer {
+  private static final XMLOutputFactory FACTORY = XMLOutputFactory.newFactory();
+  private final Body body;
+
+  /**
+   * Ctor.
+   * 
+   * @param body writes the payload's root element
+   * @since 1.0.0
+   */
+  StreamedXml(Body body) {
+    this.body = body;
+  }
+
+  @Override
+  public void writeTo(OutputStream output) throws IOException {
+    try {
+      final XMLStreamWriter xml = FACTORY.createXMLStreamWriter(
+          output, StandardCharsets.UTF_8.name()
+      );
+      xml.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+      this.body.write(xml);
+      xml.writeEndDocument();
+      xml.close();
+    } catch(XMLStreamException e) {
+      throw new IOException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Writes the payload's root element.
+   * 
+   * @since 1.0.0
+   */
+  @FunctionalInterface
+  interface Body {
+    /**
+     * Writes the payload's root element.
+     * 
+     * @param xml the writer
+     * @throws XMLStreamException if there's an error writing
+     * @since 1.0.0
+     */
+    void write(XMLStreamWriter xml) throws XMLStreamException;
+  }
+}
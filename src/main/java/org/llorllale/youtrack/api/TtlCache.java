@@ -0,0 +1,205 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Thread-safe cache of values keyed by URL, whose entries expire after a fixed time to live.
+ * 
+ * <p>Expired entries are not served, but they are kept until evicted and handed to the fetch of
+ * a fresh value, so that it can revalidate them (eg. with a conditional request). When the
+ * cache grows past its maximum size, expired entries are evicted first, then those closest to
+ * expiring.</p>
+ * 
+ * <p>Since all entries live equally long, they expire in the order they were put. Entries are
+ * also queued in that order, so eviction takes them from the head of the queue in constant time
+ * per entry. Entries that were replaced are skipped when they reach the head, and purged from
+ * the queue once it holds twice as many entries as the cache.</p>
+ * 
+ * <p>Lookups of the same key that miss concurrently may each fetch the value; the last one to
+ * complete wins.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @param <V> the type of value
+ * @since 1.0.0
+ */
+final class TtlCache<V> {
+  private final long ttl;
+  private final int max;
+  private final LongSupplier clock;
+  private final Map<String, Entry<V>> entries;
+  private final Queue<Entry<V>> expiries;
+  private final AtomicInteger queued;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param ttl how long entries live
+   * @param max the maximum number of entries kept
+   * @param clock the current time, in nanoseconds
+   * @since 1.0.0
+   */
+  TtlCache(Duration ttl, int max, LongSupplier clock) {
+    this.ttl = ttl.toNanos();
+    this.max = max;
+    this.clock = clock;
+    this.entries = new ConcurrentHashMap<>();
+    this.expiries = new ConcurrentLinkedQueue<>();
+    this.queued = new AtomicInteger();
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param ttl how long entries live
+   * @param max the maximum number of entries kept
+   * @since 1.0.0
+   */
+  TtlCache(Duration ttl, int max) {
+    this(ttl, max, System::nanoTime);
+  }
+
+  /**
+   * The value cached under {@code key}, fetching it with {@code fetch} if absent or expired.
+   * 
+   * @param key the value's key
+   * @param fetch fetches the value, given the expired one if any
+   * @return the value
+   * @throws IOException from {@code fetch}
+   * @since 1.0.0
+   */
+  V value(String key, ExceptionalFunction<Optional<V>, V, IOException> fetch)
+      throws IOException {
+    final Optional<Entry<V>> entry = Optional.ofNullable(this.entries.get(key));
+    final V value;
+    if (entry.isPresent() && !entry.get().expired(this.clock.getAsLong())) {
+      value = entry.get().value;
+    } else {
+      value = fetch.apply(entry.map(e -> e.value));
+      this.put(key, value);
+    }
+    return value;
+  }
+
+  /**
+   * Caches {@code value} under {@code key}.
+   * 
+   * @param key the value's key
+   * @param value the value
+   * @since 1.0.0
+   */
+  void put(String key, V value) {
+    final Entry<V> entry = new Entry<>(key, value, this.clock.getAsLong() + this.ttl);
+    this.entries.put(key, entry);
+    this.expiries.add(entry);
+    if (this.queued.incrementAndGet() > 2 * this.max) {
+      this.purge();
+    }
+    this.evict();
+  }
+
+  /**
+   * The number of entries cached, including expired ones not yet evicted.
+   * 
+   * @return the number of entries cached
+   * @since 1.0.0
+   */
+  int size() {
+    return this.entries.size();
+  }
+
+  /**
+   * Evicts the entries closest to expiring until within the maximum size.
+   * 
+   * <p>Expired entries are the closest to expiring, so they are evicted first.</p>
+   * 
+   * @since 1.0.0
+   */
+  private void evict() {
+    while (this.entries.size() > this.max) {
+      final Entry<V> oldest = this.expiries.poll();
+      if (oldest == null) {
+        break;
+      }
+      this.queued.decrementAndGet();
+      this.entries.remove(oldest.key, oldest);
+    }
+  }
+
+  /**
+   * Removes the entries that were replaced from the queue of expiries.
+   * 
+   * @since 1.0.0
+   */
+  private void purge() {
+    this.expiries.removeIf(
+      entry -> {
+        final boolean replaced = this.entries.get(entry.key) != entry;
+        if (replaced) {
+          this.queued.decrementAndGet();
+        }
+        return replaced;
+      }
+    );
+  }
+
+  /**
+   * A cached value and when it expires.
+   * 
+   * @param <V> the type of value
+   * @since 1.0.0
+   */
+  private static final class Entry<V> {
+    private final String key;
+    private final V value;
+    private final long expiry;
+
+    /**
+     * Ctor.
+     * 
+     * @param key the value's key
+     * @param value the value
+     * @param expiry when this entry expires, in nanoseconds
+     * @since 1.0.0
+     */
+    Entry(String key, V value, long expiry) {
+      this.key = key;
+      this.value = value;
+      this.expiry = expiry;
+    }
+
+    /**
+     * Whether this entry has expired.
+     * 
+     * @param now the current time, in nanoseconds
+     * @return whether this entry has expired
+     * @since 1.0.0
+     */
+    boolean expired(long now) {
+      return now - this.expiry >= 0;
+    }
+  }
+}
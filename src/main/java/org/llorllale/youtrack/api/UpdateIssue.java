@@ -24,6 +24,10 @@ import org.llorllale.youtrack.api.session.UnauthorizedException;
 
 /**
  * API to update an {@link Issue}.
+ * 
+ * <p>The {@link Issue issues} returned by the update methods are refreshed lazily: they only
+ * fetch the issue's data from the server when first read. Use {@link #withoutRefresh()} to read
+ * back just the values written instead.</p>
  *
  * @author George Aristy (george.aristy@gmail.com)
  * @since 0.9.0
@@ -95,4 +99,17 @@ public interface UpdateIssue {
    * @since 0.9.0
    */
   Issue fields(Map<Field, FieldValue> fields) throws IOException, UnauthorizedException;
+
+  /**
+   * This same API, except that the update methods return the {@link Issue} being updated with
+   * the values written, instead of a refreshed instance.
+   * 
+   * <p>Useful when the issue is not read after being updated, or only its written values are.
+   * The issue is never fetched again, so values changed on the server by others (or by
+   * workflows) are not seen.</p>
+   * 
+   * @return this same API, without refreshing the updated issue
+   * @since 1.0.0
+   */
+  UpdateIssue withoutRefresh();
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.http.client.HttpClient;
+import org.llorllale.youtrack.api.session.Login;
+import org.llorllale.youtrack.api.session.UnauthorizedException;
+
+/**
+ * An {@link Issue} just updated, which reads back the values written to it without fetching it
+ * again.
+ * 
+ * <p>Values that weren't written are read from the issue as it was before the update. Updating
+ * this issue again builds on the values written, so chained updates don't resend stale ones.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+@SuppressWarnings("checkstyle:MethodCount")
+final class UpdatedIssue implements Issue {
+  private final Issue origin;
+  private final Login login;
+  private final HttpClient httpClient;
+  private final Optional<String> summary;
+  private final Optional<String> description;
+  private final Map<Field, FieldValue> fields;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param origin the issue as it was before the update
+   * @param login the user's {@link Login}
+   * @param httpClient the {@link HttpClient} shared with this issue's resources
+   * @param summary the summary written, if any
+   * @param description the description written, if any
+   * @param fields the field values written
+   * @since 1.0.0
+   */
+  @SuppressWarnings("checkstyle:ParameterNumber")
+  UpdatedIssue(
+      Issue origin,
+      Login login,
+      HttpClient httpClient,
+      Optional<String> summary,
+      Optional<String> description,
+      Map<Field, FieldValue> fields
+  ) {
+    this.origin = origin;
+    this.login = login;
+    this.httpClient = httpClient;
+    this.summary = summary;
+    this.description = description;
+    this.fields = Collections.unmodifiableMap(fields);
+  }
+
+  /**
+   * An issue whose summary and description were written.
+   * 
+   * @param origin the issue as it was before the update
+   * @param login the user's {@link Login}
+   * @param httpClient the {@link HttpClient} shared with this issue's resources
+   * @param summary the summary written
+   * @param description the description written, if any
+   * @since 1.0.0
+   */
+  @SuppressWarnings("checkstyle:ParameterNumber")
+  UpdatedIssue(
+      Issue origin, Login login, HttpClient httpClient, String summary, Optional<String> description
+  ) {
+    this(origin, login, httpClient, Optional.of(summary), description, Collections.emptyMap());
+  }
+
+  /**
+   * An issue whose fields were written.
+   * 
+   * @param origin the issue as it was before the update
+   * @param login the user's {@link Login}
+   * @param httpClient the {@link HttpClient} shared with this issue's resources
+   * @param fields the field values written
+   * @since 1.0.0
+   */
+  UpdatedIssue(Issue origin, Login login, HttpClient httpClient, Map<Field, FieldValue> fields) {
+    this(origin, login, httpClient, Optional.empty(), Optional.empty(), fields);
+  }
+
+  @Override
+  public Project project() {
+    return this.origin.project();
+  }
+
+  @Override
+  public String id() {
+    return this.origin.id();
+  }
+
+  @Override
+  public Instant creationDate() {
+    return this.origin.creationDate();
+  }
+
+  @Override
+  public String summary() {
+    return this.summary.orElseGet(this.origin::summary);
+  }
+
+  @Override
+  public Optional<String> description() {
+    final Optional<String> written;
+    if (this.description.isPresent()) {
+      written = this.description;
+    } else {
+      written = this.origin.description();
+    }
+    return written;
+  }
+
+  @Override
+  public UsersOfIssue users() {
+    return this.origin.users();
+  }
+
+  @Override
+  public Comments comments() {
+    return new DefaultComments(this.login, this, this.httpClient);
+  }
+
+  @Override
+  public IssueTimeTracking timetracking() {
+    return new DefaultIssueTimeTracking(this.login, this, this.httpClient);
+  }
+
+  @Override
+  public Issue refresh() throws IOException, UnauthorizedException {
+    return this.origin.refresh();
+  }
+
+  @Override
+  public UpdateIssue update() {
+    return new DefaultUpdateIssue(this, this.login, this.httpClient);
+  }
+
+  @Override
+  public Collection<AssignedField> fields() {
+    final List<AssignedField> assigned = new ArrayList<>();
+    this.origin.fields().stream()
+        .filter(f -> this.fields.keySet().stream().noneMatch(f::isSameField))
+        .forEach(assigned::add);
+    this.fields.forEach(
+      (field, value) -> assigned.add(new BasicAssignedField(field, this, value.asString()))
+    );
+    return assigned;
+  }
+
+  @Override
+  public int hashCode() {
+    return this.id().hashCode();
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (!(object instanceof Issue)) {
+      return false;
+    }
+
+    final Issue other = (Issue) object;
+    return this.id().equals(other.id()) && this.project().equals(other.project());
+  }
+}
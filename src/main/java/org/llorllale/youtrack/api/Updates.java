@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import org.llorllale.youtrack.api.session.Login;
+import org.llorllale.youtrack.api.session.UnauthorizedException;
+
+/**
+ * The {@link Issue issues} of a {@link Project} updated since a point in time.
+ * 
+ * <p>Meant for incremental synchronization: persist the {@link #watermark() watermark} once
+ * the {@link #stream() stream} has been consumed, and pass it to
+ * {@link Issues#updatedSince(Instant)} on the next run.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see Issues#updatedSince(Instant)
+ * @since 1.0.0
+ */
+public interface Updates {
+  /**
+   * A paginated {@link Stream} with the {@link Issue issues} updated since this
+   * {@link Updates}' starting point.
+   * 
+   * @return a {@link Stream} with the issues updated since this {@link Updates}' starting point
+   * @throws IOException if the server is unavailable
+   * @throws UnauthorizedException if the user's {@link Login} is not authorized to access this
+   *     resource
+   * @since 1.0.0
+   */
+  Stream<Issue> stream() throws IOException, UnauthorizedException;
+
+  /**
+   * The most recent update time among the issues received by {@link #stream() streams} so far.
+   * 
+   * <p>This is the starting point of these {@link Updates} until an issue updated after it has
+   * been received. Pages may be received ahead of the issues being consumed, so persist the
+   * watermark only after a stream has been consumed to its end.</p>
+   * 
+   * @return the most recent update time among the issues received so far
+   * @since 1.0.0
+   */
+  Instant watermark();
+}
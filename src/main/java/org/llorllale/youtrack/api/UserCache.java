@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Thread-safe cache of {@link User users}, keyed by their resource URL.
+ * 
+ * <p>Entries expire after a fixed time to live. Missing users are cached too, so that looking
+ * them up repeatedly doesn't hit the server either.</p>
+ * 
+ * <p>What a user sees of other users depends on its credentials, so a cache must not be shared
+ * by different {@link org.llorllale.youtrack.api.session.Login logins}: each
+ * {@link DefaultYouTrack} has its own.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see TtlCache
+ * @since 1.0.0
+ */
+final class UserCache {
+  private final TtlCache<Optional<User>> entries;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param entries the cached users, or empty for missing ones
+   * @since 1.0.0
+   */
+  UserCache(TtlCache<Optional<User>> entries) {
+    this.entries = entries;
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param ttl how long entries live
+   * @param max the maximum number of entries kept
+   * @since 1.0.0
+   */
+  UserCache(Duration ttl, int max) {
+    this(new TtlCache<>(ttl, max));
+  }
+
+  /**
+   * Entries live ten minutes, and at most 10,000 are kept.
+   * 
+   * @since 1.0.0
+   */
+  UserCache() {
+    // @checkstyle MagicNumber (1 line)
+    this(Duration.ofMinutes(10), 10_000);
+  }
+
+  /**
+   * The user cached under {@code key}, fetching it with {@code fetch} if absent or expired.
+   * 
+   * @param key the user's key
+   * @param fetch fetches the user with the given key, or empty if there's no such user
+   * @return the user, or empty if there's no such user
+   * @throws IOException from {@code fetch}
+   * @since 1.0.0
+   */
+  Optional<User> user(String key, ExceptionalFunction<String, Optional<User>, IOException> fetch)
+      throws IOException {
+    return this.entries.value(key, expired -> fetch.apply(key));
+  }
+
+  /**
+   * Caches {@code user} under {@code key}.
+   * 
+   * @param key the user's key
+   * @param user the user, or empty if there's no such user
+   * @since 1.0.0
+   */
+  void put(String key, Optional<User> user) {
+    this.entries.put(key, user);
+  }
+
+  /**
+   * The number of entries cached, including expired ones not yet evicted.
+   * 
+   * @return the number of entries cached
+   * @since 1.0.0
+   */
+  int size() {
+    return this.entries.size();
+  }
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An opt-in write-behind buffer for comments and timetracking work items.
+ * 
+ * <p>The {@link Comments} and {@link IssueTimeTracking} returned by this buffer accept writes
+ * immediately, without a round trip to YouTrack. Writes are kept in a queue per issue and sent in
+ * the background every {@code interval}: the queues of different issues are flushed
+ * concurrently, a bounded number at a time, while the writes of each issue are sent one after
+ * the other, in the order they were made. Writes that fail before reaching YouTrack, or with a
+ * {@link ServerErrorException server error}, are retried with exponential backoff; the wait
+ * between retries is scheduled, and blocks no thread.</p>
+ * 
+ * <p>{@link #flush()} is a barrier: it returns once every write accepted before it was called
+ * has been sent or given up on, and reports the writes given up on since the last flush.
+ * {@link #close()} stops the background flushes and flushes one last time. Use
+ * {@link #snapshot()} to scrape the queue's depth and the flushes' latency. This class is
+ * thread-safe.</p>
+ * 
+ * <p>Example:</p>
+ * <pre>
+ * {@code try (WriteBehind writes = new WriteBehind(Duration.ofSeconds(1))) {
+ *   writes.comments(issue).post("Deployed to staging");
+ *   writes.timetracking(issue).create(Duration.ofMinutes(15), "Deployment");
+ *   ...
+ * }}
+ * </pre>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+public final class WriteBehind implements AutoCloseable {
+  private static final int ISSUES_IN_FLIGHT = 4;
+  private static final int ATTEMPTS = 3;
+  private static final Duration BACKOFF = Duration.ofMillis(200);
+  private final BoundedCalls calls;
+  private final Retries retries;
+  private final ScheduledExecutorService timer;
+  private final ConcurrentMap<String, Queue<Write>> pending;
+  private final Queue<IOException> failures;
+  private final AtomicLong depth;
+  private final LongAdder written;
+  private final LongAdder failed;
+  private final LatencyHistogram flushes;
+  private final AtomicBoolean closed;
+  private CompletableFuture<Void> last;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param interval the time between background flushes
+   * @param concurrency the maximum number of issues whose writes are sent concurrently
+   * @param attempts the maximum number of attempts to send each write
+   * @param backoff the time to wait before the first retry; it doubles with each retry, up to a
+   *     minute
+   * @throws IllegalArgumentException if {@code concurrency} or {@code attempts} is not positive,
+   *     or {@code backoff} is negative or longer than a minute
+   * @since 1.0.0
+   */
+  public WriteBehind(Duration interval, int concurrency, int attempts, Duration backoff) {
+    this.calls = new BoundedCalls(concurrency);
+    this.pending = new ConcurrentHashMap<>();
+    this.failures = new ConcurrentLinkedQueue<>();
+    this.depth = new AtomicLong();
+    this.written = new LongAdder();
+    this.failed = new LongAdder();
+    this.flushes = new LatencyHistogram();
+    this.closed = new AtomicBoolean();
+    this.last = CompletableFuture.completedFuture(null);
+    this.timer = Executors.newSingleThreadScheduledExecutor(
+      task -> {
+        final Thread thread = new Thread(task, "youtrack-api-write-behind");
+        thread.setDaemon(true);
+        return thread;
+      }
+    );
+    this.retries = new Retries(this.calls, this.timer, attempts, backoff);
+    this.timer.scheduleWithFixedDelay(
+      this::tick, interval.toNanos(), interval.toNanos(), TimeUnit.NANOSECONDS
+    );
+  }
+
+  /**
+   * Sends the writes of up to 4 issues concurrently, and makes up to 3 attempts to send each
+   * write.
+   * 
+   * @param interval the time between background flushes
+   * @since 1.0.0
+   */
+  public WriteBehind(Duration interval) {
+    this(interval, ISSUES_IN_FLIGHT, ATTEMPTS, BACKOFF);
+  }
+
+  /**
+   * The {@code issue}'s comments, whose {@link Comments#post(String) posts} are buffered.
+   * 
+   * <p>{@link Comments#stream() Streams} are read from the server, so they only include the
+   * buffered posts once flushed.</p>
+   * 
+   * @param issue the issue
+   * @return the issue's comments, with buffered posts
+   * @since 1.0.0
+   */
+  public Comments comments(Issue issue) {
+    return new BufferedComments(issue, this);
+  }
+
+  /**
+   * The {@code issue}'s timetracking, whose {@link IssueTimeTracking#create(Duration) work items}
+   * are buffered.
+   * 
+   * <p>Work items created without a date are dated when created, not when sent.
+   * {@link IssueTimeTracking#stream() Streams} are read from the server, so they only include
+   * the buffered work items once flushed.</p>
+   * 
+   * @param issue the issue
+   * @return the issue's timetracking, with buffered work items
+   * @since 1.0.0
+   */
+  public IssueTimeTracking timetracking(Issue issue) {
+    return new BufferedTimeTracking(issue, this);
+  }
+
+  /**
+   * Sends every write accepted so far, and waits until they have been sent or given up on.
+   * 
+   * @throws IOException if writes were given up on since the last flush, whether in this flush
+   *     or in the background; the first error is the cause, the others are suppressed
+   * @since 1.0.0
+   */
+  public void flush() throws IOException {
+    this.flushing().join();
+    final IOException first = this.failures.poll();
+    if (first != null) {
+      final IOException error = new IOException("Writes to YouTrack were given up on", first);
+      for (IOException other = this.failures.poll(); other != null; 
+          other = this.failures.poll()) {
+        error.addSuppressed(other);
+      }
+      throw error;
+    }
+  }
+
+  /**
+   * A snapshot of this buffer's metrics.
+   * 
+   * @return a snapshot of this buffer's metrics
+   * @since 1.0.0
+   */
+  public WriteBehindSnapshot snapshot() {
+    return new WriteBehindSnapshot(
+      this.depth.get(),
+      this.written.sum(),
+      this.failed.sum(),
+      this.retries.count(),
+      this.flushes
+    );
+  }
+
+  /**
+   * Stops the background flushes, and {@link #flush() flushes} one last time.
+   * 
+   * <p>Writes made after this buffer is closed are rejected.</p>
+   * 
+   * @throws IOException if writes were given up on since the last flush
+   * @since 1.0.0
+   */
+  @Override
+  public void close() throws IOException {
+    this.closed.set(true);
+    try {
+      this.flush();
+    } finally {
+      this.timer.shutdown();
+    }
+  }
+
+  /**
+   * Accepts the {@code write} on the {@code issue}, to be sent with the next flush.
+   * 
+   * @param issue the issue written to
+   * @param write the write
+   * @throws IllegalStateException if this buffer is closed
+   * @since 1.0.0
+   */
+  void accept(Issue issue, Write write) {
+    if (this.closed.get()) {
+      throw new IllegalStateException("This write-behind buffer is closed");
+    }
+    this.depth.incrementAndGet();
+    this.pending.compute(
+      issue.id(),
+      (id, writes) -> {
+        final Queue<Write> queue = Optional.ofNullable(writes)
+          .orElseGet(ConcurrentLinkedQueue::new);
+        queue.add(write);
+        return queue;
+      }
+    );
+  }
+
+  /**
+   * Starts a background flush, unless the last flush is still in progress.
+   * 
+   * @since 1.0.0
+   */
+  private synchronized void tick() {
+    if (this.last.isDone()) {
+      this.flushing();
+    }
+  }
+
+  /**
+   * Schedules a flush after the one in progress, if any.
+   * 
+   * <p>Flushes never overlap, so each issue's writes are sent by one thread at a time, in order.
+   * </p>
+   * 
+   * @return a future completed when the flush is done
+   * @since 1.0.0
+   */
+  private synchronized CompletableFuture<Void> flushing() {
+    this.last = this.last.exceptionally(error -> null).thenCompose(done -> this.round());
+    return this.last;
+  }
+
+  /**
+   * Sends the writes of every issue that has any, concurrently.
+   * 
+   * @return a future completed when the writes are sent or given up on
+   * @since 1.0.0
+   */
+  private CompletableFuture<Void> round() {
+    final long start = System.nanoTime();
+    final List<CompletableFuture<Void>> drains = new ArrayList<>();
+    this.pending.keySet().forEach(id -> drains.add(this.drain(id)));
+    return CompletableFuture.allOf(drains.toArray(new CompletableFuture<?>[drains.size()]))
+      .thenRun(() -> this.flushes.record(Duration.ofNanos(System.nanoTime() - start)));
+  }
+
+  /**
+   * Sends the issue's writes, in order, until its queue is empty.
+   * 
+   * <p>Each write is sent once the previous one is sent or given up on. Writes are sent as
+   * {@link BoundedCalls calls}, so no thread is held between them.</p>
+   * 
+   * @param id the issue's id
+   * @return a future completed when the issue's queue is empty
+   * @since 1.0.0
+   */
+  private CompletableFuture<Void> drain(String id) {
+    final Write write = this.pending.getOrDefault(id, new ConcurrentLinkedQueue<>()).poll();
+    final CompletableFuture<Void> drained;
+    if (write == null) {
+      this.pending.computeIfPresent(id, (key, writes) -> remaining(writes));
+      drained = CompletableFuture.completedFuture(null);
+    } else {
+      drained = this.retries.outcome(write)
+        .exceptionally(thrown -> Optional.of(new IOException(thrown.getMessage(), thrown)))
+        .thenCompose(
+          error -> {
+            this.record(error);
+            return this.drain(id);
+          }
+        );
+    }
+    return drained;
+  }
+
+  /**
+   * Records the outcome of a write.
+   * 
+   * @param error empty if the write was sent, else the error it was given up on
+   * @since 1.0.0
+   */
+  private void record(Optional<IOException> error) {
+    if (error.isPresent()) {
+      this.failed.increment();
+      this.failures.add(error.get());
+    } else {
+      this.written.increment();
+    }
+    this.depth.decrementAndGet();
+  }
+
+  /**
+   * The queue to keep for an issue.
+   * 
+   * @param writes the issue's queue
+   * @return {@code null} if the queue is empty, so that it's removed, else the queue
+   * @since 1.0.0
+   */
+  private static Queue<Write> remaining(Queue<Write> writes) {
+    Queue<Write> queue = writes;
+    if (writes.isEmpty()) {
+      queue = null;
+    }
+    return queue;
+  }
+
+  /**
+   * A buffered write.
+   * 
+   * @since 1.0.0
+   */
+  @FunctionalInterface
+  interface Write {
+    /**
+     * Sends this write to YouTrack.
+     * 
+     * @throws IOException if the write fails
+     * @since 1.0.0
+     */
+    void send() throws IOException;
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * An immutable snapshot of the metrics of a {@link WriteBehind} buffer.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see WriteBehind#snapshot()
+ * @since 1.0.0
+ */
+public final class WriteBehindSnapshot {
+  private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+  private final long depth;
+  private final long written;
+  private final long failed;
+  private final long retries;
+  private final long flushes;
+  private final Duration mean;
+  private final Duration max;
+  private final SortedMap<Double, Duration> quantiles;
+
+  /**
+   * Ctor.
+   * 
+   * @param depth the number of writes accepted and not yet sent or given up on
+   * @param written the number of writes sent
+   * @param failed the number of writes given up on
+   * @param retries the number of retries
+   * @param latencies the histogram of flush latencies
+   * @since 1.0.0
+   */
+  @SuppressWarnings("checkstyle:ParameterNumber")
+  WriteBehindSnapshot(
+      long depth, long written, long failed, long retries, LatencyHistogram latencies
+  ) {
+    this.depth = depth;
+    this.written = written;
+    this.failed = failed;
+    this.retries = retries;
+    this.flushes = latencies.count();
+    this.mean = latencies.mean();
+    this.max = latencies.max();
+    final SortedMap<Double, Duration> values = new TreeMap<>();
+    for (double quantile : QUANTILES) {
+      values.put(quantile, latencies.quantile(quantile));
+    }
+    this.quantiles = Collections.unmodifiableSortedMap(values);
+  }
+
+  /**
+   * The depth of the queue: the number of writes accepted and not yet sent or given up on.
+   * 
+   * @return the depth of the queue
+   * @since 1.0.0
+   */
+  public long depth() {
+    return this.depth;
+  }
+
+  /**
+   * The number of writes sent.
+   * 
+   * @return the number of writes sent
+   * @since 1.0.0
+   */
+  public long written() {
+    return this.written;
+  }
+
+  /**
+   * The number of writes given up on, after all attempts failed.
+   * 
+   * @return the number of writes given up on
+   * @since 1.0.0
+   */
+  public long failed() {
+    return this.failed;
+  }
+
+  /**
+   * The number of retries of writes that failed.
+   * 
+   * @return the number of retries
+   * @since 1.0.0
+   */
+  public long retries() {
+    return this.retries;
+  }
+
+  /**
+   * The number of flushes completed, background ones included.
+   * 
+   * @return the number of flushes completed
+   * @since 1.0.0
+   */
+  public long flushes() {
+    return this.flushes;
+  }
+
+  /**
+   * The mean latency of flushes.
+   * 
+   * @return the mean latency of flushes
+   * @since 1.0.0
+   */
+  public Duration mean() {
+    return this.mean;
+  }
+
+  /**
+   * The highest latency of flushes.
+   * 
+   * @return the highest latency of flushes
+   * @since 1.0.0
+   */
+  public Duration max() {
+    return this.max;
+  }
+
+  /**
+   * Estimates of the latency of flushes at the 0.5, 0.9, 0.99 and 0.999 quantiles.
+   * 
+   * <p>Each estimate is the upper bound of the histogram bucket in which the quantile falls, and
+   * is at most twice the actual value.</p>
+   * 
+   * @return the estimated latencies, by quantile
+   * @since 1.0.0
+   */
+  public SortedMap<Double, Duration> quantiles() {
+    return this.quantiles;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+      "depth=%d written=%d failed=%d retries=%d flushes=%d mean=%s max=%s quantiles=%s",
+      this.depth, this.written, this.failed, this.retries, this.flushes, this.mean, this.max,
+      this.quantiles
+    );
+  }
+}
@@ -19,11 +19,11 @@ package org.llorllale.youtrack.api;
 import java.io.IOException;
 import java.time.Instant;
 
+import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.HttpClients;
 import org.llorllale.youtrack.api.session.Login;
 
 import org.llorllale.youtrack.api.session.UnauthorizedException;
@@ -41,6 +41,7 @@ final class XmlComment implements Comment {
   private final String text;
   private final Issue issue;
   private final Login login;
+  private final HttpClient httpClient;
 
   /**
    * Primary ctor.
@@ -50,15 +51,24 @@ final class XmlComment implements Comment {
    * @param text the comment's text
    * @param issue the issue to which the comment is attached
    * @param login the user's {@link Login}
-   * @since 0.9.0
+   * @param httpClient the {@link HttpClient} to use
+   * @since 1.0.0
    */
   @SuppressWarnings("checkstyle:ParameterNumber")
-  XmlComment(String id, long creationDate, String text, Issue issue, Login login) {
+  XmlComment(
+      String id, 
+      long creationDate, 
+      String text, 
+      Issue issue, 
+      Login login, 
+      HttpClient httpClient
+  ) {
     this.id = id;
     this.creationDate = creationDate;
     this.text = text;
     this.issue = issue;
     this.login = login;
+    this.httpClient = httpClient;
   }
 
   /**
@@ -66,16 +76,19 @@ final class XmlComment implements Comment {
    * @param issue the {@link Issue} to which this comment is attached
    * @param login the user's session
    * @param xml comment's XML object received from YouTrack
+   * @param httpClient the {@link HttpClient} to use
    * @throws UncheckedException from {@link XmlOf#textOf(String)}
    * @since 1.0.0
    */
-  XmlComment(Issue issue, Login login, Xml xml) throws UncheckedException {
+  XmlComment(Issue issue, Login login, Xml xml, HttpClient httpClient) 
+      throws UncheckedException {
     this(
       xml.textOf("//@id").get(), 
       Long.parseLong(xml.textOf("//@created").get()), 
       xml.textOf("//@text").get(), 
       issue, 
-      login
+      login,
+      httpClient
     );
   }
 
@@ -101,41 +114,47 @@ final class XmlComment implements Comment {
 
   @Override
   public Comment update(String txt) throws IOException, UnauthorizedException {
-    new HttpResponseAsResponse(
-      HttpClients.createDefault().execute(
-        new HttpRequestWithSession(
-          this.login.session(),
-          new HttpRequestWithEntity(
-            new StringEntity(
-              String.format("{\"text\": \"%s\"}", txt),
-              ContentType.APPLICATION_JSON
-            ),
-            new HttpPut(
-              new UncheckedUriBuilder(
-                this.login.session().baseUrl().toString()
-                  .concat(
-                    String.format(PATH_TEMPLATE, this.issue().id(), this.id())
-                  )
-              ).build()
+    new ConsumedResponse(
+      new HttpResponseAsResponse(
+        this.httpClient.execute(
+          new HttpRequestWithSession(
+            this.login.session(),
+            new HttpRequestWithEntity(
+              new StringEntity(
+                String.format("{\"text\": \"%s\"}", txt),
+                ContentType.APPLICATION_JSON
+              ),
+              new HttpPut(
+                new UncheckedUriBuilder(
+                  this.login.session().baseUrl().toString()
+                    .concat(
+                      String.format(PATH_TEMPLATE, this.issue().id(), this.id())
+                    )
+                ).build()
+              )
             )
           )
         )
       )
     ).httpResponse();
-    return new XmlComment(this.id, this.creationDate, txt, this.issue(), this.login);
+    return new XmlComment(
+      this.id, this.creationDate, txt, this.issue(), this.login, this.httpClient
+    );
   }
 
   @Override
   public Issue delete() throws IOException, UnauthorizedException {
-    new HttpResponseAsResponse(
-      HttpClients.createDefault().execute(
-        new HttpRequestWithSession(
-          this.login.session(),
-          new HttpDelete(
-            this.login.session().baseUrl().toString()
-              .concat(
-                String.format(PATH_TEMPLATE, this.issue().id(), this.id())
-              )
+    new ConsumedResponse(
+      new HttpResponseAsResponse(
+        this.httpClient.execute(
+          new HttpRequestWithSession(
+            this.login.session(),
+            new HttpDelete(
+              this.login.session().baseUrl().toString()
+                .concat(
+                  String.format(PATH_TEMPLATE, this.issue().id(), this.id())
+                )
+            )
           )
         )
       )
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.regex.Pattern;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * Pulls the elements found at a given path out of an XML {@link InputStream}, one at a time.
+ * 
+ * <p>The input is read with a StAX cursor: neither the whole payload in {@link String} form nor
+ * a DOM of the whole document is ever built. Each matching element is materialized as its own
+ * detached {@link Document}, so XPath expressions evaluated on it are scoped to that element
+ * alone.</p>
+ * 
+ * <p>Supported paths are simple location steps: absolute ones ({@code /issues/issue}), ones
+ * relative to any depth ({@code //comment}), and the {@code *} wildcard for a single step
+ * ({@code /*}).</p>
+ * 
+ * <p>DTDs and external entities are not supported: the input comes from a remote server and must
+ * not be able to make the parser read local files or open connections.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class XmlFragments implements Iterator<Xml> {
+  private static final XMLInputFactory FACTORY = factory();
+  private final Pattern path;
+  private final XMLStreamReader reader;
+  private final DocumentBuilder builder;
+  private final Deque<String> ancestors;
+
+  /**
+   * Ctor.
+   * 
+   * @param path the path of the elements to pull out of {@code input}
+   * @param input the XML input
+   * @throws UncheckedException if the XML input cannot be opened
+   * @since 1.0.0
+   */
+  XmlFragments(String path, InputStream input) throws UncheckedException {
+    this.path = Pattern.compile(
+        path.replace("*", "[^/]+").replaceFirst("^//", ".*/")
+    );
+    try {
+      this.reader = FACTORY.createXMLStreamReader(input);
+      this.builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+    } catch(XMLStreamException | ParserConfigurationException e) {
+      throw new UncheckedException(e.getMessage(), e);
+    }
+    this.ancestors = new ArrayDeque<>();
+  }
+
+  /**
+   * A StAX factory that ignores DTDs and never resolves external entities.
+   * 
+   * @return the factory
+   * @since 1.0.0
+   */
+  private static XMLInputFactory factory() {
+    final XMLInputFactory factory = XMLInputFactory.newFactory();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
+  }
+
+  @Override
+  public boolean hasNext() throws UncheckedException {
+    try {
+      while (!this.atMatch() && this.reader.hasNext()) {
+        this.track();
+        this.reader.next();
+      }
+    } catch(XMLStreamException e) {
+      throw new UncheckedException(e.getMessage(), e);
+    }
+    return this.atMatch();
+  }
+
+  @Override
+  public Xml next() throws UncheckedException {
+    if (!this.hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return this.fragment();
+  }
+
+  /**
+   * Reads the element at the reader's current position into a detached document.
+   * 
+   * <p>The reader is left positioned at the event following the element's end.</p>
+   * 
+   * @return the element as a detached {@link Xml}
+   * @throws UncheckedException if there's an error parsing the xml input
+   * @since 1.0.0
+   */
+  private Xml fragment() throws UncheckedException {
+    final Document doc = this.builder.newDocument();
+    Node current = doc;
+    try {
+      do {
+        current = this.append(doc, current);
+        this.reader.next();
+      } while (current != doc);
+    } catch(XMLStreamException e) {
+      throw new UncheckedException(e.getMessage(), e);
+    }
+    return new XmlOf(doc);
+  }
+
+  /**
+   * Whether the reader is positioned at the start of an element found at the desired path.
+   * 
+   * @return whether the reader is positioned at a matching element
+   * @since 1.0.0
+   */
+  private boolean atMatch() {
+    boolean match = false;
+    if (this.reader.isStartElement()) {
+      final StringBuilder location = new StringBuilder();
+      this.ancestors.forEach(name -> location.append('/').append(name));
+      location.append('/').append(this.reader.getLocalName());
+      match = this.path.matcher(location).matches();
+    }
+    return match;
+  }
+
+  /**
+   * Keeps track of the ancestors of the reader's current position as it skips over events.
+   * 
+   * @since 1.0.0
+   */
+  private void track() {
+    if (this.reader.isStartElement()) {
+      this.ancestors.addLast(this.reader.getLocalName());
+    } else if (this.reader.isEndElement()) {
+      this.ancestors.removeLast();
+    }
+  }
+
+  /**
+   * Appends the reader's current event to the fragment being built.
+   * 
+   * @param doc the fragment being built
+   * @param current the node currently being appended to
+   * @return the node to append the next event to
+   * @since 1.0.0
+   */
+  private Node append(Document doc, Node current) {
+    final Node next;
+    switch (this.reader.getEventType()) {
+      case XMLStreamConstants.START_ELEMENT:
+        next = current.appendChild(this.element(doc));
+        break;
+      case XMLStreamConstants.END_ELEMENT:
+        next = current.getParentNode();
+        break;
+      case XMLStreamConstants.CHARACTERS:
+      case XMLStreamConstants.CDATA:
+        current.appendChild(doc.createTextNode(this.reader.getText()));
+        next = current;
+        break;
+      default:
+        next = current;
+        break;
+    }
+    return next;
+  }
+
+  /**
+   * Creates an element with the name and attributes of the reader's current start element.
+   * 
+   * @param doc the document that will own the element
+   * @return the new element
+   * @since 1.0.0
+   */
+  private Element element(Document doc) {
+    final Element element = doc.createElement(this.reader.getLocalName());
+    for (int i = 0; i < this.reader.getAttributeCount(); i++) {
+      element.setAttribute(
+          this.reader.getAttributeLocalName(i),
+          this.reader.getAttributeValue(i)
+      );
+    }
+    return element;
+  }
+}
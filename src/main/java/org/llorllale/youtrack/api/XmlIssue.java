@@ -20,6 +20,8 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.Optional;
+
+import org.apache.http.client.HttpClient;
 import org.llorllale.youtrack.api.session.Login;
 
 import org.llorllale.youtrack.api.session.UnauthorizedException;
@@ -36,6 +38,7 @@ final class XmlIssue implements Issue {
   private final Project project;
   private final Login login;
   private final Xml xml;
+  private final HttpClient httpClient;
 
   /**
    * Primary ctor.
@@ -43,16 +46,19 @@ final class XmlIssue implements Issue {
    * @param project this {@link Issue issue's} {@link Project}
    * @param login the user's {@link Login}
    * @param xml the xml object received from YouTrack
-   * @since 0.1.0
+   * @param httpClient the {@link HttpClient} shared with this issue's resources
+   * @since 1.0.0
    */
   XmlIssue(
       Project project, 
       Login login, 
-      Xml xml
+      Xml xml,
+      HttpClient httpClient
   ) {
     this.project = project;
     this.login = login;
     this.xml = xml;
+    this.httpClient = httpClient;
   }
 
   @Override
@@ -86,12 +92,12 @@ final class XmlIssue implements Issue {
 
   @Override
   public Comments comments() {
-    return new DefaultComments(this.login, this);
+    return new DefaultComments(this.login, this, this.httpClient);
   }
 
   @Override
   public IssueTimeTracking timetracking() {
-    return new DefaultIssueTimeTracking(this.login, this);
+    return new DefaultIssueTimeTracking(this.login, this, this.httpClient);
   }
 
   @Override
@@ -108,7 +114,7 @@ final class XmlIssue implements Issue {
 
   @Override
   public UpdateIssue update() {
-    return new DefaultUpdateIssue(this, this.login);
+    return new DefaultUpdateIssue(this, this.login, this.httpClient);
   }
 
   @Override
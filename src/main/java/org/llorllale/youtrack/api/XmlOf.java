@@ -19,9 +19,8 @@ package org.llorllale.youtrack.api;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Optional;
+import javax.xml.namespace.QName;
 import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -34,15 +33,30 @@ import org.w3c.dom.NodeList;
  */
 final class XmlOf implements Xml {
   private final Node xml;
+  private final CompiledXPaths xpaths;
 
   /**
    * Primary ctor.
    * 
    * @param xml the node to operate against
+   * @param xpaths the registry of compiled xpath expressions
    * @since 1.0.0
    */
-  XmlOf(Node xml) {
+  XmlOf(Node xml, CompiledXPaths xpaths) {
     this.xml = xml;
+    this.xpaths = xpaths;
+  }
+
+  /**
+   * Ctor.
+   * 
+   * <p>Uses the {@link CompiledXPaths#SHARED shared} registry of compiled xpath expressions.</p>
+   * 
+   * @param xml the node to operate against
+   * @since 1.0.0
+   */
+  XmlOf(Node xml) {
+    this(xml, CompiledXPaths.SHARED);
   }
 
   /**
@@ -59,19 +73,13 @@ final class XmlOf implements Xml {
    * Encapsulates the given {@link Response} as a {@link XmlObject}.
    * 
    * @param response the response to encapsulate
-   * @throws IOException from {@link InputStreamAsString#apply(java.io.InputStream)}
-   * @throws UncheckedException from {@link StringAsDocument}
-   * @see #XmlOf(org.w3c.dom.Node) 
+   * @throws IOException if there's an error reading the response's entity's contents, or if its
+   *     payload is empty or not xml
+   * @see XmlsOf#XmlsOf(java.lang.String, org.llorllale.youtrack.api.Response) 
    * @since 1.0.0
    */
-  XmlOf(Response response) throws UncheckedException, IOException {
-    this(
-        new StringAsDocument(
-            new InputStreamAsString().apply(
-                response.httpResponse().getEntity().getContent()
-            )
-        ).getDocumentElement()
-    );
+  XmlOf(Response response) throws IOException {
+    this(root(response));
   }
 
   /**
@@ -93,24 +101,54 @@ final class XmlOf implements Xml {
 
   @Override
   public Optional<Xml> child(String xpath) throws UncheckedException {
-    return this.children(xpath).stream().findFirst();
+    return Optional.ofNullable(
+        (Node) this.evaluate(xpath, XPathConstants.NODE)
+    ).map(n -> new XmlOf(n, this.xpaths));
   }
 
   @Override
   public Collection<Xml> children(String xpath) throws UncheckedException {
-    try {
-      return new XmlsOf(
-          (NodeList) XPathFactory.newInstance()
-              .newXPath()
-              .evaluate(xpath, this.node(), XPathConstants.NODESET)
-      );
-    } catch(XPathExpressionException e) {
-      throw new UncheckedException(e.getMessage(), e);
-    }
+    return new XmlsOf((NodeList) this.evaluate(xpath, XPathConstants.NODESET));
   }
 
   @Override
   public Node node() {
     return this.xml;
   }
+
+  /**
+   * The root element of the response's payload.
+   * 
+   * @param response the response
+   * @return the root element of the response's payload
+   * @throws IOException if there's an error reading the response's entity's contents, or if its
+   *     payload is empty or not xml
+   * @since 1.0.0
+   */
+  private static Node root(Response response) throws IOException {
+    final Collection<Xml> roots;
+    try {
+      roots = new XmlsOf("/*", response);
+    } catch(UncheckedException e) {
+      throw new IOException("The response's payload is not xml", e);
+    }
+    if (roots.isEmpty()) {
+      throw new IOException("The response has no xml payload");
+    }
+    return roots.iterator().next().node();
+  }
+
+  /**
+   * Evaluates {@code xpath} against this node using its compiled form.
+   * 
+   * @param xpath the xpath expression
+   * @param type the expected return type
+   * @return the result of the evaluation
+   * @throws UncheckedException if there's an error compiling or evaluating {@code xpath}
+   * @see CompiledXPaths
+   * @since 1.0.0
+   */
+  private Object evaluate(String xpath, QName type) throws UncheckedException {
+    return this.xpaths.evaluate(xpath, this.node(), type);
+  }
 }
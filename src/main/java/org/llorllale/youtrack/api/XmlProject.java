@@ -17,6 +17,8 @@
 package org.llorllale.youtrack.api;
 
 import java.util.Optional;
+
+import org.apache.http.client.HttpClient;
 import org.llorllale.youtrack.api.session.Login;
 
 /**
@@ -29,23 +31,50 @@ final class XmlProject implements Project {
   private final YouTrack youtrack;
   private final Login login;
   private final Xml xml;
+  private final HttpClient httpClient;
+  private final UserCache users;
 
   /**
-   * Ctor.
+   * Primary ctor.
    * 
    * @param youtrack the parent {@link YouTrack}
    * @param login the user's {@link Login}
    * @param xml the XML object received from YouTrack to be adapted into {@link Project}
-   * @since 0.2.0
+   * @param httpClient the {@link HttpClient} shared with this project's resources
+   * @param users the cache of the users seen by the {@code login}
+   * @since 1.0.0
    */
+  @SuppressWarnings("checkstyle:ParameterNumber")
   XmlProject(
       YouTrack youtrack, 
       Login login, 
-      Xml xml
+      Xml xml,
+      HttpClient httpClient,
+      UserCache users
   ) {
     this.youtrack = youtrack;
     this.login = login;
     this.xml = xml;
+    this.httpClient = httpClient;
+    this.users = users;
+  }
+
+  /**
+   * Caches users for this project only.
+   * 
+   * @param youtrack the parent {@link YouTrack}
+   * @param login the user's {@link Login}
+   * @param xml the XML object received from YouTrack to be adapted into {@link Project}
+   * @param httpClient the {@link HttpClient} shared with this project's resources
+   * @since 1.0.0
+   */
+  XmlProject(
+      YouTrack youtrack, 
+      Login login, 
+      Xml xml,
+      HttpClient httpClient
+  ) {
+    this(youtrack, login, xml, httpClient, new UserCache());
   }
 
   @Override
@@ -67,7 +96,7 @@ final class XmlProject implements Project {
 
   @Override
   public Issues issues() {
-    return new DefaultIssues(this, this.login);
+    return new DefaultIssues(this, this.login, this.httpClient);
   }
 
   @Override
@@ -77,12 +106,12 @@ final class XmlProject implements Project {
 
   @Override
   public Fields fields() {
-    return new DefaultFields(this.login, this);
+    return new DefaultFields(this.login, this, this.httpClient);
   }
 
   @Override
   public ProjectTimeTracking timetracking() {
-    return new DefaultProjectTimeTracking(this, this.login);
+    return new DefaultProjectTimeTracking(this, this.login, this.httpClient);
   }
 
   @Override
@@ -102,6 +131,6 @@ final class XmlProject implements Project {
 
   @Override
   public UsersOfProject users() {
-    return new XmlUsersOfProject(this, this.login, this.xml);
+    return new XmlUsersOfProject(this, this.login, this.xml, this.httpClient, this.users);
   }
 }
@@ -21,7 +21,6 @@ import java.util.stream.Stream;
 
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpGet;
-import org.apache.http.impl.client.HttpClients;
 import org.llorllale.youtrack.api.session.Login;
 
 import org.llorllale.youtrack.api.session.UnauthorizedException;
@@ -29,6 +28,8 @@ import org.llorllale.youtrack.api.session.UnauthorizedException;
 /**
  * JAXB adapter for {@link Field}.
  * 
+ * <p>The field's {@link #values() values} are served from a {@link BundleCache}.</p>
+ * 
  * @author George Aristy (george.aristy@gmail.com)
  * @since 0.8.0
  */
@@ -37,20 +38,40 @@ final class XmlProjectField implements ProjectField {
   private final Project project;
   private final Login login;
   private final HttpClient httpClient;
+  private final BundleCache cache;
 
   /**
-   * Ctor.
+   * Primary ctor.
    * 
    * @param xml the XML object received for this field from YouTrack
    * @param project the owner {@link Project}
    * @param login the user's {@link Login}
-   * @since 0.8.0
+   * @param httpClient the {@link HttpClient} to use
+   * @param cache the cache of bundles
+   * @since 1.0.0
    */
-  XmlProjectField(Xml xml, Project project, Login login) {
+  @SuppressWarnings("checkstyle:ParameterNumber")
+  XmlProjectField(
+      Xml xml, Project project, Login login, HttpClient httpClient, BundleCache cache
+  ) {
     this.xml = xml;
     this.project = project;
     this.login = login;
-    this.httpClient = HttpClients.createDefault();
+    this.httpClient = httpClient;
+    this.cache = cache;
+  }
+
+  /**
+   * Uses the {@link BundleCache#SHARED shared} cache of bundles.
+   * 
+   * @param xml the XML object received for this field from YouTrack
+   * @param project the owner {@link Project}
+   * @param login the user's {@link Login}
+   * @param httpClient the {@link HttpClient} to use
+   * @since 1.0.0
+   */
+  XmlProjectField(Xml xml, Project project, Login login, HttpClient httpClient) {
+    this(xml, project, login, httpClient, BundleCache.SHARED);
   }
 
   @Override
@@ -65,47 +86,23 @@ final class XmlProjectField implements ProjectField {
 
   @Override
   public Stream<FieldValue> values() throws IOException, UnauthorizedException {
-    final String bundleName = new XmlsOf(
-      "/projectCustomField/param",
-      new HttpResponseAsResponse(
-        this.httpClient.execute(
-          new HttpRequestWithSession(
-            this.login.session(),
-            new HttpGet(
-              this.login.session().baseUrl().toString()
-                .concat("/admin/project/")
-                .concat(this.project().id())
-                .concat("/customfield/")
-                .concat(new SubstringAfterLast(
-                  this.xml.textOf("@url").get(), 
-                  "/"
-                ).get())
-            )
-          )
-        )
-      )
-    ).stream().findAny().get().textOf("@value").get();
-    return new StreamOf<>(
-      new MappedCollection<>(
-        x -> new XmlFieldValue(x, new XmlProjectField(this.xml, this.project, this.login)),
-        new XmlsOf(
-          "/enumeration/value",
-          new HttpResponseAsResponse(
-            this.httpClient.execute(
-              new HttpRequestWithSession(
-                this.login.session(),
-                new HttpGet(
-                  new UncheckedUriBuilder(
-                    this.login.session().baseUrl(),
-                    "/admin/customfield/bundle/".concat(bundleName)
-                  ).build()
-                )
-              )
-            )
-          )
+    final String bundle = new UncheckedUriBuilder(
+      this.login.session().baseUrl(),
+      "/admin/customfield/bundle/".concat(
+        this.cache.name(
+          this.login.session().baseUrl().toString()
+            .concat("/admin/project/")
+            .concat(this.project().id())
+            .concat("/customfield/")
+            .concat(new SubstringAfterLast(this.xml.textOf("@url").get(), "/").get()),
+          this::bundleName
         )
       )
-    );
+    ).build().toString();
+    return this.cache.bundle(bundle, new RemoteBundle(this.login, this.httpClient, bundle))
+      .values()
+      .stream()
+      .map(v -> new BasicFieldValue(v, this));
   }
 
   @Override
@@ -122,4 +119,24 @@ final class XmlProjectField implements ProjectField {
     final Field other = (Field) obj;
     return this.isSameField(other);
   }
+
+  /**
+   * The name of the bundle used by the field described at {@code url}.
+   * 
+   * @param url the URL of the field's descriptor
+   * @return the bundle's name
+   * @throws IOException if the server is unavailable
+   * @throws UnauthorizedException if the user's login is unauthorized
+   * @since 1.0.0
+   */
+  private String bundleName(String url) throws IOException, UnauthorizedException {
+    return new XmlsOf(
+      "/projectCustomField/param",
+      new HttpResponseAsResponse(
+        this.httpClient.execute(
+          new HttpRequestWithSession(this.login.session(), new HttpGet(url))
+        )
+      )
+    ).stream().findAny().get().textOf("@value").get();
+  }
 }
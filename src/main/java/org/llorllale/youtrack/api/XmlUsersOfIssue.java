@@ -24,12 +24,14 @@ import org.llorllale.youtrack.api.session.UnauthorizedException;
 /**
  * Default implementation of {@link UsersOfIssue}.
  * 
+ * <p>The users' logins are read from the issue's xml, and the users are {@link LazyUser lazy}:
+ * their details are only fetched from YouTrack if requested.</p>
+ * 
  * @author George Aristy (george.aristy@gmail.com)
  * @since 0.5.0
  */
 final class XmlUsersOfIssue implements UsersOfIssue {
-  private final Issue issue;
-  private final Xml xml;
+  private final UsersOfIssue base;
 
   /**
    * Primary ctor.
@@ -42,61 +44,33 @@ final class XmlUsersOfIssue implements UsersOfIssue {
       Issue issue,
       Xml xml
   ) {
-    this.issue = issue;
-    this.xml = xml;
+    this.base = new BasicUsersOfIssue(
+      issue, name -> xml.textOf(String.format("//field[@name = '%s']/value", name))
+    );
   }
 
   @Override
   public User creator() throws IOException, UnauthorizedException {
-    return this.issue().project().users().user(
-      this.xml.textOf("//field[@name = 'reporterName']/value").get()
-    );
+    return this.base.creator();
   }
 
   @Override
   public Optional<User> updater() throws IOException, UnauthorizedException {
-    return this.user(
-      this.xml.textOf("//field[@name = 'updaterName']/value")
-    );
+    return this.base.updater();
   }
 
   @Override
   public Optional<User> assignee() throws IOException, UnauthorizedException {
-    return this.user(
-      this.xml.textOf("//field[@name = 'Assignee']/value")
-    );
+    return this.base.assignee();
   }
 
   @Override
   public UsersOfIssue assignTo(User user) throws IOException, UnauthorizedException {
-    final Field field = new BasicField("Assignee", this.issue().project());
-    return this.issue().update().field(
-      field,
-      new BasicFieldValue(user.loginName(), field)
-    ).users();
+    return this.base.assignTo(user);
   }
 
   @Override
   public Issue issue() {
-    return this.issue;
-  }
-
-  /**
-   * A little common code to fetch a user whose login is optional.
-   * 
-   * @param login the user's login
-   * @return an optional describing the user
-   * @throws UnauthorizedException thrown by {@link UsersOfProject#user(java.lang.String)}
-   * @throws IOException thrown by {@link UsersOfProject#user(java.lang.String)}
-   * @since 1.0.0
-   */
-  private Optional<User> user(Optional<String> login) throws UnauthorizedException, IOException {
-    final Optional<User> user;
-    if (login.isPresent()) {
-      user = Optional.of(this.issue().project().users().user(login.get()));
-    } else {
-      user = Optional.empty();
-    }
-    return user;
+    return this.base.issue();
   }
 }
@@ -19,15 +19,14 @@ package org.llorllale.youtrack.api;
 import java.io.IOException;
 import java.util.stream.Stream;
 import org.apache.http.client.HttpClient;
-
-import org.apache.http.client.methods.HttpGet;
-import org.apache.http.impl.client.HttpClients;
 import org.llorllale.youtrack.api.session.Login;
 
 import org.llorllale.youtrack.api.session.UnauthorizedException;
 
 /**
  * Default impl of {@link UsersOfProject}.
+ * 
+ * <p>Users are looked up in a {@link UserCache} before being fetched from YouTrack.</p>
  *
  * @author George Aristy (george.aristy@gmail.com)
  * @since 0.9.0
@@ -37,6 +36,7 @@ final class XmlUsersOfProject implements UsersOfProject {
   private final Login login;
   private final Xml xml;
   private final HttpClient httpClient;
+  private final UserCache cache;
 
   /**
    * Primary ctor.
@@ -45,25 +45,33 @@ final class XmlUsersOfProject implements UsersOfProject {
    * @param login the users's {@link Login}
    * @param xml the xml object received from YouTrack for this {@link #project() project}
    * @param httpClient the {@link HttpClient} to use
-   * @since 0.9.0
+   * @param cache the cache of users fetched
+   * @since 1.0.0
    */
-  XmlUsersOfProject(Project project, Login login, Xml xml, HttpClient httpClient) {
+  @SuppressWarnings("checkstyle:ParameterNumber")
+  XmlUsersOfProject(
+      Project project, Login login, Xml xml, HttpClient httpClient, UserCache cache
+  ) {
     this.project = project;
     this.login = login;
     this.xml = xml;
     this.httpClient = httpClient;
+    this.cache = cache;
   }
 
   /**
    * Ctor.
    * 
+   * <p>Caches users for this instance only.</p>
+   * 
    * @param project the {@link Project} in scope
    * @param login the users's {@link Login}
    * @param xml the xml object received from YouTrack for this {@link #project() project}
-   * @since 1.0.0
+   * @param httpClient the {@link HttpClient} to use
+   * @since 0.9.0
    */
-  XmlUsersOfProject(Project project, Login login, Xml xml) {
-    this(project, login, xml, HttpClients.createDefault());
+  XmlUsersOfProject(Project project, Login login, Xml xml, HttpClient httpClient) {
+    this(project, login, xml, httpClient, new UserCache());
   }
 
   @Override
@@ -73,21 +81,10 @@ final class XmlUsersOfProject implements UsersOfProject {
 
   @Override
   public User user(String userLogin) throws IOException, UnauthorizedException {
-    return new XmlUser(
-      new XmlsOf(
-        "/user",
-        new HttpResponseAsResponse(
-          this.httpClient.execute(
-            new HttpRequestWithSession(
-              this.login.session(),
-              new HttpGet(
-                this.login.session().baseUrl().toString().concat("/user/").concat(userLogin)
-              )
-            )
-          )
-        )
-      ).stream().findAny().get()
-    );
+    return this.cache.user(
+      this.login.session().baseUrl().toString().concat("/user/").concat(userLogin),
+      new RemoteUser(this.login, this.httpClient)
+    ).orElseThrow(() -> new IOException(String.format("User %s not found", userLogin)));
   }
 
   @Override
@@ -58,38 +58,22 @@ final class XmlsOf extends AbstractCollection<Xml> {
   /**
    * Ctor.
    * 
-   * <p>This constructor hides this tedious code:
-   * <pre>
-   * {@code 
-   * new XmlOf(
-   *     new StringAsDocument(
-   *         new InputStreamAsString().apply(
-   *             response.httpResponse().getEntity().getContent()
-   *         )
-   *     )
-   * ).children(xpath);
-   * }
-   * </pre>
+   * <p>The response's payload is streamed: every element found at {@code path} is pulled out as
+   * its own detached {@link Xml} by {@link XmlFragments}. The payload is read to its end and the
+   * stream is closed before this constructor returns, releasing the underlying connection, so
+   * all the elements are held at once: use {@link MappedXmls} to map large payloads element by
+   * element instead.</p>
    * 
-   * @param xpath the xpath expression used to add Xml nodes to this collection
+   * @param path the path of the elements to add to this collection
    * @param response the response object to encapsulate
    * @throws IOException if there's an error reading the response's entity's contents
-   * @throws UncheckedException if there's an error parsing the xml payload into a document node or
-   *    if there's an error while appyling {@code xpath}
-   * @see InputStreamAsString
-   * @see StringAsDocument
+   * @throws UncheckedException if there's an error parsing the xml payload
+   * @see XmlFragments
    * @see Xml
    * @since 1.0.0
    */
-  XmlsOf(String xpath, Response response) throws IOException, UncheckedException {
-    this.base = 
-      new XmlOf(
-        new StringAsDocument(
-          new InputStreamAsString().apply(
-            response.httpResponse().getEntity().getContent()
-          )
-        )
-      ).children(xpath);
+  XmlsOf(String path, Response response) throws IOException, UncheckedException {
+    this.base = new MappedXmls<>(path, response, xml -> xml);
   }
 
   @Override
@@ -16,13 +16,20 @@
 
 package org.llorllale.youtrack.api;
 
+import java.io.Closeable;
+import java.io.IOException;
+import org.llorllale.youtrack.api.session.UnauthorizedException;
+
 /**
  * Entry point for the YouTrack API.
  * 
+ * <p>Instances hold on to the connections opened to the server until they are
+ * {@link #close() closed}, after which nothing obtained from them may be used.
+ * 
  * @author George Aristy (george.aristy@gmail.com)
  * @since 0.4.0
  */
-public interface YouTrack {
+public interface YouTrack extends Closeable {
   /**
    * Access to the {@link Project projects} API.
    * 
@@ -30,4 +37,17 @@ public interface YouTrack {
    * @since 0.4.0
    */
   Projects projects();
+
+  /**
+   * Fetches all users registered in YouTrack into this instance's cache of users, so that
+   * resolving users through its {@link #projects() projects} afterwards doesn't hit the server.
+   * 
+   * <p>Requires the permission to list users. Cached users expire after ten minutes.</p>
+   * 
+   * @return the number of users preloaded
+   * @throws IOException if the server is unavailable
+   * @throws UnauthorizedException if the user is not allowed to list users
+   * @since 1.0.0
+   */
+  int preloadUsers() throws IOException, UnauthorizedException;
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Creates the threads that run the {@link FanOut fanned-out} blocking calls to YouTrack.
+ * 
+ * <p>Java 21+ version: each task runs on its own virtual thread, so tens of thousands of
+ * blocking calls can wait on the network concurrently without tying up platform threads. The
+ * number of calls in flight is bounded by the callers (eg. prefetch lookahead,
+ * {@link BoundedCalls}).</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class FanOutThreads implements Supplier<ExecutorService> {
+  private final String name;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param threads ignored: virtual threads are not pooled
+   * @param name the prefix of the threads' names
+   * @since 1.0.0
+   */
+  FanOutThreads(int threads, String name) {
+    this.name = name;
+  }
+
+  /**
+   * The threads of the process-wide {@link FanOut} executor.
+   * 
+   * @since 1.0.0
+   */
+  FanOutThreads() {
+    this(0, "youtrack-api-fanout");
+  }
+
+  @Override
+  public ExecutorService get() {
+    return Executors.newThreadPerTaskExecutor(
+      Thread.ofVirtual().name(this.name + "-", 0).factory()
+    );
+  }
+}
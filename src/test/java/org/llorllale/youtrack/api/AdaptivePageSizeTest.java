@@ -0,0 +1,205 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.http.MockHttpClient;
+import org.llorllale.youtrack.api.mock.http.response.MockOkResponse;
+import org.llorllale.youtrack.api.mock.server.MockDataset;
+import org.llorllale.youtrack.api.mock.server.MockYouTrackServer;
+
+/**
+ * Unit tests for {@link AdaptivePageSize}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class AdaptivePageSizeTest {
+  /**
+   * Starts at the minimum.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void startsAtMin() {
+    assertThat(this.size().next(), is(10));
+  }
+
+  /**
+   * Doubles while both latency and length are well under their targets, up to the maximum.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void growsUpToMax() {
+    final AdaptivePageSize size = this.size();
+    size.adapt(Duration.ofMillis(100), 1000);
+    assertThat(size.next(), is(20));
+    size.adapt(Duration.ofMillis(100), 1000);
+    size.adapt(Duration.ofMillis(100), 1000);
+    assertThat(size.next(), is(50));
+  }
+
+  /**
+   * Halves when the latency exceeds its target, down to the minimum.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void shrinksOnLatency() {
+    final AdaptivePageSize size = this.size();
+    size.adapt(Duration.ofMillis(100), 1000);
+    size.adapt(Duration.ofMillis(100), 1000);
+    size.adapt(Duration.ofSeconds(2), 1000);
+    assertThat(size.next(), is(20));
+    size.adapt(Duration.ofSeconds(2), 1000);
+    size.adapt(Duration.ofSeconds(2), 1000);
+    assertThat(size.next(), is(10));
+  }
+
+  /**
+   * Halves when the payload's length exceeds its target.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void shrinksOnLength() {
+    final AdaptivePageSize size = this.size();
+    size.adapt(Duration.ofMillis(100), 1000);
+    size.adapt(Duration.ofMillis(100), 20_000);
+    assertThat(size.next(), is(10));
+  }
+
+  /**
+   * Keeps the size when observations are between half the targets and the targets.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void keepsWithinTargets() {
+    final AdaptivePageSize size = this.size();
+    size.adapt(Duration.ofMillis(700), 1000);
+    assertThat(size.next(), is(10));
+  }
+
+  /**
+   * Unknown payload lengths are judged by latency alone.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void unknownLength() {
+    final AdaptivePageSize size = this.size();
+    size.adapt(Duration.ofMillis(100), -1);
+    assertThat(size.next(), is(20));
+  }
+
+  /**
+   * Observing a page still returns its mapped contents.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void observedMaps() throws Exception {
+    final List<String> contents = Collections.singletonList("a");
+    assertThat(
+      this.size().observed(new MockHttpClient(new MockOkResponse("<issues/>")), r -> contents)
+        .apply(new HttpGet("http://localhost/issues")),
+      is(contents)
+    );
+  }
+
+  /**
+   * Pages are timed from the moment their request is sent, not when their response arrives.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void timesWholeRequest() throws Exception {
+    try (MockYouTrackServer server = new MockYouTrackServer(
+      new MockDataset(1, 1, 0, 0), Duration.ofMillis(300), 0, 0
+    )) {
+      final AdaptivePageSize size = new AdaptivePageSize(
+        10, 50, Duration.ofMillis(200), 10_000
+      );
+      final String uri = server.url() + "/project/all";
+      size.observed(HttpClients.createDefault(), r -> Collections.emptyList())
+        .apply(new HttpGet(uri));
+      assertThat(size.next(), is(10));
+      size.adapt(Duration.ZERO, 0);
+      assertThat(size.next(), is(20));
+      size.observed(HttpClients.createDefault(), r -> Collections.emptyList())
+        .apply(new HttpGet(uri));
+      assertThat(size.next(), is(10));
+    }
+  }
+
+  /**
+   * A fresh page size starts over at the minimum.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void fresh() {
+    final AdaptivePageSize size = this.size();
+    size.adapt(Duration.ofMillis(100), 1000);
+    assertThat(size.fresh().next(), is(10));
+  }
+
+  /**
+   * The latency target must be positive.
+   * 
+   * @since 1.0.0
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void zeroLatency() {
+    new AdaptivePageSize(10, 50, Duration.ZERO, 10_000);
+  }
+
+  /**
+   * The length target must be positive.
+   * 
+   * @since 1.0.0
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void negativeBytes() {
+    new AdaptivePageSize(10, 50, Duration.ofSeconds(1), -1);
+  }
+
+  /**
+   * A page size between 10 and 50, targeting 1 second and 10000 bytes per page.
+   * 
+   * @return the page size
+   * @since 1.0.0
+   */
+  private AdaptivePageSize size() {
+    return new AdaptivePageSize(10, 50, Duration.ofSeconds(1), 10_000);
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.Duration;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.server.MockDataset;
+import org.llorllale.youtrack.api.mock.server.MockYouTrackServer;
+import org.llorllale.youtrack.api.session.PermanentToken;
+
+/**
+ * Unit tests for {@link AdminUsers}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class AdminUsersTest {
+  /**
+   * All pages of the listing are read, stopping at the first short page.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void logins() throws Exception {
+    try (MockYouTrackServer server = new MockYouTrackServer(new MockDataset(1, 1, 0, 0))) {
+      final RequestMetrics metrics = new RequestMetrics();
+      assertThat(
+        new AdminUsers(
+          new PermanentToken(server.url(), "token"),
+          new MeteredHttpClient(new PooledHttpClient(), metrics),
+          new UserCache(Duration.ofMinutes(1), 100),
+          new BoundedCalls(4)
+        ).logins().size(),
+        is(11)
+      );
+      assertThat(metrics.snapshot().get("GET /admin/user").count(), is(2L));
+    }
+  }
+
+  /**
+   * Preloaded users are served from the cache.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void preload() throws Exception {
+    try (MockYouTrackServer server = new MockYouTrackServer(new MockDataset(1, 1, 0, 0))) {
+      final UserCache cache = new UserCache(Duration.ofMinutes(1), 100);
+      assertThat(
+        new AdminUsers(
+          new PermanentToken(server.url(), "token"),
+          new PooledHttpClient(),
+          cache,
+          new BoundedCalls(4)
+        ).preload(),
+        is(11)
+      );
+      assertThat(
+        cache.user(
+          server.url() + "/user/user7",
+          key -> {
+            throw new IllegalStateException("not cached");
+          }
+        ).get().name(),
+        is("User user7")
+      );
+    }
+  }
+}
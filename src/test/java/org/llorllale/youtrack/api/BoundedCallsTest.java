@@ -0,0 +1,159 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (4 lines)
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link BoundedCalls}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class BoundedCallsTest {
+  /**
+   * No more calls than the bound are run at the same time, and all calls complete.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void boundsCallsInFlight() throws Exception {
+    final ExecutorService pool = Executors.newCachedThreadPool();
+    try {
+      final BoundedCalls calls = new BoundedCalls(pool, 3);
+      final AtomicInteger running = new AtomicInteger();
+      final AtomicInteger peak = new AtomicInteger();
+      final List<CompletableFuture<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < 50; i++) {
+        final int num = i;
+        futures.add(
+          calls.submit(
+            () -> {
+              peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+              Thread.sleep(2);
+              running.decrementAndGet();
+              return num;
+            }
+          )
+        );
+      }
+      int sum = 0;
+      for (CompletableFuture<Integer> future : futures) {
+        sum += future.get();
+      }
+      assertThat(sum, is(49 * 50 / 2));
+      assertThat(peak.get(), lessThanOrEqualTo(3));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Calls beyond the bound are queued without blocking the caller.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void queuesWithoutBlocking() throws Exception {
+    final ExecutorService pool = Executors.newCachedThreadPool();
+    try {
+      final BoundedCalls calls = new BoundedCalls(pool, 1);
+      final CountDownLatch latch = new CountDownLatch(1);
+      final CompletableFuture<String> first = calls.submit(
+        () -> {
+          latch.await();
+          return "first";
+        }
+      );
+      final CompletableFuture<String> second = calls.submit(() -> "second");
+      assertThat(second.isDone(), is(false));
+      latch.countDown();
+      assertThat(first.get(), is("first"));
+      assertThat(second.get(), is("second"));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * The exception thrown by a call completes its future exceptionally.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void failedCall() throws Exception {
+    final CompletableFuture<String> future = new BoundedCalls(Runnable::run, 1).submit(
+      () -> {
+        throw new IOException("test");
+      }
+    );
+    try {
+      future.get();
+    } catch (ExecutionException e) {
+      assertThat(e.getCause(), instanceOf(IOException.class));
+    }
+    assertThat(future.isCompletedExceptionally(), is(true));
+  }
+
+  /**
+   * A failed call releases its slot.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void failedCallReleasesSlot() throws Exception {
+    final BoundedCalls calls = new BoundedCalls(Runnable::run, 1);
+    calls.submit(
+      () -> {
+        throw new IOException("test");
+      }
+    );
+    assertThat(calls.submit(() -> "ok").get(), is("ok"));
+  }
+
+  /**
+   * The bound must be positive.
+   * 
+   * @since 1.0.0
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void nonPositiveBound() {
+    new BoundedCalls(Runnable::run, 0);
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.MockLogin;
+import org.llorllale.youtrack.api.mock.http.MockHttpClient;
+import org.llorllale.youtrack.api.mock.http.response.MockOkResponse;
+
+/**
+ * Unit tests for {@link BundleCache} and {@link RemoteBundle}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class BundleCacheTest {
+  /**
+   * Stale bundles are revalidated against the values fetched previously.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void bundlesRevalidatedWhenStale() throws Exception {
+    final AtomicLong clock = new AtomicLong();
+    final BundleCache cache = new BundleCache(Duration.ofNanos(100), clock::get);
+    final FieldBundle first = new FieldBundle(
+      Arrays.asList("Major"), Optional.of("\"v1\""), Optional.empty()
+    );
+    cache.bundle("url", previous -> first);
+    clock.set(100);
+    assertThat(
+      cache.bundle(
+        "url",
+        previous -> {
+          assertThat(previous.get(), is(first));
+          return previous.get();
+        }
+      ).values(),
+      is(Arrays.asList("Major"))
+    );
+  }
+
+  /**
+   * A {@code 304} response keeps the values fetched previously.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void notModified() throws Exception {
+    final RemoteBundle remote = new RemoteBundle(
+      new MockLogin(),
+      new MockHttpClient(
+        new BasicHttpResponse(HttpVersion.HTTP_1_1, 304, "Not Modified"),
+        new MockOkResponse(
+          new StringEntity(
+            "<enumeration><value>Major</value><value>Minor</value></enumeration>"
+          ),
+          new BasicHeader("ETag", "\"v1\"")
+        )
+      ),
+      "http://localhost/rest/admin/customfield/bundle/Priorities"
+    );
+    final FieldBundle first = remote.apply(Optional.empty());
+    assertThat(first.values(), is(Arrays.asList("Major", "Minor")));
+    assertThat(remote.apply(Optional.of(first)), is(first));
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.everyItem;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.xml.xpath.XPathConstants;
+import org.junit.Test;
+import org.w3c.dom.Node;
+
+/**
+ * Unit tests for {@link CompiledXPaths}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class CompiledXPathsTest {
+  /**
+   * Evaluates expressions.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void evaluates() {
+    assertThat(
+      new CompiledXPaths().evaluate("@id", this.node("1"), XPathConstants.STRING),
+      is("1")
+    );
+  }
+
+  /**
+   * Counts hits and misses.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void countsHitsAndMisses() {
+    final CompiledXPaths xpaths = new CompiledXPaths();
+    xpaths.evaluate("@id", this.node("1"), XPathConstants.STRING);
+    xpaths.evaluate("@id", this.node("1"), XPathConstants.STRING);
+    xpaths.evaluate("@id", this.node("1"), XPathConstants.STRING);
+    xpaths.evaluate("@name", this.node("1"), XPathConstants.STRING);
+    assertThat(xpaths.hits(), is(2L));
+    assertThat(xpaths.misses(), is(2L));
+  }
+
+  /**
+   * Expressions compiled on one thread are reused on others.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void sharedAcrossThreads() throws Exception {
+    final CompiledXPaths xpaths = new CompiledXPaths();
+    CompletableFuture.runAsync(
+      () -> xpaths.evaluate("@id", this.node("1"), XPathConstants.STRING)
+    ).get();
+    xpaths.evaluate("@id", this.node("2"), XPathConstants.STRING);
+    assertThat(xpaths.misses(), is(1L));
+    assertThat(xpaths.hits(), is(1L));
+  }
+
+  /**
+   * Concurrent evaluations of the same expression each get their own compiled copy.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void concurrentEvaluations() throws Exception {
+    final CompiledXPaths xpaths = new CompiledXPaths();
+    final ExecutorService pool = Executors.newFixedThreadPool(8);
+    try {
+      final List<CompletableFuture<Boolean>> evaluations = IntStream.range(0, 2000)
+        .mapToObj(String::valueOf)
+        .map(
+          id -> CompletableFuture.supplyAsync(
+            () -> id.equals(xpaths.evaluate("@id", this.node(id), XPathConstants.STRING)),
+            pool
+          )
+        ).collect(Collectors.toList());
+      assertThat(
+        evaluations.stream().map(CompletableFuture::join).collect(Collectors.toList()),
+        everyItem(is(true))
+      );
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Invalid expressions are reported as {@link UncheckedException}.
+   * 
+   * @since 1.0.0
+   */
+  @Test(expected = UncheckedException.class)
+  public void invalidExpression() {
+    new CompiledXPaths().evaluate("///", this.node("1"), XPathConstants.STRING);
+  }
+
+  /**
+   * An element with the given id.
+   * 
+   * @param id the element's id
+   * @return the element
+   * @since 1.0.0
+   */
+  private Node node(String id) {
+    return new XmlOf(String.format("<item id=\"%s\"/>", id)).node();
+  }
+}
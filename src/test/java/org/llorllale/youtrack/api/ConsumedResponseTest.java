@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.http.response.MockOkResponse;
+
+/**
+ * Unit tests for {@link ConsumedResponse}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ */
+public final class ConsumedResponseTest {
+  /**
+   * The response's entity must be consumed.
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void consumesEntity() throws Exception {
+    final AtomicBoolean closed = new AtomicBoolean(false);
+    final BasicHttpEntity entity = new BasicHttpEntity();
+    entity.setContent(
+      new ByteArrayInputStream("content".getBytes(StandardCharsets.UTF_8)) {
+        @Override
+        public void close() {
+          closed.set(true);
+        }
+      }
+    );
+    new ConsumedResponse(() -> new MockOkResponse(entity)).httpResponse();
+    assertTrue(closed.get());
+  }
+
+  /**
+   * The response's headers must still be accessible.
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void keepsHeaders() throws Exception {
+    final String location = "http://some.url/issue/TP-1";
+    final HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "");
+    response.setHeader(HttpHeaders.LOCATION, location);
+    assertThat(
+      new ConsumedResponse(() -> response)
+        .httpResponse().getFirstHeader(HttpHeaders.LOCATION).getValue(),
+      is(location)
+    );
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.MockLogin;
+import org.llorllale.youtrack.api.mock.MockProject;
+import org.llorllale.youtrack.api.mock.http.MockPagedHttpClient;
+
+/**
+ * Unit tests for {@link DefaultAsyncIssues}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class DefaultAsyncIssuesTest {
+  /**
+   * Lists all issues.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void list() throws Exception {
+    assertThat(
+      this.issues(23).list().get().size(),
+      is(23)
+    );
+  }
+
+  /**
+   * Gets issues by id.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void getByIds() throws Exception {
+    assertThat(
+      this.issues(5).get(Arrays.asList("TST-2", "TST-7")).get().get("TST-2").get().id(),
+      is("TST-2")
+    );
+  }
+
+  /**
+   * The project is the blocking issues' project.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void projectOfOrigin() throws Exception {
+    final MockProject project = new MockProject();
+    assertThat(
+      new DefaultAsyncIssues(
+        new DefaultIssues(project, new MockLogin(), new MockPagedHttpClient(1)),
+        new BoundedCalls(Runnable::run, 1)
+      ).project(),
+      is(project)
+    );
+  }
+
+  /**
+   * Async issues over {@code total} mock issues.
+   * 
+   * @param total the number of issues
+   * @return the async issues
+   * @since 1.0.0
+   */
+  private AsyncIssues issues(int total) {
+    return new DefaultAsyncIssues(
+      new DefaultIssues(new MockProject(), new MockLogin(), new MockPagedHttpClient(total))
+        .pageSize(10),
+      new BoundedCalls(2)
+    );
+  }
+}
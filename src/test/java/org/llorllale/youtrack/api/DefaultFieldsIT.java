@@ -56,7 +56,7 @@ public final class DefaultFieldsIT {
   @Test
   public void testStream() throws Exception {
     assertThat(
-      new DefaultFields(login, project).stream().count(),
+      new DefaultFields(login, project, new PooledHttpClient()).stream().count(),
       is(greaterThan(0L))
     );
   }
@@ -42,7 +42,7 @@ public final class DefaultFieldsTest {
   public void project() {
     final Project project = new MockProject();
     assertThat(
-      new DefaultFields(null, project).project(),
+      new DefaultFields(null, project, new PooledHttpClient()).project(),
       is(project)
     );
   }
@@ -57,10 +57,10 @@ public final class DefaultIssuesIT {
    */
   @Test
   public void testStream() throws Exception {
-    final Issue issue = new DefaultIssues(project, login)
+    final Issue issue = new DefaultIssues(project, login, new PooledHttpClient())
       .create(DefaultIssuesIT.class.getSimpleName().concat(".testStream"), "description");
     assertTrue(
-      new DefaultIssues(project, login)
+      new DefaultIssues(project, login, new PooledHttpClient())
         .stream()
         .anyMatch(i -> i.id().equals(issue.id()))
     );
@@ -72,12 +72,13 @@ public final class DefaultIssuesIT {
    */
   @Test
   public void createAndGetIssue() throws Exception {
-    final Issue issue = new DefaultIssues(project, login)
+    final Issue issue = new DefaultIssues(project, login, new PooledHttpClient())
       .create(DefaultIssuesIT.class.getSimpleName().concat(".testGet"), "description");
     assertTrue(
       new DefaultIssues(
         project,
-        login
+        login,
+        new PooledHttpClient()
       ).get(issue.id()).isPresent()
     );
   }
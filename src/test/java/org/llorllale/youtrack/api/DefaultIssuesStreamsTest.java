@@ -0,0 +1,188 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.apache.http.client.utils.URLEncodedUtils;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.MockLogin;
+import org.llorllale.youtrack.api.mock.MockProject;
+import org.llorllale.youtrack.api.mock.http.MockPagedHttpClient;
+
+/**
+ * Unit tests for the streams of {@link DefaultIssues} other than {@link DefaultIssues#stream()}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class DefaultIssuesStreamsTest {
+  /**
+   * {@link DefaultIssues#stream(String)} must send the query to the server with every page
+   * request.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void queryIsSentWithEveryPage() throws Exception {
+    final MockPagedHttpClient client = new MockPagedHttpClient(15);
+    assertThat(
+      new DefaultIssues(new MockProject(), new MockLogin(), client)
+        .stream("#Unresolved Type: Bug")
+        .count(),
+      is(15L)
+    );
+    assertThat(
+      client.uris().stream().map(u -> this.param(u, "filter")).collect(toList()),
+      is(Arrays.asList("#Unresolved Type: Bug", "#Unresolved Type: Bug"))
+    );
+  }
+
+  /**
+   * {@link DefaultIssues#updatedSince(Instant)} must send the starting point to the server with
+   * every page request.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void updatedSinceIsSentWithEveryPage() throws Exception {
+    final MockPagedHttpClient client = new MockPagedHttpClient(15);
+    assertThat(
+      new DefaultIssues(new MockProject(), new MockLogin(), client)
+        .updatedSince(Instant.ofEpochMilli(1234))
+        .stream()
+        .count(),
+      is(15L)
+    );
+    assertThat(
+      client.uris().stream().map(u -> this.param(u, "updatedAfter")).collect(toList()),
+      is(Arrays.asList("1234", "1234"))
+    );
+  }
+
+  /**
+   * The watermark of {@link DefaultIssues#updatedSince(Instant)} must be the latest update time
+   * among the issues received.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void watermarkIsLatestUpdate() throws Exception {
+    final Updates updates = new DefaultIssues(
+      new MockProject(), new MockLogin(), new MockPagedHttpClient(15)
+    ).updatedSince(Instant.EPOCH);
+    updates.stream().count();
+    assertThat(updates.watermark(), is(Instant.ofEpochMilli(14)));
+  }
+
+  /**
+   * The watermark of {@link DefaultIssues#updatedSince(Instant)} must be the starting point if
+   * there are no updates.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void watermarkIsStartingPointWithoutUpdates() throws Exception {
+    final Instant since = Instant.ofEpochMilli(1234);
+    final Updates updates = new DefaultIssues(
+      new MockProject(), new MockLogin(), new MockPagedHttpClient(0)
+    ).updatedSince(since);
+    updates.stream().count();
+    assertThat(updates.watermark(), is(since));
+  }
+
+  /**
+   * {@link DefaultIssues#get(java.util.Collection)} must find the issues with one search query
+   * and map missing ids to empty.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void batchGet() throws Exception {
+    final MockPagedHttpClient client = new MockPagedHttpClient(5);
+    final Map<String, Optional<Issue>> issues = new DefaultIssues(
+      new MockProject(), new MockLogin(), client
+    ).get(Arrays.asList("TST-3", "TST-9", "TST-1"));
+    assertThat(new ArrayList<>(issues.keySet()), is(Arrays.asList("TST-3", "TST-9", "TST-1")));
+    assertThat(issues.get("TST-3").get().id(), is("TST-3"));
+    assertThat(issues.get("TST-1").get().id(), is("TST-1"));
+    assertThat(issues.get("TST-9").isPresent(), is(false));
+    assertThat(
+      client.uris().stream().map(u -> this.param(u, "filter")).distinct().collect(toList()),
+      is(Arrays.asList("issue id: TST-3, TST-9, TST-1"))
+    );
+  }
+
+  /**
+   * {@link DefaultIssues#get(java.util.Collection)} must merge the results of all the search
+   * queries needed for many ids.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void batchGetManyQueries() throws Exception {
+    final MockPagedHttpClient client = new MockPagedHttpClient(500);
+    final List<String> ids = IntStream.range(0, 500)
+      .mapToObj(i -> "TST-" + i)
+      .collect(toList());
+    final Map<String, Optional<Issue>> issues = new DefaultIssues(
+      new MockProject(), new MockLogin(), client
+    ).get(ids);
+    assertThat(new ArrayList<>(issues.keySet()), is(ids));
+    assertThat(issues.values().stream().allMatch(Optional::isPresent), is(true));
+    assertThat(
+      client.uris().stream().map(u -> this.param(u, "filter")).distinct().count() > 1,
+      is(true)
+    );
+  }
+
+  /**
+   * The value of the URI's query parameter.
+   * 
+   * @param uri the URI
+   * @param name the parameter's name
+   * @return the parameter's value
+   * @since 1.0.0
+   */
+  private String param(URI uri, String name) {
+    return URLEncodedUtils.parse(uri, "UTF-8").stream()
+      .filter(p -> name.equals(p.getName()))
+      .findFirst()
+      .get()
+      .getValue();
+  }
+}
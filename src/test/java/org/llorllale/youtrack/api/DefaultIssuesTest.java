@@ -23,6 +23,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import java.util.List;
 import org.junit.Test;
 import org.llorllale.youtrack.api.mock.MockLogin;
 import org.llorllale.youtrack.api.mock.MockProject;
@@ -388,11 +389,68 @@ public final class DefaultIssuesTest {
           new MockOkResponse(ISSUES_PAGE1),
           new MockOkResponse(ISSUES_PAGE2)
         )
-      ).stream().map(Issue::id).collect(toList()),
+      ).pageSize(2).stream().map(Issue::id).collect(toList()),
       containsInAnyOrder("TST-1", "TST-2", "TST-3", "TST-4")
     );
   }
 
+  /**
+   * {@link DefaultIssues#snapshots()} must stream immutable snapshots of all issues.
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void testSnapshots() throws Exception {
+    final List<Issue> issues = new DefaultIssues(
+      new MockProject(),
+      new MockLogin(),
+      new MockHttpClient(
+        new MockOkResponse(
+          "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?><issues></issues>"
+        ),
+        new MockOkResponse(ISSUES_PAGE1),
+        new MockOkResponse(ISSUES_PAGE2)
+      )
+    ).pageSize(2).snapshots().stream().collect(toList());
+    assertThat(
+      issues.stream().map(Issue::id).collect(toList()),
+      containsInAnyOrder("TST-1", "TST-2", "TST-3", "TST-4")
+    );
+    assertTrue(issues.stream().allMatch(i -> i instanceof SnapshotIssue));
+  }
+
+  /**
+   * {@link DefaultIssues#prefetch(int)} must still stream all issues.
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void testPrefetch() throws Exception {
+    assertThat(
+      new DefaultIssues(
+        new MockProject(),
+        new MockLogin(),
+        new MockHttpClient(
+          new MockOkResponse(
+            "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?><issues></issues>"
+          ),
+          new MockOkResponse(ISSUES_PAGE1),
+          new MockOkResponse(ISSUES_PAGE2)
+        )
+      ).pageSize(2).prefetch(1).stream().map(Issue::id).collect(toList()),
+      containsInAnyOrder("TST-1", "TST-2", "TST-3", "TST-4")
+    );
+  }
+
+  /**
+   * {@link DefaultIssues#prefetch(int)} must reject negative values.
+   * @since 1.0.0
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativePrefetch() {
+    new DefaultIssues(new MockProject(), new MockLogin(), new PooledHttpClient()).prefetch(-1);
+  }
+
   /**
    * DefaultIssues must return the Issue if present.
    * @throws Exception unexpected
@@ -57,7 +57,7 @@ public final class DefaultProjectTimeTrackingIT {
   @Test
   public void testEnabled() throws Exception {
     assertTrue(
-      new DefaultProjectTimeTracking(project, login).enabled()
+      new DefaultProjectTimeTracking(project, login, new PooledHttpClient()).enabled()
     );
   }
 
@@ -69,7 +69,7 @@ public final class DefaultProjectTimeTrackingIT {
   @Test
   public void testTypes() throws Exception {
     assertThat(
-      new DefaultProjectTimeTracking(project, login).types().count(),
+      new DefaultProjectTimeTracking(project, login, new PooledHttpClient()).types().count(),
       is(greaterThan(0L))
     );
   }
@@ -58,7 +58,7 @@ public final class DefaultProjectsIT {
   @Test
   public void testStream() throws Exception {
     assertTrue(
-      new DefaultProjects(null, login).stream()
+      new DefaultProjects(null, login, new PooledHttpClient()).stream()
         .anyMatch(p -> config.youtrackTestProjectId().equals(p.id()))
     );
   }
@@ -71,7 +71,7 @@ public final class DefaultProjectsIT {
   @Test
   public void testGetExistingProject() throws Exception {
     assertTrue(
-      new DefaultProjects(null, login)
+      new DefaultProjects(null, login, new PooledHttpClient())
         .get(config.youtrackTestProjectId())
         .isPresent()
     );
@@ -85,7 +85,7 @@ public final class DefaultProjectsIT {
   @Test
   public void testGetNonExistingProject() throws Exception {
     assertFalse(
-      new DefaultProjects(null, login)
+      new DefaultProjects(null, login, new PooledHttpClient())
         .get(String.valueOf(new Random(System.currentTimeMillis()).nextInt()))
         .isPresent()
     );
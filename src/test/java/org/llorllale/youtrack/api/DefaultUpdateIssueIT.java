@@ -67,7 +67,7 @@ public final class DefaultUpdateIssueIT {
     final String newSummary = DefaultUpdateIssueIT.class.getSimpleName()
       .concat(".testSummary");
     assertNotEquals(
-      new DefaultUpdateIssue(issue, login).summary(newSummary).summary(),
+      new DefaultUpdateIssue(issue, login, new PooledHttpClient()).summary(newSummary).summary(),
       issue.summary()
     );
   }
@@ -81,7 +81,7 @@ public final class DefaultUpdateIssueIT {
     final String newDesc = DefaultUpdateIssueIT.class.getSimpleName()
       .concat("testDescription");
     assertNotEquals(
-      new DefaultUpdateIssue(issue, login)
+      new DefaultUpdateIssue(issue, login, new PooledHttpClient())
         .description(newDesc)
         .description(),
       issue.description()
@@ -98,7 +98,7 @@ public final class DefaultUpdateIssueIT {
       .concat("testSummaryAndDesc_summ");
     final String newDesc = DefaultUpdateIssueIT.class.getSimpleName()
       .concat("testSummaryAndDesc_desc");
-    final Issue newIssue = new DefaultUpdateIssue(issue, login)
+    final Issue newIssue = new DefaultUpdateIssue(issue, login, new PooledHttpClient())
       .summaryAndDesc(newSummary, newDesc);
     assertNotEquals(issue.summary(), newIssue.summary());
     assertNotEquals(issue.description(), newIssue.description());
@@ -120,7 +120,7 @@ public final class DefaultUpdateIssueIT {
       .filter(v -> !v.equals(oldValue))
       .findAny().get();
     assertNotEquals(
-      new DefaultUpdateIssue(issue, login)
+      new DefaultUpdateIssue(issue, login, new PooledHttpClient())
         .field(field, newValue).fields()
         .stream()
         .filter(f -> f.isSameField(field))
@@ -154,7 +154,7 @@ public final class DefaultUpdateIssueIT {
       .values()
       .filter(v -> !v.equals(secondOldVal))
       .findAny().get();
-    new DefaultUpdateIssue(issue, login).fields(
+    new DefaultUpdateIssue(issue, login, new PooledHttpClient()).fields(
       new HashMap<Field, FieldValue>() {
         {
           put(firstField, firstNewVal);
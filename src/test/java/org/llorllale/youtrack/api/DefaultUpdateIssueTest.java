@@ -0,0 +1,117 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.MockField;
+import org.llorllale.youtrack.api.mock.server.MockDataset;
+import org.llorllale.youtrack.api.mock.server.MockYouTrackServer;
+import org.llorllale.youtrack.api.session.PermanentToken;
+
+/**
+ * Unit tests for {@link DefaultUpdateIssue}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class DefaultUpdateIssueTest {
+  /**
+   * The updated issue is only fetched when read.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void refreshedLazily() throws Exception {
+    try (MockYouTrackServer server = new MockYouTrackServer(new MockDataset(1, 1, 0, 0))) {
+      final RequestMetrics metrics = new RequestMetrics();
+      final Issue issue = new DefaultYouTrack(new PermanentToken(server.url(), "token"), metrics)
+        .projects().get("P0").get()
+        .issues().get("P0-1").get();
+      final Field state = new MockField("State", issue.project());
+      final Issue updated = issue.update().field(state, new BasicFieldValue("Fixed", state));
+      assertThat(metrics.snapshot().get("GET /issue/{id}").count(), is(1L));
+      assertThat(
+        updated.fields().stream()
+          .filter(f -> f.isSameField(state))
+          .findAny().get()
+          .value().asString(),
+        is("Fixed")
+      );
+      assertThat(metrics.snapshot().get("GET /issue/{id}").count(), is(2L));
+    }
+  }
+
+  /**
+   * Without refresh, the updated issue reads back the values written without fetching them.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void withoutRefresh() throws Exception {
+    try (MockYouTrackServer server = new MockYouTrackServer(new MockDataset(1, 1, 0, 0))) {
+      final RequestMetrics metrics = new RequestMetrics();
+      final Issue issue = new DefaultYouTrack(new PermanentToken(server.url(), "token"), metrics)
+        .projects().get("P0").get()
+        .issues().get("P0-1").get();
+      final Field state = new MockField("State", issue.project());
+      final Issue updated = issue.update().withoutRefresh()
+        .summaryAndDesc("new", "desc")
+        .update().withoutRefresh()
+        .field(state, new BasicFieldValue("Fixed", state));
+      assertThat(updated.summary(), is("new"));
+      assertThat(updated.description().get(), is("desc"));
+      assertThat(
+        updated.fields().stream()
+          .filter(f -> f.isSameField(state))
+          .findAny().get()
+          .value().asString(),
+        is("Fixed")
+      );
+      assertThat(metrics.snapshot().get("GET /issue/{id}").count(), is(1L));
+    }
+  }
+
+  /**
+   * Chained updates without refresh don't resend the values they replaced.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void chainedWithoutRefresh() throws Exception {
+    try (MockYouTrackServer server = new MockYouTrackServer(new MockDataset(1, 1, 0, 0))) {
+      final Issue issue = new DefaultYouTrack(new PermanentToken(server.url(), "token"))
+        .projects().get("P0").get()
+        .issues().get("P0-1").get();
+      issue.update().withoutRefresh()
+        .summary("new")
+        .update().withoutRefresh()
+        .description("desc");
+      final Issue refreshed = issue.refresh();
+      assertThat(refreshed.summary(), is("new"));
+      assertThat(refreshed.description().get(), is("desc"));
+    }
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.apache.http.client.HttpClient;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.server.MockDataset;
+import org.llorllale.youtrack.api.mock.server.MockYouTrackServer;
+import org.llorllale.youtrack.api.session.PermanentToken;
+
+/**
+ * Unit tests for {@link DefaultYouTrack}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class DefaultYouTrackTest {
+  /**
+   * Closing shuts down the pool of connections owned by the instance.
+   * 
+   * @throws Exception expected
+   * @since 1.0.0
+   */
+  @Test(expected = IllegalStateException.class)
+  public void closesPool() throws Exception {
+    try (MockYouTrackServer server = new MockYouTrackServer(new MockDataset(1, 0, 0, 0))) {
+      final YouTrack youtrack = new DefaultYouTrack(
+        new PermanentToken(server.url(), "token"), new PooledHttpClient()
+      );
+      youtrack.close();
+      youtrack.projects().stream().count();
+    }
+  }
+
+  /**
+   * A client handed in by the caller is left open.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void leavesClientOpen() throws Exception {
+    try (
+      MockYouTrackServer server = new MockYouTrackServer(new MockDataset(1, 0, 0, 0));
+      PooledHttpClient client = new PooledHttpClient()
+    ) {
+      new DefaultYouTrack(new PermanentToken(server.url(), "token"), (HttpClient) client).close();
+      assertThat(
+        new DefaultYouTrack(new PermanentToken(server.url(), "token"), client)
+          .projects().stream().count(),
+        is(1L)
+      );
+    }
+  }
+}
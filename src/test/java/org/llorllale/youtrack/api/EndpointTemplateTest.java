@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link EndpointTemplate}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class EndpointTemplateTest {
+  /**
+   * Issue ids are replaced.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void issue() {
+    assertThat(
+      new EndpointTemplate("GET", "/rest/issue/TP-1").get(),
+      is("GET /issue/{id}")
+    );
+  }
+
+  /**
+   * Issue and comment ids are replaced, and the base path is dropped.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void comment() {
+    assertThat(
+      new EndpointTemplate("DELETE", "/youtrack/rest/issue/TP-1/comment/42-306").get(),
+      is("DELETE /issue/{id}/comment/{comment}")
+    );
+  }
+
+  /**
+   * Keywords following a resource are kept.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void keywords() {
+    assertThat(
+      new EndpointTemplate("GET", "/rest/issue/byproject/TP").get(),
+      is("GET /issue/byproject/{project}")
+    );
+    assertThat(
+      new EndpointTemplate("POST", "/rest/user/login").get(),
+      is("POST /user/login")
+    );
+    assertThat(
+      new EndpointTemplate("GET", "/rest/project/all").get(),
+      is("GET /project/all")
+    );
+  }
+
+  /**
+   * Admin endpoints.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void admin() {
+    assertThat(
+      new EndpointTemplate("GET", "/rest/admin/project/TP/customfield/Priority").get(),
+      is("GET /admin/project/{project}/customfield/{field}")
+    );
+    assertThat(
+      new EndpointTemplate("GET", "/rest/admin/customfield/bundle/States").get(),
+      is("GET /admin/customfield/bundle/{bundle}")
+    );
+    assertThat(
+      new EndpointTemplate("GET", "/rest/admin/project/TP/timetracking/worktype").get(),
+      is("GET /admin/project/{project}/timetracking/worktype")
+    );
+  }
+
+  /**
+   * Import endpoints are templated like the rest.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void imports() {
+    assertThat(
+      new EndpointTemplate("PUT", "/rest/import/TP/issues").get(),
+      is("PUT /import/{project}/issues")
+    );
+    assertThat(
+      new EndpointTemplate("PUT", "/rest/import/issue/TP-7/workitems").get(),
+      is("PUT /import/issue/{id}/workitems")
+    );
+  }
+
+  /**
+   * Unknown paths are kept as they are.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void unknown() {
+    assertThat(
+      new EndpointTemplate("GET", "/some/path").get(),
+      is("GET /some/path")
+    );
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ErrorConsumingResponse}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ */
+public final class ErrorConsumingResponseTest {
+  /**
+   * Entities of error responses must be consumed.
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void consumesErrorEntity() throws Exception {
+    final AtomicBoolean closed = new AtomicBoolean(false);
+    final HttpResponse response = this.response(HttpStatus.SC_INTERNAL_SERVER_ERROR, closed);
+    new ErrorConsumingResponse(() -> response).httpResponse();
+    assertTrue(closed.get());
+  }
+
+  /**
+   * Entities of "not found" responses must be left alone.
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void ignoresNotFound() throws Exception {
+    final AtomicBoolean closed = new AtomicBoolean(false);
+    final HttpResponse response = this.response(HttpStatus.SC_NOT_FOUND, closed);
+    new ErrorConsumingResponse(() -> response).httpResponse();
+    assertFalse(closed.get());
+  }
+
+  /**
+   * Entities of successful responses must be left alone.
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void ignoresOk() throws Exception {
+    final AtomicBoolean closed = new AtomicBoolean(false);
+    final HttpResponse response = this.response(HttpStatus.SC_OK, closed);
+    new ErrorConsumingResponse(() -> response).httpResponse();
+    assertFalse(closed.get());
+  }
+
+  /**
+   * An http response with the given status whose entity flags {@code closed} when consumed.
+   * @param status the http status code
+   * @param closed flag set when the entity's content is closed
+   * @return the http response
+   */
+  private HttpResponse response(int status, AtomicBoolean closed) {
+    final HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, status, "");
+    final BasicHttpEntity entity = new BasicHttpEntity();
+    entity.setContent(
+      new ByteArrayInputStream("content".getBytes(StandardCharsets.UTF_8)) {
+        @Override
+        public void close() {
+          closed.set(true);
+        }
+      }
+    );
+    response.setEntity(entity);
+    return response;
+  }
+}
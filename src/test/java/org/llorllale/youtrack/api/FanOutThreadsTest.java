@@ -0,0 +1,129 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link FanOutThreads}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class FanOutThreadsTest {
+  /**
+   * Tasks must run on daemon threads so they never keep the JVM alive.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void daemonThreads() throws Exception {
+    final ExecutorService executor = new FanOutThreads().get();
+    try {
+      assertThat(
+        executor.submit(() -> Thread.currentThread().isDaemon()).get(),
+        is(true)
+      );
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Tasks run on virtual threads on Java 21+, where the multi-release jar provides its own
+   * {@link FanOutThreads}, and on platform threads before.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void virtualThreads() throws Exception {
+    final String version = System.getProperty("java.specification.version");
+    final boolean loom = !version.startsWith("1.") && Integer.parseInt(version) >= 21;
+    final ExecutorService executor = new FanOutThreads().get();
+    try {
+      assertThat(
+        executor.submit(() -> this.virtual(Thread.currentThread())).get(),
+        is(loom)
+      );
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * A pool of the given size runs that many blocking tasks at once, beyond the 16 threads of the
+   * process-wide pool.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void givenThreads() throws Exception {
+    final int threads = 24;
+    final CountDownLatch latch = new CountDownLatch(threads);
+    final ExecutorService executor = new FanOutThreads(threads, "test").get();
+    try {
+      final List<Future<Boolean>> tasks = IntStream.range(0, threads)
+        .mapToObj(
+          i -> executor.submit(
+            () -> {
+              latch.countDown();
+              return latch.await(5, TimeUnit.SECONDS);
+            }
+          )
+        ).collect(Collectors.toList());
+      for (final Future<Boolean> task : tasks) {
+        assertThat(task.get(), is(true));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Whether {@code thread} is virtual, on any version of Java.
+   * 
+   * @param thread the thread
+   * @return whether the thread is virtual
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  private boolean virtual(Thread thread) throws Exception {
+    boolean virtual = false;
+    try {
+      virtual = (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+    } catch (NoSuchMethodException e) {
+      virtual = false;
+    }
+    return virtual;
+  }
+}
@@ -17,6 +17,8 @@
 package org.llorllale.youtrack.api;
 
 import java.io.IOException;
+import org.apache.http.HttpVersion;
+import org.apache.http.message.BasicHttpResponse;
 import org.junit.Test;
 import org.llorllale.youtrack.api.mock.http.response.MockInternalErrorResponse;
 
@@ -26,6 +28,7 @@ import org.llorllale.youtrack.api.mock.http.response.MockInternalErrorResponse;
  * @author George Aristy (george.aristy@gmail.com)
  * @since 1.0.0
  * @checkstyle MethodName (50 lines)
+ * @checkstyle MagicNumber (50 lines)
  */
 public final class InternalServerErrorResponseTest {
   /**
@@ -38,4 +41,16 @@ public final class InternalServerErrorResponseTest {
   public void testHttpResponse() throws Exception {
     new InternalServerErrorResponse(() -> new MockInternalErrorResponse()).httpResponse();
   }
+
+  /**
+   * Should throw a {@link ServerErrorException} for any {@code 5xx} code.
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test(expected = ServerErrorException.class)
+  public void serviceUnavailable() throws Exception {
+    new InternalServerErrorResponse(
+      () -> new BasicHttpResponse(HttpVersion.HTTP_1_1, 503, "Service Unavailable")
+    ).httpResponse();
+  }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.MockField;
+import org.llorllale.youtrack.api.mock.server.MockDataset;
+import org.llorllale.youtrack.api.mock.server.MockYouTrackServer;
+import org.llorllale.youtrack.api.session.PermanentToken;
+
+/**
+ * Unit tests for {@link IssueCommand}, as executed in bulk by {@link DefaultIssues#apply}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class IssueCommandTest {
+  /**
+   * The command is executed on every issue, and each issue's outcome is reported in order.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void bulk() throws Exception {
+    try (MockYouTrackServer server = new MockYouTrackServer(new MockDataset(1, 20, 0, 0))) {
+      final RequestMetrics metrics = new RequestMetrics();
+      final Project project = new DefaultYouTrack(
+        new PermanentToken(server.url(), "token"), metrics
+      ).projects().get("P0").get();
+      final List<Issue> issues = new ArrayList<>(
+        project.issues().stream().collect(Collectors.toList())
+      );
+      issues.add(5, new LazyIssue(project, "P0-99", null, null));
+      final Field state = new MockField("State", project);
+      final Map<Issue, Optional<IOException>> outcomes = project.issues().apply(
+        Collections.singletonMap(state, new BasicFieldValue("Fixed", state)), issues
+      );
+      assertThat(new ArrayList<>(outcomes.keySet()), is(issues));
+      assertThat(outcomes.get(issues.get(5)).isPresent(), is(true));
+      assertThat(outcomes.values().stream().filter(Optional::isPresent).count(), is(1L));
+      assertThat(metrics.snapshot().get("POST /issue/{id}/execute").count(), is(21L));
+      assertThat(
+        project.issues().stream()
+          .filter(
+            i -> i.fields().stream()
+              .anyMatch(f -> f.isSameField(state) && "Fixed".equals(f.value().asString()))
+          ).count(),
+        is(20L)
+      );
+    }
+  }
+
+  /**
+   * Unchecked exceptions executing the command on an issue are reported in its outcome.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void unchecked() throws Exception {
+    try (MockYouTrackServer server = new MockYouTrackServer(new MockDataset(1, 1, 0, 0))) {
+      final Project project = new DefaultYouTrack(new PermanentToken(server.url(), "token"))
+        .projects().get("P0").get();
+      final Issue malformed = new LazyIssue(project, "P0 1", null, null);
+      final Field state = new MockField("State", project);
+      assertThat(
+        project.issues().apply(
+          Collections.singletonMap(state, new BasicFieldValue("Fixed", state)),
+          Collections.singletonList(malformed)
+        ).get(malformed).isPresent(),
+        is(true)
+      );
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link IssueIdQueries}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class IssueIdQueriesTest {
+  /**
+   * Ids that fit in a single query are joined in a single query.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void singleQuery() {
+    assertThat(
+      new ArrayList<>(new IssueIdQueries(Arrays.asList("A-1", "A-2", "A-3"))),
+      is(Arrays.asList("issue id: A-1, A-2, A-3"))
+    );
+  }
+
+  /**
+   * Ids are split across queries that do not exceed the given length.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void splitsAtLength() {
+    assertThat(
+      new ArrayList<>(new IssueIdQueries(Arrays.asList("A-1", "A-2", "A-3"), 20)),
+      is(Arrays.asList("issue id: A-1, A-2", "issue id: A-3"))
+    );
+  }
+
+  /**
+   * No queries for no ids.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void noIds() {
+    assertTrue(new IssueIdQueries(Collections.emptyList()).isEmpty());
+  }
+
+  /**
+   * Every id appears in exactly one query within the length limit.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void allIdsWithinLength() {
+    final List<String> ids = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      ids.add("PROJECT-" + i);
+    }
+    final List<String> found = new ArrayList<>();
+    for (String query : new IssueIdQueries(ids, 100)) {
+      assertTrue(query.length() <= 100);
+      found.addAll(Arrays.asList(query.substring("issue id: ".length()).split(", ")));
+    }
+    assertThat(found, is(ids));
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.MockLogin;
+import org.llorllale.youtrack.api.mock.MockProject;
+import org.llorllale.youtrack.api.mock.http.MockHttpClient;
+import org.llorllale.youtrack.api.mock.http.response.MockInternalErrorResponse;
+import org.llorllale.youtrack.api.mock.http.response.MockOkResponse;
+import org.llorllale.youtrack.api.mock.server.MockDataset;
+import org.llorllale.youtrack.api.mock.server.MockYouTrackServer;
+import org.llorllale.youtrack.api.session.PermanentToken;
+
+/**
+ * Unit tests for {@link IssueImport}, as driven by {@link DefaultIssues#bulkImport}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class IssueImportTest {
+  /**
+   * Drafts are imported in batches, with their fields, comments and work items, and each batch
+   * reports the issues imported and the ones rejected.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void batches() throws Exception {
+    try (MockYouTrackServer server = new MockYouTrackServer(new MockDataset(1, 3, 0, 0))) {
+      final Project project = this.project(server);
+      final List<ImportBatch> batches = project.issues().bulkImport(
+        Stream.concat(
+          Stream.of(
+            this.draft(4)
+              .description("Migrated <as-is>")
+              .field("Priority", "Critical")
+              .comment("user1", "First & only", Instant.now())
+              .workItem("user1", LocalDate.now(), Duration.ofMinutes(90), "Triage")
+              .workItem("user2", LocalDate.now(), Duration.ofMinutes(30), "Fix"),
+            this.draft(2)
+          ),
+          IntStream.rangeClosed(5, 28).mapToObj(this::draft)
+        ),
+        10
+      );
+      assertThat(batches.size(), is(3));
+      assertThat(batches.get(2).imported().size(), is(6));
+      assertThat(
+        batches.stream().mapToInt(b -> b.imported().size()).sum(),
+        is(25)
+      );
+      assertThat(batches.get(0).failed().get(2), containsString("already exists"));
+      final Issue issue = project.issues().get("P0-4").get();
+      assertThat(issue.summary(), is("Legacy 4"));
+      assertThat(issue.description().get(), is("Migrated <as-is>"));
+      assertThat(
+        issue.fields().stream()
+          .filter(f -> "Priority".equals(f.name()))
+          .findFirst().get().value().asString(),
+        is("Critical")
+      );
+      assertThat(issue.comments().stream().findFirst().get().text(), is("First & only"));
+      assertThat(issue.timetracking().stream().count(), is(2L));
+      assertThat(project.issues().get("P0-28").isPresent(), is(true));
+    }
+  }
+
+  /**
+   * Drafts whose numbers are already taken are reported as rejected.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void rejected() throws Exception {
+    try (MockYouTrackServer server = new MockYouTrackServer(new MockDataset(1, 3, 0, 0))) {
+      final List<ImportBatch> batches = this.project(server).issues().bulkImport(
+        Arrays.asList(this.draft(1), this.draft(3)).stream(), 100
+      );
+      assertThat(batches.size(), is(1));
+      assertThat(batches.get(0).imported().isEmpty(), is(true));
+      assertThat(batches.get(0).failed().size(), is(2));
+    }
+  }
+
+  /**
+   * A batch whose request fails reports its issues as failed, without losing the outcome of the
+   * other batches.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void failedBatch() throws Exception {
+    final List<ImportBatch> batches = new IssueImport(
+      new MockProject(),
+      new MockLogin(),
+      new MockHttpClient(
+        new MockOkResponse("<importReport><item id=\"3\" imported=\"true\"/></importReport>"),
+        new MockOkResponse("<importReport><item id=\"1\" imported=\"true\"/></importReport>"),
+        new MockInternalErrorResponse()
+      )
+    ).send(IntStream.rangeClosed(1, 3).mapToObj(this::draft), 1);
+    assertThat(batches.size(), is(3));
+    assertThat(batches.get(0).imported(), is(Arrays.asList(1)));
+    assertThat(batches.get(1).imported().isEmpty(), is(true));
+    assertThat(batches.get(1).failed().containsKey(2), is(true));
+    assertThat(batches.get(2).imported(), is(Arrays.asList(3)));
+  }
+
+  /**
+   * A batch whose import report can't be read reports its issues as failed, without losing the
+   * outcome of the other batches.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void oddReport() throws Exception {
+    final List<ImportBatch> batches = new IssueImport(
+      new MockProject(),
+      new MockLogin(),
+      new MockHttpClient(
+        new MockOkResponse("<importReport><item id=\"4\" imported=\"true\"/></importReport>"),
+        new MockOkResponse("<importReport><item id=\"one\" imported=\"true\"/></importReport>"),
+        new MockOkResponse("<importReport><item imported=\"true\"/></importReport>"),
+        new MockOkResponse("<importReport><item id=\"1\" imported")
+      )
+    ).send(IntStream.rangeClosed(1, 4).mapToObj(this::draft), 1);
+    assertThat(batches.size(), is(4));
+    assertThat(batches.get(0).failed().containsKey(1), is(true));
+    assertThat(batches.get(1).failed().containsKey(2), is(true));
+    assertThat(batches.get(2).failed().containsKey(3), is(true));
+    assertThat(batches.get(3).imported(), is(Arrays.asList(4)));
+  }
+
+  /**
+   * Batch sizes beyond what YouTrack accepts are rejected.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void oversizedBatch() throws Exception {
+    try (MockYouTrackServer server = new MockYouTrackServer(new MockDataset(1, 0, 0, 0))) {
+      this.project(server).issues().bulkImport(Stream.empty(), 101);
+    }
+  }
+
+  /**
+   * A draft.
+   * 
+   * @param number the issue's number
+   * @return a draft
+   */
+  private IssueDraft draft(int number) {
+    return new IssueDraft(number, "Legacy " + number, "root", Instant.now());
+  }
+
+  /**
+   * The server's first project.
+   * 
+   * @param server the server
+   * @return the server's first project
+   * @throws Exception unexpected
+   */
+  private Project project(MockYouTrackServer server) throws Exception {
+    return new DefaultYouTrack(new PermanentToken(server.url(), "token"))
+      .projects().get("P0").get();
+  }
+}
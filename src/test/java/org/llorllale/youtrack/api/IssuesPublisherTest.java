@@ -0,0 +1,203 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.MockLogin;
+import org.llorllale.youtrack.api.mock.MockProject;
+import org.llorllale.youtrack.api.mock.MockSubscriber;
+import org.llorllale.youtrack.api.mock.http.MockPagedHttpClient;
+import org.llorllale.youtrack.api.mock.http.MockThrowingHttpClient;
+
+/**
+ * Unit tests for {@link IssuesPublisher}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class IssuesPublisherTest {
+  /**
+   * Pages are fetched according to the subscriber's demand.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void fetchesPagesOnDemand() {
+    final MockPagedHttpClient client = new MockPagedHttpClient(23);
+    final MockSubscriber<Issue> subscriber = this.subscribed(client);
+    assertThat(client.uris().size(), is(0));
+    subscriber.subscription().request(3);
+    assertThat(subscriber.items().size(), is(3));
+    assertThat(client.uris().size(), is(1));
+    subscriber.subscription().request(4);
+    assertThat(subscriber.items().size(), is(7));
+    assertThat(client.uris().size(), is(2));
+    assertThat(subscriber.completed(), is(false));
+  }
+
+  /**
+   * All issues are sent in order, followed by completion.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void completes() {
+    final MockSubscriber<Issue> subscriber = this.subscribed(new MockPagedHttpClient(23));
+    subscriber.subscription().request(Long.MAX_VALUE);
+    assertThat(subscriber.items().size(), is(23));
+    assertThat(subscriber.items().get(22).id(), is("TST-22"));
+    assertThat(subscriber.completed(), is(true));
+  }
+
+  /**
+   * Completion is signaled as soon as the last issue is sent, even if the demand was exactly
+   * the number of issues.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void completesWithExactDemand() {
+    final MockSubscriber<Issue> subscriber = this.subscribed(new MockPagedHttpClient(7));
+    subscriber.subscription().request(7);
+    assertThat(subscriber.completed(), is(true));
+  }
+
+  /**
+   * No issues are sent after cancellation.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void cancel() {
+    final MockSubscriber<Issue> subscriber = this.subscribed(new MockPagedHttpClient(23));
+    subscriber.subscription().request(2);
+    subscriber.subscription().cancel();
+    subscriber.subscription().request(2);
+    assertThat(subscriber.items().size(), is(2));
+    assertThat(subscriber.completed(), is(false));
+  }
+
+  /**
+   * Demand saturates at {@link Long#MAX_VALUE} instead of overflowing.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void saturatesDemand() {
+    final MockSubscriber<Issue> subscriber = this.subscribed(new MockPagedHttpClient(23));
+    subscriber.subscription().request(5);
+    subscriber.subscription().request(Long.MAX_VALUE);
+    assertThat(subscriber.items().size(), is(23));
+    assertThat(subscriber.completed(), is(true));
+  }
+
+  /**
+   * The stream of issues is closed upon cancellation.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void cancelClosesStream() {
+    final AtomicBoolean closed = new AtomicBoolean();
+    final MockSubscriber<Issue> subscriber = new MockSubscriber<>();
+    new IssuesPublisher(
+      () -> new DefaultIssues(new MockProject(), new MockLogin(), new MockPagedHttpClient(23))
+        .pageSize(5)
+        .stream()
+        .onClose(() -> closed.set(true)),
+      Runnable::run
+    ).subscribe(subscriber);
+    subscriber.subscription().request(2);
+    assertThat(closed.get(), is(false));
+    subscriber.subscription().cancel();
+    assertThat(closed.get(), is(true));
+  }
+
+  /**
+   * Requesting a non-positive number of issues is an error.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void nonPositiveRequest() {
+    final MockSubscriber<Issue> subscriber = this.subscribed(new MockPagedHttpClient(23));
+    subscriber.subscription().request(0);
+    assertThat(subscriber.error().get(), instanceOf(IllegalArgumentException.class));
+  }
+
+  /**
+   * Errors fetching the issues are signaled.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void failure() {
+    final MockSubscriber<Issue> subscriber = new MockSubscriber<>();
+    new IssuesPublisher(
+      new DefaultIssues(new MockProject(), new MockLogin(), new MockThrowingHttpClient())::stream,
+      Runnable::run
+    ).subscribe(subscriber);
+    subscriber.subscription().request(1);
+    assertThat(subscriber.error().isPresent(), is(true));
+    assertThat(subscriber.completed(), is(false));
+  }
+
+  /**
+   * {@link Issues#publisher()} publishes all issues on a background thread.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void fromIssues() throws Exception {
+    final MockSubscriber<Issue> subscriber = new MockSubscriber<>();
+    new DefaultIssues(new MockProject(), new MockLogin(), new MockPagedHttpClient(23))
+      .pageSize(5)
+      .publisher()
+      .subscribe(subscriber);
+    subscriber.subscription().request(Long.MAX_VALUE);
+    final long deadline = System.currentTimeMillis() + 5000;
+    while (!subscriber.completed() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(subscriber.items().size(), is(23));
+  }
+
+  /**
+   * A subscriber to the issues served by {@code client}, in pages of 5, sent synchronously.
+   * 
+   * @param client the http client
+   * @return the subscriber
+   * @since 1.0.0
+   */
+  private MockSubscriber<Issue> subscribed(MockPagedHttpClient client) {
+    final MockSubscriber<Issue> subscriber = new MockSubscriber<>();
+    new IssuesPublisher(
+      new DefaultIssues(new MockProject(), new MockLogin(), client).pageSize(5)::stream,
+      Runnable::run
+    ).subscribe(subscriber);
+    return subscriber;
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (4 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import java.time.Duration;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LatencyHistogram}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class LatencyHistogramTest {
+  /**
+   * Count, mean and max.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void summary() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(Duration.ofMillis(10));
+    histogram.record(Duration.ofMillis(30));
+    assertThat(histogram.count(), is(2L));
+    assertThat(histogram.mean(), is(Duration.ofMillis(20)));
+    assertThat(histogram.max(), is(Duration.ofMillis(30)));
+  }
+
+  /**
+   * Quantiles are estimated within a factor of two.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void quantiles() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 100; i++) {
+      histogram.record(Duration.ofMillis(i));
+    }
+    final Duration median = histogram.quantile(0.5);
+    assertThat(median, greaterThanOrEqualTo(Duration.ofMillis(50)));
+    assertThat(median, lessThanOrEqualTo(Duration.ofMillis(100)));
+    assertThat(histogram.quantile(1), is(Duration.ofMillis(100)));
+  }
+
+  /**
+   * Zero when nothing was recorded.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void empty() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    assertThat(histogram.quantile(0.99), is(Duration.ZERO));
+    assertThat(histogram.mean(), is(Duration.ZERO));
+  }
+}
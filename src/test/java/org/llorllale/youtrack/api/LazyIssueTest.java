@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.util.Collections;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.MockField;
+import org.llorllale.youtrack.api.mock.MockLogin;
+import org.llorllale.youtrack.api.mock.MockProject;
+import org.llorllale.youtrack.api.mock.http.MockHttpClient;
+import org.llorllale.youtrack.api.mock.http.response.MockOkResponse;
+import org.llorllale.youtrack.api.mock.server.MockDataset;
+import org.llorllale.youtrack.api.mock.server.MockYouTrackServer;
+import org.llorllale.youtrack.api.session.PermanentToken;
+
+/**
+ * Unit tests for {@link LazyIssue}, as returned by {@link DefaultIssues#create}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class LazyIssueTest {
+  /**
+   * Creating an issue with fields takes two requests, and its data is fetched once, when read.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void createIsLean() throws Exception {
+    try (MockYouTrackServer server = new MockYouTrackServer(new MockDataset(1, 1, 0, 0))) {
+      final RequestMetrics metrics = new RequestMetrics();
+      final Project project = new DefaultYouTrack(
+        new PermanentToken(server.url(), "token"), metrics
+      ).projects().get("P0").get();
+      final Field priority = new MockField("Priority", project);
+      final Issue issue = project.issues().create(
+        "lean", "created",
+        Collections.singletonMap(priority, new BasicFieldValue("Critical", priority))
+      );
+      assertThat(issue.id(), is("P0-2"));
+      assertThat(metrics.snapshot().get("PUT /issue").count(), is(1L));
+      assertThat(metrics.snapshot().get("POST /issue/{id}/execute").count(), is(1L));
+      assertThat(metrics.snapshot().containsKey("GET /issue/{id}"), is(false));
+      assertThat(issue.summary(), is("lean"));
+      assertThat(
+        issue.fields().stream()
+          .filter(f -> f.isSameField(priority))
+          .findAny().get()
+          .value().asString(),
+        is("Critical")
+      );
+      assertThat(metrics.snapshot().get("GET /issue/{id}").count(), is(1L));
+    }
+  }
+
+  /**
+   * Refreshing is free, and the refreshed issue reads the latest data.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void refreshIsLazy() throws Exception {
+    try (MockYouTrackServer server = new MockYouTrackServer(new MockDataset(1, 1, 0, 0))) {
+      final RequestMetrics metrics = new RequestMetrics();
+      final Project project = new DefaultYouTrack(
+        new PermanentToken(server.url(), "token"), metrics
+      ).projects().get("P0").get();
+      final Issue issue = project.issues().create("before", null);
+      assertThat(issue.summary(), is("before"));
+      final Issue refreshed = issue.update().summary("after");
+      assertThat(metrics.snapshot().get("GET /issue/{id}").count(), is(1L));
+      assertThat(refreshed.summary(), is("after"));
+      assertThat(refreshed, is(issue));
+    }
+  }
+
+  /**
+   * Creating an issue fails with an {@link IOException} if YouTrack doesn't tell where
+   * the issue was created.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test(expected = IOException.class)
+  public void createdWithoutLocation() throws Exception {
+    new DefaultIssues(new MockProject(), new MockLogin(), new MockHttpClient(new MockOkResponse()))
+      .create("summary", "description");
+  }
+}
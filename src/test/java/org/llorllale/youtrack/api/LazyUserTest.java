@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.MockUser;
+
+/**
+ * Unit tests for {@link LazyUser}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class LazyUserTest {
+  /**
+   * The login is known without fetching the user.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void loginIsFree() {
+    final AtomicInteger fetches = new AtomicInteger();
+    final User user = new LazyUser(
+      "jdoe",
+      login -> {
+        fetches.incrementAndGet();
+        return new MockUser("John Doe", "jdoe@example.com", login);
+      }
+    );
+    assertThat(user.loginName(), is("jdoe"));
+    assertThat(fetches.get(), is(0));
+  }
+
+  /**
+   * The user is fetched once, on first use.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void fetchedOnce() {
+    final AtomicInteger fetches = new AtomicInteger();
+    final User user = new LazyUser(
+      "jdoe",
+      login -> {
+        fetches.incrementAndGet();
+        return new MockUser("John Doe", "jdoe@example.com", login);
+      }
+    );
+    assertThat(user.name(), is("John Doe"));
+    assertThat(user.email(), is("jdoe@example.com"));
+    assertThat(fetches.get(), is(1));
+  }
+
+  /**
+   * Errors fetching the user are rethrown unchecked.
+   * 
+   * @since 1.0.0
+   */
+  @Test(expected = UncheckedIOException.class)
+  public void fetchErrors() {
+    new LazyUser(
+      "jdoe",
+      login -> {
+        throw new IOException("unavailable");
+      }
+    ).name();
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.MockField;
+import org.llorllale.youtrack.api.mock.server.MockDataset;
+import org.llorllale.youtrack.api.mock.server.MockYouTrackServer;
+import org.llorllale.youtrack.api.session.PermanentToken;
+
+/**
+ * Unit tests for {@link MockYouTrackServer}, driven through the library's own API.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class MockYouTrackServerTest {
+  /**
+   * Projects and their issues are served from the generated dataset, over several pages.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void projectsAndIssues() throws Exception {
+    try (MockYouTrackServer server = new MockYouTrackServer(new MockDataset(3, 25, 0, 0))) {
+      final YouTrack youtrack = this.youtrack(server);
+      assertThat(youtrack.projects().stream().count(), is(3L));
+      assertThat(
+        youtrack.projects().get("P1").get().issues().stream().count(),
+        is(25L)
+      );
+      assertThat(
+        youtrack.projects().get("P1").get().issues().get("P1-7").get().summary(),
+        is("Issue P1-7")
+      );
+      assertThat(
+        youtrack.projects().get("P1").get().issues().get("P1-99").isPresent(),
+        is(false)
+      );
+    }
+  }
+
+  /**
+   * Issues created and commented on are served back.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void createAndComment() throws Exception {
+    try (MockYouTrackServer server = new MockYouTrackServer(new MockDataset(1, 5, 2, 1))) {
+      final Project project = this.youtrack(server).projects().get("P0").get();
+      final Issue issue = project.issues().create("new & shiny", "created");
+      assertThat(issue.id(), is("P0-6"));
+      assertThat(issue.summary(), is("new & shiny"));
+      issue.comments().post("hello");
+      assertThat(
+        issue.comments().stream().map(Comment::text).collect(Collectors.toList()).get(2),
+        is("hello")
+      );
+      issue.timetracking().create(Duration.ofMinutes(30));
+      assertThat(issue.timetracking().stream().count(), is(2L));
+    }
+  }
+
+  /**
+   * Fields, their values, and users are served.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void fieldsAndUsers() throws Exception {
+    try (MockYouTrackServer server = new MockYouTrackServer(new MockDataset(1, 5, 0, 0))) {
+      final Project project = this.youtrack(server).projects().get("P0").get();
+      assertThat(project.fields().stream().count(), is(3L));
+      assertThat(
+        project.fields().stream()
+          .filter(f -> "State".equals(f.name()))
+          .findAny().get()
+          .values().count(),
+        is(3L)
+      );
+      assertThat(
+        project.fields().values().get(new MockField("Priority", project)).size(),
+        is(4)
+      );
+      final Issue issue = project.issues().get("P0-1").get();
+      assertThat(issue.fields().size(), is(3));
+      assertThat(issue.users().creator().loginName(), is("root"));
+      assertThat(project.timetracking().enabled(), is(true));
+    }
+  }
+
+  /**
+   * Every request fails when the error rate is 1.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test(expected = IOException.class)
+  public void injectedErrors() throws Exception {
+    try (MockYouTrackServer server = new MockYouTrackServer(
+        new MockDataset(1, 1, 0, 0), Duration.ZERO, 1, 42
+    )) {
+      this.youtrack(server).projects().stream();
+    }
+  }
+
+  /**
+   * A client for the {@code server}.
+   * 
+   * @param server the server
+   * @return a client for the {@code server}
+   * @since 1.0.0
+   */
+  private YouTrack youtrack(MockYouTrackServer server) {
+    return new DefaultYouTrack(new PermanentToken(server.url(), "token"));
+  }
+}
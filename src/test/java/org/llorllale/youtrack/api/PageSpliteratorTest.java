@@ -0,0 +1,143 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (4 lines)
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.http.MockPagedHttpClient;
+import org.llorllale.youtrack.api.mock.http.MockThrowingHttpClient;
+
+/**
+ * Unit tests for {@link PageSpliterator}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class PageSpliteratorTest {
+  /**
+   * Sequential traversal returns all results in order.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void sequential() {
+    assertThat(
+      StreamSupport.stream(this.spliterator(new MockPagedHttpClient(23)), false)
+        .collect(toList()),
+      is(this.expected(23))
+    );
+  }
+
+  /**
+   * Parallel traversal returns all results in encounter order.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void parallel() {
+    assertThat(
+      StreamSupport.stream(this.spliterator(new MockPagedHttpClient(1013)), true)
+        .collect(toList()),
+      is(this.expected(1013))
+    );
+  }
+
+  /**
+   * Splits hand out disjoint, consecutive ranges of results.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void disjointSplits() {
+    final PageSpliterator<String> root = this.spliterator(new MockPagedHttpClient(100));
+    final List<String> first = StreamSupport.stream(root.trySplit(), false).collect(toList());
+    final List<String> second = StreamSupport.stream(root.trySplit(), false).collect(toList());
+    assertThat(first, is(this.expected(10)));
+    assertThat(second, is(this.expected(30).subList(10, 30)));
+    assertThat(
+      StreamSupport.stream(root, false).collect(toList()),
+      is(this.expected(100).subList(30, 100))
+    );
+  }
+
+  /**
+   * No more splits are handed out once the results are known to have ended.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void noSplitPastEnd() {
+    final PageSpliterator<String> root = this.spliterator(new MockPagedHttpClient(5));
+    root.trySplit();
+    root.trySplit();
+    assertThat(root.trySplit(), is(nullValue()));
+  }
+
+  /**
+   * Errors fetching pages are rethrown as {@link UncheckedException}.
+   * 
+   * @since 1.0.0
+   */
+  @Test(expected = UncheckedException.class)
+  public void error() {
+    this.spliterator(new MockThrowingHttpClient()).tryAdvance(x -> { });
+  }
+
+  /**
+   * A spliterator over pages of 10 issues' ids.
+   * 
+   * @param client the http client
+   * @return the spliterator
+   * @since 1.0.0
+   */
+  private PageSpliterator<String> spliterator(HttpClient client) {
+    return new PageSpliterator<>(
+      new PageSize.Fixed(10),
+      (offset, size) -> new HttpGet(
+        "http://localhost/issues?after=" + offset + "&max=" + size
+      ),
+      resp -> new MappedCollection<>(
+        x -> x.textOf("@id").get(),
+        new XmlsOf("/issues/issue", resp)
+      ),
+      client
+    );
+  }
+
+  /**
+   * The ids of the first {@code count} issues.
+   * 
+   * @param count the number of issues
+   * @return the ids
+   * @since 1.0.0
+   */
+  private List<String> expected(int count) {
+    return IntStream.range(0, count).mapToObj(i -> "TST-" + i).collect(toList());
+  }
+}
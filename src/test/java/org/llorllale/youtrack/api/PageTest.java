@@ -16,8 +16,9 @@
 
 package org.llorllale.youtrack.api;
 
-// @checkstyle AvoidStaticImport (1 line)
+// @checkstyle AvoidStaticImport (2 lines)
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Collections;
 import java.util.NoSuchElementException;
@@ -59,6 +60,38 @@ public final class PageTest {
     ).next();
   }
 
+  /**
+   * A page with fewer results than requested is the last one.
+   * @since 1.0.0
+   */
+  @Test
+  public void shortPageIsLast() {
+    assertTrue(
+      new Page<>(
+        null,
+        2,
+        r -> Collections.singletonList("a"),
+        new MockHttpClient(new MockOkResponse())
+      ).last()
+    );
+  }
+
+  /**
+   * A page with as many results as requested is not the last one.
+   * @since 1.0.0
+   */
+  @Test
+  public void fullPageIsNotLast() {
+    assertFalse(
+      new Page<>(
+        null,
+        1,
+        r -> Collections.singletonList("b"),
+        new MockHttpClient(new MockOkResponse())
+      ).last()
+    );
+  }
+
   /**
    * Page.Empty.hasNext() should always return {@code false}.
    * @since 1.0.0
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import org.apache.http.client.methods.HttpGet;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.http.MockPagedHttpClient;
+
+/**
+ * Unit tests for {@link Paging}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class PagingTest {
+  /**
+   * A short result set costs a single request.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void singleShortPage() {
+    final LongAdder requests = new LongAdder();
+    assertThat(this.stream(new Paging().counted(requests), 5).count(), is(5L));
+    assertThat(requests.sum(), is(1L));
+  }
+
+  /**
+   * The last, short page ends the stream without a trailing request.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void noTrailingRequest() {
+    final LongAdder requests = new LongAdder();
+    assertThat(this.stream(new Paging().counted(requests), 23).count(), is(23L));
+    assertThat(requests.sum(), is(3L));
+  }
+
+  /**
+   * A full last page can only be told apart from an empty one by requesting the next.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void fullLastPage() {
+    final LongAdder requests = new LongAdder();
+    assertThat(this.stream(new Paging().counted(requests), 20).count(), is(20L));
+    assertThat(requests.sum(), is(3L));
+  }
+
+  /**
+   * Prefetching streams return all results.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void prefetching() {
+    assertThat(this.stream(new Paging().lookahead(3), 95).count(), is(95L));
+  }
+
+  /**
+   * Each stream gets its own page size policy.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void sizePerStream() {
+    final LongAdder sizes = new LongAdder();
+    final Paging paging = new Paging().size(
+      () -> {
+        sizes.increment();
+        return new PageSize.Fixed(10);
+      }
+    );
+    this.stream(paging, 5).count();
+    this.stream(paging, 5).count();
+    assertThat(sizes.sum(), is(2L));
+  }
+
+  /**
+   * Streams pages of {@code total} results with the given paging.
+   * 
+   * @param paging the paging
+   * @param total the total number of results
+   * @return the stream
+   * @since 1.0.0
+   */
+  private Stream<Xml> stream(Paging paging, int total) {
+    return paging.stream(
+      (offset, size) -> new HttpGet("http://localhost/issues?after=" + offset + "&max=" + size),
+      resp -> new XmlsOf("/issues/issue", resp),
+      new MockPagedHttpClient(total)
+    );
+  }
+}
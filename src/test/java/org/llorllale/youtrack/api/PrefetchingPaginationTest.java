@@ -0,0 +1,253 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (4 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.http.MockHttpClient;
+import org.llorllale.youtrack.api.mock.http.MockThrowingHttpClient;
+import org.llorllale.youtrack.api.mock.http.response.MockOkResponse;
+
+/**
+ * Unit tests for {@link PrefetchingPagination}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class PrefetchingPaginationTest {
+  /**
+   * Returns the contents of all pages, in order.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void allPagesInOrder() {
+    final List<String> ids = new ArrayList<>();
+    this.pagination(
+      2,
+      new AtomicInteger(),
+      new MockHttpClient(
+        new MockOkResponse("<items/>"),
+        new MockOkResponse("<items><item id=\"1\"/><item id=\"2\"/></items>"),
+        new MockOkResponse("<items><item id=\"3\"/></items>")
+      )
+    ).forEachRemaining(ids::add);
+    assertThat(ids, contains("1", "2", "3"));
+  }
+
+  /**
+   * Requests the page to consume and {@code lookahead} pages after it.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void requestsAhead() {
+    final AtomicInteger requests = new AtomicInteger();
+    final int lookahead = 3;
+    this.pagination(
+      lookahead,
+      requests,
+      new MockHttpClient(
+        new MockOkResponse("<items/>"),
+        new MockOkResponse("<items><item id=\"1\"/></items>")
+      )
+    ).hasNext();
+    assertThat(requests.get(), is(lookahead + 1));
+  }
+
+  /**
+   * While a page is consumed, {@code lookahead} pages after it are in flight.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void inflightWhileConsuming() {
+    final AtomicInteger submitted = new AtomicInteger();
+    final AtomicInteger fetched = new AtomicInteger();
+    final PrefetchingPagination<String> pagination = new PrefetchingPagination<>(
+      2,
+      task -> {
+        submitted.incrementAndGet();
+        task.run();
+      },
+      new PageSize.Fixed(2),
+      (offset, size) -> new HttpGet("http://localhost/items?after=" + offset),
+      resp -> {
+        fetched.incrementAndGet();
+        return this.ids(resp);
+      },
+      new MockHttpClient(
+        new MockOkResponse("<items/>"),
+        new MockOkResponse("<items><item id=\"1\"/><item id=\"2\"/></items>"),
+        new MockOkResponse("<items><item id=\"3\"/><item id=\"4\"/></items>"),
+        new MockOkResponse("<items><item id=\"5\"/><item id=\"6\"/></items>"),
+        new MockOkResponse("<items><item id=\"7\"/><item id=\"8\"/></items>")
+      )
+    );
+    pagination.next();
+    assertThat(submitted.get() - 1, is(2));
+    pagination.next();
+    pagination.next();
+    assertThat(submitted.get() - 2, is(2));
+    assertThat(fetched.get(), is(submitted.get()));
+  }
+
+  /**
+   * Pages in flight after the last one are cancelled, and the ones not started are never sent.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void cancelsAfterLastPage() {
+    final List<Runnable> queued = new ArrayList<>();
+    final AtomicInteger fetched = new AtomicInteger();
+    final PrefetchingPagination<String> pagination = new PrefetchingPagination<>(
+      3,
+      task -> {
+        if (fetched.get() == 0 && queued.isEmpty()) {
+          task.run();
+        } else {
+          queued.add(task);
+        }
+      },
+      new PageSize.Fixed(2),
+      (offset, size) -> new HttpGet("http://localhost/items?after=" + offset),
+      resp -> {
+        fetched.incrementAndGet();
+        return this.ids(resp);
+      },
+      new MockHttpClient(new MockOkResponse("<items><item id=\"1\"/></items>"))
+    );
+    final List<String> ids = new ArrayList<>();
+    pagination.forEachRemaining(ids::add);
+    assertThat(queued.size(), is(3));
+    queued.forEach(Runnable::run);
+    assertThat(ids, contains("1"));
+    assertThat(fetched.get(), is(1));
+  }
+
+  /**
+   * No pages past the lookahead are requested once a short page arrives.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void stopsAtShortPage() {
+    final AtomicInteger requests = new AtomicInteger();
+    final PrefetchingPagination<String> pagination = this.pagination(
+      1,
+      requests,
+      new MockHttpClient(
+        new MockOkResponse("<items/>"),
+        new MockOkResponse("<items><item id=\"1\"/><item id=\"2\"/></items>"),
+        new MockOkResponse("<items><item id=\"3\"/></items>")
+      )
+    );
+    pagination.forEachRemaining(id -> { });
+    assertThat(requests.get(), is(3));
+  }
+
+  /**
+   * An empty first page means there are no results.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void empty() {
+    assertFalse(
+      this.pagination(2, new AtomicInteger(), new MockHttpClient(new MockOkResponse("<items/>")))
+        .hasNext()
+    );
+  }
+
+  /**
+   * next() throws {@link NoSuchElementException} when there are no more results.
+   * 
+   * @since 1.0.0
+   */
+  @Test(expected = NoSuchElementException.class)
+  public void exhausted() {
+    this.pagination(2, new AtomicInteger(), new MockHttpClient(new MockOkResponse("<items/>")))
+      .next();
+  }
+
+  /**
+   * Errors fetching a page are rethrown as {@link UncheckedException}.
+   * 
+   * @since 1.0.0
+   */
+  @Test(expected = UncheckedException.class)
+  public void error() {
+    this.pagination(2, new AtomicInteger(), new MockThrowingHttpClient()).hasNext();
+  }
+
+  /**
+   * A pagination over pages of two items that runs its fetches on the calling thread.
+   * 
+   * @param lookahead the number of pages to request ahead
+   * @param requests counts the requests built
+   * @param client the http client
+   * @return the pagination
+   * @since 1.0.0
+   */
+  private PrefetchingPagination<String> pagination(
+      int lookahead, AtomicInteger requests, HttpClient client
+  ) {
+    return new PrefetchingPagination<>(
+      lookahead,
+      Runnable::run,
+      new PageSize.Fixed(2),
+      (offset, size) -> {
+        requests.incrementAndGet();
+        return new HttpGet("http://localhost/items?after=" + offset + "&max=" + size);
+      },
+      resp -> this.ids(resp),
+      client
+    );
+  }
+
+  /**
+   * The ids of the items in the response.
+   * 
+   * @param resp the response
+   * @return the ids
+   * @throws IOException from {@link XmlsOf}
+   * @since 1.0.0
+   */
+  private Collection<String> ids(Response resp) throws IOException {
+    return new MappedCollection<>(
+      x -> x.textOf("@id").get(),
+      new XmlsOf("/items/item", resp)
+    );
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.util.EntityUtils;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.http.MockHttpClient;
+import org.llorllale.youtrack.api.mock.http.MockThrowingHttpClient;
+import org.llorllale.youtrack.api.mock.http.response.MockOkResponse;
+
+/**
+ * Unit tests for {@link RequestMetrics} fed by a {@link MeteredHttpClient}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class RequestMetricsTest {
+  /**
+   * Requests are counted by endpoint template and status class, with their payloads' lengths.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void byEndpoint() throws Exception {
+    final RequestMetrics metrics = new RequestMetrics();
+    final MeteredHttpClient client = new MeteredHttpClient(
+      new MockHttpClient(
+        new MockOkResponse("<issue/>"),
+        new MockOkResponse("<issue/>"),
+        new MockOkResponse("<issue/>")
+      ),
+      metrics
+    );
+    EntityUtils.consume(
+      client.execute(new HttpGet("http://host/rest/issue/TP-1/comment")).getEntity()
+    );
+    EntityUtils.consume(client.execute(new HttpGet("http://host/rest/issue/TP-1")).getEntity());
+    final HttpPost post = new HttpPost("http://host/rest/issue/TP-2");
+    post.setEntity(new StringEntity("summary=hello"));
+    EntityUtils.consume(client.execute(post).getEntity());
+    final EndpointSnapshot get = metrics.snapshot().get("GET /issue/{id}");
+    assertThat(get.count(), is(1L));
+    assertThat(get.statuses(), is(Collections.singletonMap("2xx", 1L)));
+    assertThat(get.received(), is(8L));
+    assertThat(metrics.snapshot().get("POST /issue/{id}").sent(), is(13L));
+    assertThat(metrics.snapshot().get("GET /issue/{id}/comment").count(), is(1L));
+    assertThat(metrics.snapshot().size(), is(3));
+  }
+
+  /**
+   * Payloads of unknown length are counted as they are read, and requests are reported only
+   * once their payload has been read.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void countsPayloadRead() throws Exception {
+    final RequestMetrics metrics = new RequestMetrics();
+    final HttpResponse response = new MeteredHttpClient(
+      new MockHttpClient(
+        new MockOkResponse(
+          new InputStreamEntity(
+            new ByteArrayInputStream("<issue id=\"TP-1\"/>".getBytes(StandardCharsets.UTF_8)),
+            -1
+          )
+        )
+      ),
+      metrics
+    ).execute(new HttpGet("http://host/rest/issue/TP-1"));
+    assertThat(metrics.snapshot().isEmpty(), is(true));
+    try (InputStream payload = response.getEntity().getContent()) {
+      assertThat(payload.read(new byte[4]), is(4));
+    }
+    assertThat(metrics.snapshot().get("GET /issue/{id}").received(), is(18L));
+  }
+
+  /**
+   * Requests that fail without a response are counted as errors.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void errors() {
+    final RequestMetrics metrics = new RequestMetrics();
+    try {
+      new MeteredHttpClient(new MockThrowingHttpClient(), metrics)
+        .execute(new HttpGet("http://host/rest/issue/TP-1"));
+    } catch (IOException e) {
+      assertThat(e.getMessage(), is("always fails"));
+    }
+    assertThat(
+      metrics.snapshot().get("GET /issue/{id}").statuses(),
+      is(Collections.singletonMap("error", 1L))
+    );
+  }
+}
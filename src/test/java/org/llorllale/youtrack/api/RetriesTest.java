@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Retries}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class RetriesTest {
+  private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+
+  /**
+   * Shuts down the timer.
+   * 
+   * @since 1.0.0
+   */
+  @After
+  public void shutdown() {
+    this.timer.shutdownNow();
+  }
+
+  /**
+   * Writes that couldn't connect, or got a server error, are retried.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void retriesUnsent() throws Exception {
+    final AtomicInteger sends = new AtomicInteger();
+    final Retries retries = this.retries(5, Duration.ofMillis(1));
+    final boolean sent = !retries.outcome(
+      () -> {
+        if (sends.incrementAndGet() == 1) {
+          throw new ConnectException("Connection refused");
+        } else if (sends.get() == 2) {
+          throw new ServerErrorException("503 Service Unavailable");
+        }
+      }
+    ).get(10, TimeUnit.SECONDS).isPresent();
+    assertThat(sent, is(true));
+    assertThat(sends.get(), is(3));
+    assertThat(retries.count(), is(2L));
+  }
+
+  /**
+   * Writes that may have reached the server are not retried.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void keepsSent() throws Exception {
+    final AtomicInteger sends = new AtomicInteger();
+    final Retries retries = this.retries(5, Duration.ofMillis(1));
+    retries.outcome(
+      () -> {
+        sends.incrementAndGet();
+        throw new SocketTimeoutException("Read timed out");
+      }
+    ).get(10, TimeUnit.SECONDS);
+    retries.outcome(
+      () -> {
+        sends.incrementAndGet();
+        throw new IOException("400 BadRequest");
+      }
+    ).get(10, TimeUnit.SECONDS);
+    assertThat(sends.get(), is(2));
+    assertThat(retries.count(), is(0L));
+  }
+
+  /**
+   * Waiting to retry holds no call, so other calls run meanwhile.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void pauseHoldsNoCall() throws Exception {
+    final BoundedCalls calls = new BoundedCalls(1);
+    final CompletableFuture<Boolean> retried = new Retries(
+      calls, this.timer, 2, Duration.ofMinutes(1)
+    ).outcome(
+      () -> {
+        throw new ConnectException("Connection refused");
+      }
+    ).thenApply(error -> true);
+    assertThat(calls.submit(() -> true).get(10, TimeUnit.SECONDS), is(true));
+    assertThat(retried.isDone(), is(false));
+  }
+
+  /**
+   * Backoffs longer than the maximum wait are rejected.
+   * 
+   * @since 1.0.0
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void longBackoff() {
+    this.retries(Integer.MAX_VALUE, Duration.ofDays(365));
+  }
+
+  /**
+   * Retries on a bounded number of calls and the test's timer.
+   * 
+   * @param attempts the maximum number of attempts to send each write
+   * @param backoff the time to wait before the first retry
+   * @return retries
+   */
+  private Retries retries(int attempts, Duration backoff) {
+    return new Retries(new BoundedCalls(2), this.timer, attempts, backoff);
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (5 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThat;
+
+import java.time.Instant;
+import java.util.Collection;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.MockLogin;
+import org.llorllale.youtrack.api.mock.MockProject;
+import org.llorllale.youtrack.api.mock.MockUser;
+import org.llorllale.youtrack.api.mock.server.MockDataset;
+import org.llorllale.youtrack.api.mock.server.MockYouTrackServer;
+import org.llorllale.youtrack.api.session.PermanentToken;
+
+/**
+ * Unit tests for {@link SnapshotIssue}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MultipleStringLiterals (500 lines)
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class SnapshotIssueTest {
+  private static final String XML =
+      "<issue id=\"HBR-63\">\n"
+      + "  <field name=\"created\"><value>1262171005630</value></field>\n"
+      + "  <field name=\"summary\"><value>summary text</value></field>\n"
+      + "  <field name=\"reporterName\"><value>creator</value></field>\n"
+      + "  <field name=\"Priority\"><value>Normal</value><valueId>Normal</valueId></field>\n"
+      + "</issue>";
+
+  /**
+   * Refreshing a snapshot returns a fresh snapshot.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void refreshKeepsSnapshot() throws Exception {
+    try (MockYouTrackServer server = new MockYouTrackServer(new MockDataset(1, 3, 0, 0))) {
+      final Issue issue = new DefaultYouTrack(new PermanentToken(server.url(), "token"))
+        .projects().get("P0").get()
+        .issues().snapshots().get("P0-2").get();
+      assertThat(issue.refresh() instanceof SnapshotIssue, is(true));
+      assertThat(issue.refresh(), is(issue));
+    }
+  }
+
+  /**
+   * Reads the issue's id, creation date and summary.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void attributes() {
+    final Issue issue = this.issue(XML);
+    assertThat(issue.id(), is("HBR-63"));
+    assertThat(issue.creationDate(), is(Instant.ofEpochMilli(1262171005630L)));
+    assertThat(issue.summary(), is("summary text"));
+  }
+
+  /**
+   * Description is empty when the issue has none.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void noDescription() {
+    assertFalse(this.issue(XML).description().isPresent());
+  }
+
+  /**
+   * Only custom fields (the ones with a valueId) are returned as assigned fields.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void customFields() {
+    final Collection<AssignedField> fields = this.issue(XML).fields();
+    assertThat(fields.size(), is(1));
+    assertThat(fields.iterator().next().name(), is("Priority"));
+    assertThat(fields.iterator().next().value().asString(), is("Normal"));
+  }
+
+  /**
+   * Multi-valued fields keep only their first value, as {@link XmlIssue} does.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void multiValued() {
+    final String xml = "<issue id=\"HBR-65\"><field name=\"Fix versions\">"
+      + "<value>1.0</value><value>1.1</value><valueId>1.0</valueId><valueId>1.1</valueId>"
+      + "</field></issue>";
+    assertThat(
+      this.issue(xml).fields().iterator().next().value().asString(),
+      is(
+        new XmlIssue(new MockProject(), new MockLogin(), new XmlOf(xml), new PooledHttpClient())
+          .fields().iterator().next().value().asString()
+      )
+    );
+    assertThat(this.issue(xml).fields().iterator().next().value().asString(), is("1.0"));
+  }
+
+  /**
+   * The issue's users are resolved from the snapshot's values.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void creator() throws Exception {
+    assertThat(
+        new SnapshotIssue(
+            new MockProject().withUser(new MockUser("Creator", "c@gmail.com", "creator")),
+            new MockLogin(),
+            new XmlOf(XML),
+            HttpClients.createDefault()
+        ).users().creator().loginName(),
+        is("creator")
+    );
+  }
+
+  /**
+   * Snapshots are equal to xml-backed issues with the same id and project.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void equality() {
+    final Project project = new MockProject();
+    final Issue snapshot = new SnapshotIssue(
+        project, new MockLogin(), new XmlOf(XML), HttpClients.createDefault()
+    );
+    final Issue xml = new XmlIssue(
+      project, new MockLogin(), new XmlOf(XML), new PooledHttpClient()
+    );
+    assertEquals(snapshot, xml);
+    assertThat(snapshot.hashCode(), is(xml.hashCode()));
+    assertNotEquals(snapshot, this.issue("<issue id=\"HBR-64\"/>"));
+  }
+
+  /**
+   * A snapshot of {@code xml}.
+   * 
+   * @param xml the issue's xml
+   * @return the snapshot
+   * @since 1.0.0
+   */
+  private Issue issue(String xml) {
+    return new SnapshotIssue(
+        new MockProject(), new MockLogin(), new XmlOf(xml), HttpClients.createDefault()
+    );
+  }
+}
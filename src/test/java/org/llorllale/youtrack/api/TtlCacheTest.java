@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link TtlCache}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class TtlCacheTest {
+  /**
+   * Values are fetched once until they expire.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void fetchedOnceUntilExpired() throws Exception {
+    final AtomicLong clock = new AtomicLong();
+    final AtomicInteger fetches = new AtomicInteger();
+    final TtlCache<String> cache = new TtlCache<>(Duration.ofNanos(100), 10, clock::get);
+    final ExceptionalFunction<Optional<String>, String, IOException> fetch = expired -> {
+      fetches.incrementAndGet();
+      return "value";
+    };
+    cache.value("key", fetch);
+    clock.set(99);
+    assertThat(cache.value("key", fetch), is("value"));
+    assertThat(fetches.get(), is(1));
+    clock.set(100);
+    cache.value("key", fetch);
+    assertThat(fetches.get(), is(2));
+  }
+
+  /**
+   * Expired values are handed to the fetch of fresh ones.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void expiredValueGivenToFetch() throws Exception {
+    final AtomicLong clock = new AtomicLong();
+    final TtlCache<String> cache = new TtlCache<>(Duration.ofNanos(100), 10, clock::get);
+    assertThat(cache.value("key", expired -> expired.orElse("first")), is("first"));
+    clock.set(100);
+    assertThat(cache.value("key", expired -> expired.get() + " again"), is("first again"));
+  }
+
+  /**
+   * The entries closest to expiring are evicted past the maximum size.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void evictsOldest() {
+    final AtomicLong clock = new AtomicLong();
+    final TtlCache<String> cache = new TtlCache<>(Duration.ofNanos(100), 2, clock::get);
+    for (int i = 0; i < 3; i++) {
+      clock.set(i);
+      cache.put("key" + i, "value");
+    }
+    assertThat(cache.size(), is(2));
+  }
+
+  /**
+   * Replacing an entry refreshes its place in the eviction order.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void replacedEntriesExpireLater() throws Exception {
+    final AtomicLong clock = new AtomicLong();
+    final TtlCache<String> cache = new TtlCache<>(Duration.ofNanos(1000), 2, clock::get);
+    cache.put("a", "value");
+    clock.set(1);
+    cache.put("b", "value");
+    for (int i = 2; i < 100; i++) {
+      clock.set(i);
+      cache.put("a", "value");
+    }
+    cache.put("c", "value");
+    final AtomicInteger fetches = new AtomicInteger();
+    final ExceptionalFunction<Optional<String>, String, IOException> fetch = expired -> {
+      fetches.incrementAndGet();
+      return "value";
+    };
+    cache.value("a", fetch);
+    cache.value("c", fetch);
+    assertThat(fetches.get(), is(0));
+    assertThat(cache.size(), is(2));
+  }
+}
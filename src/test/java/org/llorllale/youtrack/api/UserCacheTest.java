@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link UserCache}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class UserCacheTest {
+  /**
+   * Missing users are cached too.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void negativeCaching() throws Exception {
+    final AtomicInteger fetches = new AtomicInteger();
+    final UserCache cache = new UserCache(Duration.ofMinutes(1), 10);
+    final ExceptionalFunction<String, Optional<User>, IOException> fetch = key -> {
+      fetches.incrementAndGet();
+      return Optional.empty();
+    };
+    assertThat(cache.user("ghost", fetch).isPresent(), is(false));
+    assertThat(cache.user("ghost", fetch).isPresent(), is(false));
+    assertThat(fetches.get(), is(1));
+  }
+}
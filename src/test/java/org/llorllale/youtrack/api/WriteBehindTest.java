@@ -0,0 +1,216 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.server.MockDataset;
+import org.llorllale.youtrack.api.mock.server.MockYouTrackServer;
+import org.llorllale.youtrack.api.session.PermanentToken;
+
+/**
+ * Unit tests for {@link WriteBehind}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class WriteBehindTest {
+  /**
+   * Writes are accepted without being sent, and {@link WriteBehind#flush()} sends them all, in
+   * order for each issue.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void flush() throws Exception {
+    try (MockYouTrackServer server = new MockYouTrackServer(new MockDataset(1, 4, 0, 0));
+        WriteBehind writes = new WriteBehind(Duration.ofHours(1))) {
+      final List<Issue> issues = this.project(server).issues().stream()
+        .collect(Collectors.toList());
+      for (int i = 0; i < 5; i++) {
+        for (Issue issue : issues) {
+          writes.comments(issue).post("Comment " + i);
+        }
+      }
+      writes.timetracking(issues.get(0)).create(Duration.ofMinutes(30), "Review");
+      assertThat(writes.snapshot().depth(), is(21L));
+      assertThat(issues.get(0).comments().stream().count(), is(0L));
+      writes.flush();
+      assertThat(writes.snapshot().depth(), is(0L));
+      assertThat(writes.snapshot().written(), is(21L));
+      assertThat(writes.snapshot().flushes(), is(1L));
+      assertThat(
+        issues.get(3).comments().stream().map(Comment::text).collect(Collectors.toList()),
+        is(
+          Arrays.asList(
+            "Comment 0", "Comment 1", "Comment 2", "Comment 3", "Comment 4"
+          )
+        )
+      );
+      assertThat(issues.get(0).timetracking().stream().count(), is(1L));
+    }
+  }
+
+  /**
+   * Writes are flushed in the background.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void background() throws Exception {
+    try (MockYouTrackServer server = new MockYouTrackServer(new MockDataset(1, 1, 0, 0));
+        WriteBehind writes = new WriteBehind(Duration.ofMillis(20))) {
+      final Issue issue = this.project(server).issues().get("P0-1").get();
+      writes.comments(issue).post("Eventually");
+      final long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+      while (writes.snapshot().written() == 0 && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      assertThat(writes.snapshot().written(), is(1L));
+      assertThat(issue.comments().stream().findFirst().get().text(), is("Eventually"));
+    }
+  }
+
+  /**
+   * Writes that fail are retried.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void retries() throws Exception {
+    try (MockYouTrackServer server = new MockYouTrackServer(
+        new MockDataset(1, 1, 0, 0), Duration.ZERO, 0.5, 42
+      )) {
+      final WriteBehind writes = new WriteBehind(
+        Duration.ofHours(1), 2, 20, Duration.ofMillis(1)
+      );
+      final Comments comments = writes.comments(this.flaky(server));
+      for (int i = 0; i < 10; i++) {
+        comments.post("Comment " + i);
+      }
+      writes.close();
+      assertThat(writes.snapshot().written(), is(10L));
+      assertThat(writes.snapshot().retries() > 0, is(true));
+    }
+  }
+
+  /**
+   * Writes are given up on after the last attempt, and reported by the next flush.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void givesUp() throws Exception {
+    try (MockYouTrackServer server = new MockYouTrackServer(
+        new MockDataset(1, 1, 0, 0), Duration.ZERO, 1, 42
+      )) {
+      final WriteBehind writes = new WriteBehind(
+        Duration.ofHours(1), 1, 3, Duration.ofMillis(1)
+      );
+      writes.comments(this.flaky(server)).post("Never");
+      boolean reported = false;
+      try {
+        writes.flush();
+      } catch (IOException e) {
+        reported = true;
+      }
+      assertThat(reported, is(true));
+      assertThat(writes.snapshot().failed(), is(1L));
+      assertThat(writes.snapshot().retries(), is(2L));
+      assertThat(writes.snapshot().depth(), is(0L));
+      writes.close();
+    }
+  }
+
+  /**
+   * Writes that throw unchecked exceptions are given up on, and the issue's other writes are
+   * still sent.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void unchecked() throws Exception {
+    final WriteBehind writes = new WriteBehind(Duration.ofHours(1));
+    final Comments comments = writes.comments(new LazyIssue(null, "P0-1", null, null));
+    comments.post("Boom");
+    comments.post("Boom again");
+    boolean reported = false;
+    try {
+      writes.flush();
+    } catch (IOException e) {
+      reported = true;
+    }
+    assertThat(reported, is(true));
+    assertThat(writes.snapshot().failed(), is(2L));
+    assertThat(writes.snapshot().depth(), is(0L));
+    writes.close();
+  }
+
+  /**
+   * Writes made after the buffer is closed are rejected.
+   * 
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test(expected = IllegalStateException.class)
+  public void closed() throws Exception {
+    final WriteBehind writes = new WriteBehind(Duration.ofHours(1));
+    writes.close();
+    writes.comments(new LazyIssue(null, "P0-1", null, null)).post("Too late");
+  }
+
+  /**
+   * An issue of the {@code server}, whose data is never fetched.
+   * 
+   * @param server the server
+   * @return an issue of the {@code server}
+   */
+  private Issue flaky(MockYouTrackServer server) {
+    return new LazyIssue(
+      null, "P0-1", new PermanentToken(server.url(), "token"), HttpClients.createDefault()
+    );
+  }
+
+  /**
+   * The server's first project.
+   * 
+   * @param server the server
+   * @return the server's first project
+   * @throws Exception unexpected
+   */
+  private Project project(MockYouTrackServer server) throws Exception {
+    return new DefaultYouTrack(new PermanentToken(server.url(), "token"))
+      .projects().get("P0").get();
+  }
+}
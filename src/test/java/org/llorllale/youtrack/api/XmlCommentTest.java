@@ -61,7 +61,7 @@ public final class XmlCommentTest {
   @Test
   public void testId() throws Exception {
     assertThat(
-      new XmlComment(this.issue(), new MockLogin(), xmlObject).id(),
+      new XmlComment(this.issue(), new MockLogin(), xmlObject, new PooledHttpClient()).id(),
       is("42-307")
     );
   }
@@ -73,7 +73,9 @@ public final class XmlCommentTest {
   @Test
   public void testCreationDate() throws Exception {
     assertThat(
-      new XmlComment(this.issue(), new MockLogin(), xmlObject).creationDate(),
+      new XmlComment(
+        this.issue(), new MockLogin(), xmlObject, new PooledHttpClient()
+      ).creationDate(),
       // @checkstyle MagicNumber (1 line)
       is(Instant.ofEpochMilli(1267030238721L))
     );
@@ -87,7 +89,7 @@ public final class XmlCommentTest {
   @Test
   public void testText() throws Exception {
     assertThat(
-      new XmlComment(this.issue(), new MockLogin(), xmlObject).text(),
+      new XmlComment(this.issue(), new MockLogin(), xmlObject, new PooledHttpClient()).text(),
       is("comment 2?")
     );
   }
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link XmlFragments}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class XmlFragmentsTest {
+  /**
+   * Pulls out adjacent elements at an absolute path, in document order.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void absolutePath() {
+    final XmlFragments fragments = new XmlFragments(
+        "/issues/issue",
+        this.input(
+            "<issues><issue id=\"1\"/><issue id=\"2\"><a/></issue>\n"
+            + "<issue id=\"3\"/></issues>"
+        )
+    );
+    assertThat(fragments.next().textOf("@id").get(), is("1"));
+    assertThat(fragments.next().textOf("@id").get(), is("2"));
+    assertThat(fragments.next().textOf("@id").get(), is("3"));
+    assertFalse(fragments.hasNext());
+  }
+
+  /**
+   * Elements at other paths are not pulled out.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void ignoresOtherPaths() {
+    final XmlFragments fragments = new XmlFragments(
+        "/issues/issue",
+        this.input("<issues><other><issue id=\"1\"/></other><issue id=\"2\"/></issues>")
+    );
+    assertThat(fragments.next().textOf("@id").get(), is("2"));
+    assertFalse(fragments.hasNext());
+  }
+
+  /**
+   * Pulls out elements at any depth.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void anyDepth() {
+    final XmlFragments fragments = new XmlFragments(
+        "//comment",
+        this.input("<issue><comment id=\"1\"/><x><comment id=\"2\"/></x></issue>")
+    );
+    assertThat(fragments.next().textOf("@id").get(), is("1"));
+    assertThat(fragments.next().textOf("@id").get(), is("2"));
+    assertFalse(fragments.hasNext());
+  }
+
+  /**
+   * Fragments are detached: descendant xpath expressions are scoped to each of them.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void detachedFragments() {
+    final XmlFragments fragments = new XmlFragments(
+        "/issues/issue",
+        this.input(
+            "<issues><issue><field>a &amp; b</field></issue>"
+            + "<issue><field><![CDATA[c]]></field></issue></issues>"
+        )
+    );
+    fragments.next();
+    assertThat(fragments.next().children("//field").size(), is(1));
+  }
+
+  /**
+   * Text and CDATA content is kept.
+   * 
+   * @since 1.0.0
+   */
+  @Test
+  public void keepsText() {
+    final XmlFragments fragments = new XmlFragments(
+        "/*",
+        this.input("<issue><field>a &amp; b</field><field><![CDATA[<c>]]></field></issue>")
+    );
+    final Xml xml = fragments.next();
+    assertThat(xml.textOf("field[1]").get(), is("a & b"));
+    assertThat(xml.textOf("field[2]").get(), is("<c>"));
+  }
+
+  /**
+   * Throws {@link NoSuchElementException} when exhausted.
+   * 
+   * @since 1.0.0
+   */
+  @Test(expected = NoSuchElementException.class)
+  public void exhausted() {
+    new XmlFragments("/issues/issue", this.input("<issues/>")).next();
+  }
+
+  /**
+   * Malformed input is reported as an {@link UncheckedException}.
+   * 
+   * @since 1.0.0
+   */
+  @Test(expected = UncheckedException.class)
+  public void malformed() {
+    new XmlFragments("/issues/issue", this.input("<issues><issue>")).next();
+  }
+
+  /**
+   * External entities are never resolved.
+   * 
+   * @throws Exception expected
+   * @since 1.0.0
+   */
+  @Test(expected = UncheckedException.class)
+  public void externalEntities() throws Exception {
+    final Path secret = Files.createTempFile("secret", ".txt");
+    try {
+      Files.write(secret, "secret".getBytes(StandardCharsets.UTF_8));
+      new XmlFragments(
+          "/*",
+          this.input(
+              "<!DOCTYPE issue [<!ENTITY xxe SYSTEM \"" + secret.toUri() + "\">]>"
+              + "<issue><field>&xxe;</field></issue>"
+          )
+      ).next();
+    } finally {
+      Files.delete(secret);
+    }
+  }
+
+  /**
+   * The given text as an input stream.
+   * 
+   * @param xml the text
+   * @return the input stream
+   * @since 1.0.0
+   */
+  private InputStream input(String xml) {
+    return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+  }
+}
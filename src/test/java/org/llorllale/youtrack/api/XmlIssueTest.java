@@ -46,7 +46,8 @@ public final class XmlIssueTest {
       new XmlIssue(
         new MockProject(),
         new MockLogin(),
-        new XmlOf(new StringAsDocument("<issue id=\"HBR-63\"/>"))
+        new XmlOf(new StringAsDocument("<issue id=\"HBR-63\"/>")),
+        new PooledHttpClient()
       ).id(),
       is("HBR-63")
     );
@@ -67,7 +68,8 @@ public final class XmlIssueTest {
             + "        <value>1262171005630</value>\n"
             + "    </field>\n"
             + "</issue>"
-        ))
+        )),
+        new PooledHttpClient()
       ).creationDate(),
       // @checkstyle MagicNumber (1 line)
       is(Instant.ofEpochMilli(1262171005630L))
@@ -89,7 +91,8 @@ public final class XmlIssueTest {
           + "        <value>summary text</value>\n"
           + "    </field>\n"
           + "</issue>"
-        ))
+        )),
+        new PooledHttpClient()
       ).summary(),
       is("summary text")
     );
@@ -110,7 +113,8 @@ public final class XmlIssueTest {
           + "        <value>descriptive text</value>\n"
           + "    </field>\n"
           + "</issue>"
-        ))
+        )),
+        new PooledHttpClient()
       ).description().get(),
       is("descriptive text")
     );
@@ -148,7 +152,8 @@ public final class XmlIssueTest {
             + "      <valueId>Open</valueId>\n"
             + "    </field>"
             + "</issue>"
-        ))
+        )),
+        new PooledHttpClient()
       ).fields().size(),
       // @checkstyle MagicNumber (1 line)
       is(3)
@@ -165,7 +170,8 @@ public final class XmlIssueTest {
       new XmlIssue(
         new MockProject(),
         new MockLogin(),
-        new XmlOf(new StringAsDocument("<issue id=\"HBR-63\"/>"))
+        new XmlOf(new StringAsDocument("<issue id=\"HBR-63\"/>")),
+        new PooledHttpClient()
       ).id().hashCode(),
       is("HBR-63".hashCode())
     );
@@ -182,7 +188,8 @@ public final class XmlIssueTest {
       new XmlIssue(
         project,
         new MockLogin(),
-        new XmlOf(new StringAsDocument("<issue id=\"HBR-63\"/>"))
+        new XmlOf(new StringAsDocument("<issue id=\"HBR-63\"/>")),
+        new PooledHttpClient()
       ),
       new MockIssue(project, "HBR-63")
     );
@@ -198,7 +205,8 @@ public final class XmlIssueTest {
       new XmlIssue(
         new MockProject(),
         new MockLogin(),
-        new XmlOf(new StringAsDocument("<issue id=\"HBR-63\"/>"))
+        new XmlOf(new StringAsDocument("<issue id=\"HBR-63\"/>")),
+        new PooledHttpClient()
       ).equals(null)
     );
   }
@@ -213,7 +221,8 @@ public final class XmlIssueTest {
       new XmlIssue(
         new MockProject(),
         new MockLogin(),
-        new XmlOf(new StringAsDocument("<issue id=\"HBR-63\"/>"))
+        new XmlOf(new StringAsDocument("<issue id=\"HBR-63\"/>")),
+        new PooledHttpClient()
       ).equals(new Object())
     );
   }
@@ -229,7 +238,8 @@ public final class XmlIssueTest {
       new XmlIssue(
         new MockProject("PR-1", "name", "description"),
         new MockLogin(),
-        new XmlOf(new StringAsDocument("<issue id=\"HBR-63\"/>"))
+        new XmlOf(new StringAsDocument("<issue id=\"HBR-63\"/>")),
+        new PooledHttpClient()
       ),
       new MockIssue(
         new MockProject("PR-2", "name", "description"),
@@ -249,7 +259,8 @@ public final class XmlIssueTest {
       new XmlIssue(
         new MockProject("PR-1", "name", "description"),
         new MockLogin(),
-        new XmlOf(new StringAsDocument("<issue id=\"HBR-63\"/>"))
+        new XmlOf(new StringAsDocument("<issue id=\"HBR-63\"/>")),
+        new PooledHttpClient()
       ),
       new MockIssue(
         new MockProject("PR-1", "name", "description"),
@@ -22,8 +22,10 @@ import static org.hamcrest.Matchers.empty;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 
+import java.io.IOException;
 import java.util.Optional;
 import org.junit.Test;
+import org.llorllale.youtrack.api.mock.http.response.MockOkResponse;
 
 /**
  * Unit tests for {@link Xml}.
@@ -153,4 +155,14 @@ public final class XmlOfTest {
       is(empty())
     );
   }
+
+  /**
+   * A response with an empty payload must fail with an {@link IOException}.
+   * @throws Exception expected
+   * @since 1.0.0
+   */
+  @Test(expected = IOException.class)
+  public void emptyResponse() throws Exception {
+    new XmlOf(new HttpResponseAsResponse(new MockOkResponse("")));
+  }
 }
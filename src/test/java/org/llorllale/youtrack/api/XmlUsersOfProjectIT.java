@@ -55,7 +55,7 @@ public final class XmlUsersOfProjectIT {
   @Test
   public void testUser() throws Exception {
     assertThat(
-      new XmlUsersOfProject(project, login, this.xmlObject("random"))
+      new XmlUsersOfProject(project, login, this.xmlObject("random"), new PooledHttpClient())
         .user(config.youtrackUser())
         .loginName(),
       is(config.youtrackUser())
@@ -69,7 +69,9 @@ public final class XmlUsersOfProjectIT {
   @Test
   public void testAssignees() throws Exception {
     assertTrue(
-      new XmlUsersOfProject(project, login, this.xmlObject(config.youtrackUser()))
+      new XmlUsersOfProject(
+        project, login, this.xmlObject(config.youtrackUser()), new PooledHttpClient()
+      )
         .assignees()
         .anyMatch(a -> config.youtrackUser().equals(a.loginName()))
     );
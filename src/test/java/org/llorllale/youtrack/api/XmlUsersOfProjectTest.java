@@ -21,12 +21,16 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.Assert.assertThat;
 
+import java.io.IOException;
 import java.util.stream.Collectors;
 import org.junit.Test;
 import org.llorllale.youtrack.api.mock.MockLogin;
 import org.llorllale.youtrack.api.mock.MockProject;
 import org.llorllale.youtrack.api.mock.http.MockHttpClient;
 import org.llorllale.youtrack.api.mock.http.response.MockOkResponse;
+import org.llorllale.youtrack.api.mock.server.MockDataset;
+import org.llorllale.youtrack.api.mock.server.MockYouTrackServer;
+import org.llorllale.youtrack.api.session.PermanentToken;
 
 /**
  * Unit tests for {@link XmlUsersOfProject}.
@@ -44,7 +48,7 @@ public final class XmlUsersOfProjectTest {
   public void project() {
     final Project project = new MockProject();
     assertThat(
-      new XmlUsersOfProject(project, null, null).project(),
+      new XmlUsersOfProject(project, null, null, new PooledHttpClient()).project(),
       is(project)
     );
   }
@@ -76,6 +80,41 @@ public final class XmlUsersOfProjectTest {
     );
   }
 
+  /**
+   * Users that don't exist are reported with an {@link IOException}.
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test(expected = IOException.class)
+  public void missingUser() throws Exception {
+    try (MockYouTrackServer server = new MockYouTrackServer(new MockDataset(1, 0, 0, 0))) {
+      new DefaultYouTrack(new PermanentToken(server.url(), "token"))
+        .projects().get("P0").get()
+        .users().user("ghost");
+    }
+  }
+
+  /**
+   * Users are cached per {@link DefaultYouTrack}, so that users fetched with one login are never
+   * served to another.
+   * @throws Exception unexpected
+   * @since 1.0.0
+   */
+  @Test
+  public void perYouTrack() throws Exception {
+    try (MockYouTrackServer server = new MockYouTrackServer(new MockDataset(1, 0, 0, 0))) {
+      final RequestMetrics metrics = new RequestMetrics();
+      for (int i = 0; i < 2; i++) {
+        final UsersOfProject users = new DefaultYouTrack(
+          new PermanentToken(server.url(), "token"), metrics
+        ).projects().get("P0").get().users();
+        users.user("user1");
+        users.user("user1");
+      }
+      assertThat(metrics.snapshot().get("GET /user/{login}").count(), is(2L));
+    }
+  }
+
   /**
    * {@link XmlUsersOfProject#assignees()} should only query the server for as many times as
    * occurrences there are of //assigneesLogin/sub in the project's XML.
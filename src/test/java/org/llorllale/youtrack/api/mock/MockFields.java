@@ -16,12 +16,19 @@
 
 package org.llorllale.youtrack.api.mock;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.llorllale.youtrack.api.FieldValue;
 import org.llorllale.youtrack.api.Fields;
 import org.llorllale.youtrack.api.Project;
 import org.llorllale.youtrack.api.ProjectField;
+import org.llorllale.youtrack.api.session.UnauthorizedException;
 
 /**
  * Mock implementation of {@link Fields} suitable for tests.
@@ -30,7 +37,7 @@ import org.llorllale.youtrack.api.ProjectField;
  */
 public final class MockFields implements Fields {
   private final Project project;
-  private final Stream<ProjectField> stream;
+  private final Collection<ProjectField> fields;
 
   /**
    * Primary ctor.
@@ -40,7 +47,7 @@ public final class MockFields implements Fields {
    */
   public MockFields(Project project, Collection<ProjectField> fields) {
     this.project = project;
-    this.stream = fields.stream();
+    this.fields = fields;
   }
 
   /**
@@ -62,6 +69,15 @@ public final class MockFields implements Fields {
 
   @Override
   public Stream<ProjectField> stream() {
-    return this.stream;
+    return this.fields.stream();
+  }
+
+  @Override
+  public Map<ProjectField, List<FieldValue>> values() throws IOException, UnauthorizedException {
+    final Map<ProjectField, List<FieldValue>> values = new LinkedHashMap<>();
+    for (ProjectField field : this.fields) {
+      values.put(field, field.values().collect(Collectors.toList()));
+    }
+    return values;
   }
 }
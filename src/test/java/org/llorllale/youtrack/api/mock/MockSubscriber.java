@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.mock;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Mock {@link Subscriber} that records the signals it receives.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @param <T> the type of the items
+ * @since 1.0.0
+ */
+public final class MockSubscriber<T> implements Subscriber<T> {
+  private final List<T> items;
+  private volatile Subscription subscription;
+  private volatile boolean completed;
+  private volatile Throwable error;
+
+  /**
+   * Ctor.
+   * 
+   * @since 1.0.0
+   */
+  public MockSubscriber() {
+    this.items = new CopyOnWriteArrayList<>();
+  }
+
+  @Override
+  public void onSubscribe(Subscription sub) {
+    this.subscription = sub;
+  }
+
+  @Override
+  public void onNext(T item) {
+    this.items.add(item);
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    this.error = throwable;
+  }
+
+  @Override
+  public void onComplete() {
+    this.completed = true;
+  }
+
+  /**
+   * The subscription received.
+   * 
+   * @return the subscription received
+   * @since 1.0.0
+   */
+  public Subscription subscription() {
+    return this.subscription;
+  }
+
+  /**
+   * The items received so far.
+   * 
+   * @return the items received so far
+   * @since 1.0.0
+   */
+  public List<T> items() {
+    return this.items;
+  }
+
+  /**
+   * Whether completion was signaled.
+   * 
+   * @return whether completion was signaled
+   * @since 1.0.0
+   */
+  public boolean completed() {
+    return this.completed;
+  }
+
+  /**
+   * The error signaled, if any.
+   * 
+   * @return the error signaled, if any
+   * @since 1.0.0
+   */
+  public Optional<Throwable> error() {
+    return Optional.ofNullable(this.error);
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.mock.http;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.ClientProtocolException;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.utils.URLEncodedUtils;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+import org.llorllale.youtrack.api.mock.http.response.MockOkResponse;
+
+/**
+ * Mock {@link HttpClient} that serves pages of a fixed number of issues, honoring the
+ * {@code after} and {@code max} query parameters.
+ * 
+ * <p>The issues' ids are {@code TST-0}, {@code TST-1}, and so on, and each issue's update time
+ * in epoch millis is its index. This class is thread-safe.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+public final class MockPagedHttpClient implements HttpClient {
+  private final int total;
+  private final Queue<URI> uris;
+
+  /**
+   * Ctor.
+   * 
+   * @param total the total number of issues
+   * @since 1.0.0
+   */
+  public MockPagedHttpClient(int total) {
+    this.total = total;
+    this.uris = new ConcurrentLinkedQueue<>();
+  }
+
+  /**
+   * The URIs of the requests executed so far, in the order they were executed.
+   * 
+   * @return the URIs of the requests executed
+   * @since 1.0.0
+   */
+  public Collection<URI> uris() {
+    return Collections.unmodifiableCollection(this.uris);
+  }
+
+  @Override
+  public HttpParams getParams() {
+    throw new UnsupportedOperationException("Not supported yet.");
+  }
+
+  @Override
+  public ClientConnectionManager getConnectionManager() {
+    throw new UnsupportedOperationException("Not supported yet.");
+  }
+
+  @Override
+  public HttpResponse execute(HttpUriRequest request) throws IOException, ClientProtocolException {
+    this.uris.add(request.getURI());
+    final int after = this.param(request, "after", 0);
+    final int max = this.param(request, "max", Integer.MAX_VALUE);
+    final StringBuilder xml = new StringBuilder("<issues>");
+    for (int i = after; i < Math.min(this.total, after + max); i++) {
+      xml.append("<issue id=\"TST-").append(i).append("\">")
+        .append("<field name=\"updated\"><value>").append(i).append("</value></field>")
+        .append("</issue>");
+    }
+    return new MockOkResponse(
+      new StringEntity(
+        xml.append("</issues>").toString(),
+        ContentType.create("application/xml", StandardCharsets.UTF_8)
+      )
+    );
+  }
+
+  @Override
+  public HttpResponse execute(
+    HttpUriRequest request, HttpContext context
+  ) throws IOException, ClientProtocolException {
+    throw new UnsupportedOperationException("Not supported yet.");
+  }
+
+  @Override
+  public HttpResponse execute(
+    HttpHost target, HttpRequest request
+  ) throws IOException, ClientProtocolException {
+    throw new UnsupportedOperationException("Not supported yet.");
+  }
+
+  @Override
+  public HttpResponse execute(
+    HttpHost target, HttpRequest request, HttpContext context
+  ) throws IOException, ClientProtocolException {
+    throw new UnsupportedOperationException("Not supported yet.");
+  }
+
+  @Override
+  public <T> T execute(
+    HttpUriRequest request, ResponseHandler<? extends T> responseHandler
+  ) throws IOException, ClientProtocolException {
+    throw new UnsupportedOperationException("Not supported yet.");
+  }
+
+  @Override
+  public <T> T execute(
+    HttpUriRequest request, ResponseHandler<? extends T> responseHandler, HttpContext context
+  ) throws IOException, ClientProtocolException {
+    throw new UnsupportedOperationException("Not supported yet.");
+  }
+
+  @Override
+  public <T> T execute(
+    HttpHost target, HttpRequest request, ResponseHandler<? extends T> responseHandler
+  ) throws IOException, ClientProtocolException {
+    throw new UnsupportedOperationException("Not supported yet.");
+  }
+
+  @Override
+  public <T> T execute(
+    HttpHost target, HttpRequest request,
+    ResponseHandler<? extends T> responseHandler, HttpContext context
+  ) throws IOException, ClientProtocolException {
+    throw new UnsupportedOperationException("Not supported yet.");
+  }
+
+  /**
+   * The value of the request's query parameter, as an integer.
+   * 
+   * @param request the request
+   * @param name the parameter's name
+   * @param dflt the value to return if the parameter is absent
+   * @return the parameter's value
+   * @since 1.0.0
+   */
+  private int param(HttpUriRequest request, String name, int dflt) {
+    return URLEncodedUtils.parse(request.getURI(), "UTF-8").stream()
+      .filter(p -> name.equals(p.getName()))
+      .findFirst()
+      .map(p -> Integer.parseInt(p.getValue()))
+      .orElse(dflt);
+  }
+}
@@ -81,7 +81,7 @@ public final class MockInternalErrorResponse implements HttpResponse {
 
   @Override
   public HttpEntity getEntity() {
-    throw new UnsupportedOperationException("Not supported yet.");
+    return null;
   }
 
   @Override
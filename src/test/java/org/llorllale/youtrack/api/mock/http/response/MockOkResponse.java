@@ -39,7 +39,7 @@ import org.apache.http.params.HttpParams;
 @SuppressWarnings("checkstyle:MethodCount")
 public final class MockOkResponse implements HttpResponse {
   private final StatusLine statusLine;
-  private final HttpEntity payload;
+  private HttpEntity payload;
   private final List<Header> headers;
 
   /**
@@ -126,7 +126,7 @@ public final class MockOkResponse implements HttpResponse {
 
   @Override
   public void setEntity(HttpEntity entity) {
-    throw new UnsupportedOperationException("Not supported yet.");
+    this.payload = entity;
   }
 
   @Override
@@ -156,7 +156,10 @@ public final class MockOkResponse implements HttpResponse {
 
   @Override
   public Header getFirstHeader(String name) {
-    throw new UnsupportedOperationException("Not supported yet.");
+    return this.headers.stream()
+      .filter(h -> h.getName().equalsIgnoreCase(name))
+      .findFirst()
+      .orElse(null);
   }
 
   @Override
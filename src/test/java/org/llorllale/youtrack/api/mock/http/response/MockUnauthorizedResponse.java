@@ -82,7 +82,7 @@ public final class MockUnauthorizedResponse implements HttpResponse {
 
   @Override
   public HttpEntity getEntity() {
-    throw new UnsupportedOperationException("Not supported yet.");
+    return null;
   }
 
   @Override
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.mock.server;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The comment endpoints: listing an issue's comments, and editing and deleting them.
+ * 
+ * <p>Comments are posted through the issue's {@code execute} endpoint; see {@link IssueRoutes}.
+ * Edits and deletions are acknowledged but not kept.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+@SuppressWarnings({"checkstyle:MagicNumber", "checkstyle:MultipleStringLiterals"})
+final class CommentRoutes implements Route {
+  private final MockDataset data;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param data the dataset served
+   * @since 1.0.0
+   */
+  CommentRoutes(MockDataset data) {
+    this.data = data;
+  }
+
+  @Override
+  public Optional<MockReply> reply(MockRequest request) {
+    Optional<MockReply> reply = Optional.empty();
+    if (request.is("GET issue/[^/]+/comment")) {
+      reply = Optional.of(this.list(request.segment(1)));
+    } else if (request.is("(PUT|DELETE) issue/[^/]+/comment/[^/]+")) {
+      reply = Optional.of(new MockReply(""));
+    }
+    return reply;
+  }
+
+  /**
+   * The issue's comments.
+   * 
+   * @param id the issue's id
+   * @return the comments' xml
+   * @since 1.0.0
+   */
+  private MockReply list(String id) {
+    final List<String> texts = this.data.comments(id);
+    return new MockReply(
+      IntStream.range(0, texts.size())
+        .mapToObj(i -> String.format(
+            "<comment id=\"%s-C%d\" author=\"root\" text=\"%s\" created=\"%d\"/>",
+            id, i, new Escaped(texts.get(i)), MockDataset.EPOCH + i * MockDataset.DAY
+          )
+        ).collect(Collectors.joining("", "<comments>", "</comments>"))
+    );
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.mock.server;
+
+/**
+ * Text escaped for use in xml content and attribute values.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+final class Escaped {
+  private final String text;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param text the raw text
+   * @since 1.0.0
+   */
+  Escaped(String text) {
+    this.text = text;
+  }
+
+  @Override
+  public String toString() {
+    return this.text
+      .replace("&", "&amp;")
+      .replace("<", "&lt;")
+      .replace(">", "&gt;")
+      .replace("\"", "&quot;");
+  }
+}
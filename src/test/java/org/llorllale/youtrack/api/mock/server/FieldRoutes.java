@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.mock.server;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * The custom field endpoints: a project's fields, a field's bundle, and a bundle's values.
+ * 
+ * <p>Every project has the same {@link #BUNDLES enumerated fields}; each field's bundle is named
+ * after the field.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+@SuppressWarnings({"checkstyle:MagicNumber", "checkstyle:MultipleStringLiterals"})
+final class FieldRoutes implements Route {
+  /**
+   * The values of each custom field, by the field's name.
+   */
+  static final Map<String, List<String>> BUNDLES;
+
+  static {
+    final Map<String, List<String>> bundles = new LinkedHashMap<>();
+    bundles.put("Priority", Arrays.asList("Critical", "Major", "Normal", "Minor"));
+    bundles.put("Type", Arrays.asList("Bug", "Feature", "Task"));
+    bundles.put("State", Arrays.asList("Open", "In Progress", "Fixed"));
+    BUNDLES = Collections.unmodifiableMap(bundles);
+  }
+
+  @Override
+  public Optional<MockReply> reply(MockRequest request) {
+    Optional<MockReply> reply = Optional.empty();
+    if (request.is("GET admin/project/[^/]+/customfield")) {
+      reply = Optional.of(
+        new MockReply(
+          BUNDLES.keySet().stream()
+            .map(name -> String.format(
+                "<projectCustomField name=\"%s\" url=\"%s/admin/project/%s/customfield/%1$s\"/>",
+                name, request.base(), request.segment(2)
+              )
+            ).collect(
+              Collectors.joining("", "<projectCustomFieldRefs>", "</projectCustomFieldRefs>")
+            )
+        )
+      );
+    } else if (request.is("GET admin/project/[^/]+/customfield/[^/]+")) {
+      reply = Optional.of(
+        new MockReply(
+          String.format(
+            "<projectCustomField name=\"%s\"><param name=\"bundle\" value=\"%1$s\"/>"
+              + "</projectCustomField>",
+            request.segment(4)
+          )
+        )
+      );
+    } else if (request.is("GET admin/customfield/bundle/[^/]+")) {
+      reply = Optional.of(this.bundle(request.segment(3)));
+    }
+    return reply;
+  }
+
+  /**
+   * The bundle with the given {@code name}.
+   * 
+   * @param name the bundle's name
+   * @return the bundle's values, or an error if it doesn't exist
+   * @since 1.0.0
+   */
+  private MockReply bundle(String name) {
+    return Optional.ofNullable(BUNDLES.get(name))
+      .map(values -> new MockReply(
+          values.stream()
+            .map(v -> String.format("<value>%s</value>", v))
+            .collect(Collectors.joining("", "<enumeration>", "</enumeration>"))
+        )
+      ).orElseGet(() -> new MockReply(404, "<error>Bundle not found.</error>"));
+  }
+}
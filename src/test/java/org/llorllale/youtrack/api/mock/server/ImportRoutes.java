@@ -0,0 +1,158 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.mock.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+/**
+ * The import endpoints: importing issues with their comments, and work items of issues.
+ * 
+ * <p>Imported issues are created in the order received, so their numbers must follow the
+ * project's last one; an issue whose number is already taken is reported as not imported.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+@SuppressWarnings({"checkstyle:MagicNumber", "checkstyle:MultipleStringLiterals"})
+final class ImportRoutes implements Route {
+  private static final Pattern WORKITEM = Pattern.compile("<workItem>.*?</workItem>");
+  private static final String NUMBER = "numberInProject";
+  private final MockDataset data;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param data the dataset served
+   * @since 1.0.0
+   */
+  ImportRoutes(MockDataset data) {
+    this.data = data;
+  }
+
+  @Override
+  public Optional<MockReply> reply(MockRequest request) {
+    Optional<MockReply> reply = Optional.empty();
+    if (request.is("PUT import/issue/[^/]+/workitems")) {
+      reply = Optional.of(this.workitems(request.segment(2), request.body()));
+    } else if (request.is("PUT import/[^/]+/issues")) {
+      reply = Optional.of(this.issues(request.segment(1), request.body()));
+    }
+    return reply;
+  }
+
+  /**
+   * Imports issues into the project.
+   * 
+   * @param project the project's id
+   * @param body the {@code issues} payload
+   * @return the import report
+   * @since 1.0.0
+   */
+  private MockReply issues(String project, String body) {
+    final StringBuilder report = new StringBuilder("<importReport>");
+    final NodeList issues = parsed(body).getElementsByTagName("issue");
+    for (int i = 0; i < issues.getLength(); i++) {
+      final Element issue = (Element) issues.item(i);
+      final Map<String, String> fields = fields(issue);
+      final String number = fields.remove(NUMBER);
+      if (this.data.issue(project + "-" + number).isPresent()) {
+        report.append(
+          String.format(
+            "<item id=\"%s\" imported=\"false\"><error>Issue %s-%s already exists.</error></item>",
+            number, project, number
+          )
+        );
+      } else {
+        final String id = this.data.create(project, fields);
+        final NodeList comments = issue.getElementsByTagName("comment");
+        for (int c = 0; c < comments.getLength(); c++) {
+          this.data.comment(id, ((Element) comments.item(c)).getAttribute("text"));
+        }
+        report.append(String.format("<item id=\"%s\" imported=\"true\"/>", number));
+      }
+    }
+    return new MockReply(report.append("</importReport>").toString());
+  }
+
+  /**
+   * Imports work items into the issue.
+   * 
+   * @param id the issue's id
+   * @param body the {@code workItems} payload
+   * @return an empty reply, or an error if the issue doesn't exist
+   * @since 1.0.0
+   */
+  private MockReply workitems(String id, String body) {
+    final MockReply reply;
+    if (this.data.issue(id).isPresent()) {
+      final Matcher items = WORKITEM.matcher(body);
+      while (items.find()) {
+        this.data.workitem(id, items.group());
+      }
+      reply = new MockReply("");
+    } else {
+      reply = new MockReply(400, "<error>Issue not found.</error>");
+    }
+    return reply;
+  }
+
+  /**
+   * The issue's fields, by name.
+   * 
+   * @param issue the {@code issue} element
+   * @return the issue's fields, by name
+   * @since 1.0.0
+   */
+  private static Map<String, String> fields(Element issue) {
+    final Map<String, String> fields = new HashMap<>();
+    final NodeList nodes = issue.getElementsByTagName("field");
+    for (int i = 0; i < nodes.getLength(); i++) {
+      final Element field = (Element) nodes.item(i);
+      fields.put(field.getAttribute("name"), field.getTextContent());
+    }
+    return fields;
+  }
+
+  /**
+   * The payload's root element.
+   * 
+   * @param body the payload
+   * @return the payload's root element
+   * @since 1.0.0
+   */
+  private static Element parsed(String body) {
+    try {
+      return DocumentBuilderFactory.newInstance().newDocumentBuilder()
+        .parse(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)))
+        .getDocumentElement();
+    } catch (IOException | ParserConfigurationException | SAXException e) {
+      throw new IllegalArgumentException(e);
+    }
+  }
+}
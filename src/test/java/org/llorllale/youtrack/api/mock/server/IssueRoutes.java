@@ -0,0 +1,223 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.mock.server;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * The issue endpoints: listing, fetching, creating, and updating issues, and executing commands
+ * on them.
+ * 
+ * <p>Listings honor the {@code after}, {@code max} and {@code updatedAfter} parameters, and
+ * filters of the form {@code issue id: A-1, A-2}; other filters are ignored. Commands set the
+ * {@link FieldRoutes#BUNDLES custom fields} they name.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+@SuppressWarnings({"checkstyle:MagicNumber", "checkstyle:MultipleStringLiterals"})
+final class IssueRoutes implements Route {
+  private static final String SUMMARY = "summary";
+  private static final String DESCRIPTION = "description";
+  private static final String UPDATED = "updated";
+  private static final String IDS = "issue id:";
+  private static final int MAX = 10;
+  private final MockDataset data;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param data the dataset served
+   * @since 1.0.0
+   */
+  IssueRoutes(MockDataset data) {
+    this.data = data;
+  }
+
+  @Override
+  public Optional<MockReply> reply(MockRequest request) {
+    Optional<MockReply> reply = Optional.empty();
+    if (request.is("GET issue/byproject/[^/]+")) {
+      reply = Optional.of(this.list(request));
+    } else if (request.is("GET issue/[^/]+")) {
+      reply = Optional.of(this.issue(request.segment(1)));
+    } else if (request.is("PUT issue")) {
+      reply = Optional.of(this.create(request));
+    } else if (request.is("POST issue/[^/]+(/execute)?")) {
+      reply = Optional.of(this.update(request));
+    }
+    return reply;
+  }
+
+  /**
+   * A page of the project's issues.
+   * 
+   * @param request the request
+   * @return the page's xml
+   * @since 1.0.0
+   */
+  private MockReply list(MockRequest request) {
+    final long since = request.param("updatedAfter").map(Long::parseLong).orElse(Long.MIN_VALUE);
+    final List<String> only = request.param("filter")
+      .filter(f -> f.startsWith(IDS))
+      .map(f -> Arrays.stream(f.substring(IDS.length()).split(","))
+          .map(String::trim)
+          .collect(Collectors.toList())
+      ).orElse(null);
+    return new MockReply(
+      this.data.issues(request.segment(2)).stream()
+        .filter(id -> only == null || only.contains(id))
+        .filter(id -> this.updated(id) > since)
+        .skip(request.param("after").map(Long::parseLong).orElse(0L))
+        .limit(request.param("max").map(Long::parseLong).orElse((long) MAX))
+        .map(id -> this.xml(id, this.data.issue(id).get()))
+        .collect(Collectors.joining("", "<issues>", "</issues>"))
+    );
+  }
+
+  /**
+   * The issue with the given {@code id}.
+   * 
+   * @param id the issue's id
+   * @return the issue's xml, or an error if it doesn't exist
+   * @since 1.0.0
+   */
+  private MockReply issue(String id) {
+    return this.data.issue(id)
+      .map(n -> new MockReply(this.xml(id, n)))
+      .orElseGet(() -> new MockReply(404, "<error>Issue not found.</error>"));
+  }
+
+  /**
+   * Creates an issue.
+   * 
+   * @param request the request
+   * @return a reply pointing to the new issue
+   * @since 1.0.0
+   */
+  private MockReply create(MockRequest request) {
+    final String id = this.data.create(
+      request.param("project").get(), this.changes(request)
+    );
+    return new MockReply(201, "", Optional.of(request.base() + "/issue/" + id));
+  }
+
+  /**
+   * Updates an issue's summary and description, or executes a command or comment on it.
+   * 
+   * @param request the request
+   * @return an empty reply, or an error if the issue doesn't exist
+   * @since 1.0.0
+   */
+  private MockReply update(MockRequest request) {
+    final String id = request.segment(1);
+    final MockReply reply;
+    if (this.data.issue(id).isPresent()) {
+      request.param("comment").ifPresent(c -> this.data.comment(id, c));
+      this.data.update(id, this.changes(request));
+      reply = new MockReply("");
+    } else {
+      reply = new MockReply(404, "<error>Issue not found.</error>");
+    }
+    return reply;
+  }
+
+  /**
+   * The changes made by the {@code request} to an issue's fields.
+   * 
+   * @param request the request
+   * @return the changed fields' values, by name
+   * @since 1.0.0
+   */
+  private Map<String, String> changes(MockRequest request) {
+    final Map<String, String> changes = new HashMap<>();
+    request.param(SUMMARY).ifPresent(s -> changes.put(SUMMARY, s));
+    request.param(DESCRIPTION).ifPresent(d -> changes.put(DESCRIPTION, d));
+    request.param("command").ifPresent(
+      c -> FieldRoutes.BUNDLES.forEach(
+        (field, values) -> values.stream()
+          .filter(v -> c.contains(field + " " + v))
+          .findFirst()
+          .ifPresent(v -> changes.put(field, v))
+      )
+    );
+    changes.put(UPDATED, String.valueOf(System.currentTimeMillis()));
+    return changes;
+  }
+
+  /**
+   * When the issue was last updated.
+   * 
+   * @param id the issue's id
+   * @return when the issue was last updated (epoch millis)
+   * @since 1.0.0
+   */
+  private long updated(String id) {
+    return Optional.ofNullable(this.data.changes(id).get(UPDATED))
+      .map(Long::parseLong)
+      .orElseGet(() -> MockDataset.EPOCH + this.data.issue(id).get() * MockDataset.DAY);
+  }
+
+  /**
+   * The issue's xml.
+   * 
+   * @param id the issue's id
+   * @param number the issue's number within its project
+   * @return the issue's xml
+   * @since 1.0.0
+   */
+  private String xml(String id, int number) {
+    final Map<String, String> changes = this.data.changes(id);
+    final StringBuilder xml = new StringBuilder(String.format("<issue id=\"%s\">", id))
+      .append(field(SUMMARY, changes.getOrDefault(SUMMARY, "Issue " + id)))
+      .append(field(DESCRIPTION, changes.getOrDefault(DESCRIPTION, "Generated issue " + id)))
+      .append(field("created", String.valueOf(MockDataset.EPOCH + number * MockDataset.DAY)))
+      .append(field(UPDATED, String.valueOf(this.updated(id))))
+      .append(field("reporterName", "root"))
+      .append(field("updaterName", "root"))
+      .append(field("Assignee", this.data.users().get(number % this.data.users().size())));
+    FieldRoutes.BUNDLES.forEach(
+      (name, values) -> xml.append(
+        String.format(
+          "<field name=\"%s\"><value>%2$s</value><valueId>%2$s</valueId></field>",
+          name,
+          changes.getOrDefault(name, values.get(number % values.size()))
+        )
+      )
+    );
+    return xml.append("</issue>").toString();
+  }
+
+  /**
+   * A plain field's xml.
+   * 
+   * @param name the field's name
+   * @param value the field's value
+   * @return the field's xml
+   * @since 1.0.0
+   */
+  private static String field(String name, String value) {
+    return String.format(
+      "<field name=\"%s\"><value>%s</value></field>", name, new Escaped(value)
+    );
+  }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.mock.server;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The data served by a {@link MockYouTrackServer}: a deterministic, generated dataset, plus the
+ * changes made through the server.
+ * 
+ * <p>Projects are named {@code P0}, {@code P1}, and so on. The issues of project {@code P0} are
+ * {@code P0-1}, {@code P0-2}, and so on, and issues created through the server are numbered
+ * after them. Users are {@code root}, {@code user0}, {@code user1}, and so on. This class is
+ * thread-safe.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+public final class MockDataset {
+  /**
+   * The instant the generated data is dated from (epoch millis).
+   */
+  static final long EPOCH = 1_500_000_000_000L;
+  /**
+   * A day, in millis.
+   */
+  static final long DAY = 86_400_000L;
+  private static final int USERS = 10;
+  private static final int HOUR = 60;
+  private final int projects;
+  private final int issues;
+  private final int comments;
+  private final int workitems;
+  private final ConcurrentMap<String, AtomicInteger> numbers;
+  private final ConcurrentMap<String, Map<String, String>> changes;
+  private final ConcurrentMap<String, List<String>> posted;
+  private final ConcurrentMap<String, List<String>> logged;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param projects the number of projects
+   * @param issues the number of issues per project
+   * @param comments the number of comments per issue
+   * @param workitems the number of timetracking work items per issue
+   * @since 1.0.0
+   */
+  public MockDataset(int projects, int issues, int comments, int workitems) {
+    this.projects = projects;
+    this.issues = issues;
+    this.comments = comments;
+    this.workitems = workitems;
+    this.numbers = new ConcurrentHashMap<>();
+    this.changes = new ConcurrentHashMap<>();
+    this.posted = new ConcurrentHashMap<>();
+    this.logged = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * The projects' ids.
+   * 
+   * @return the projects' ids
+   * @since 1.0.0
+   */
+  public List<String> projects() {
+    return IntStream.range(0, this.projects)
+      .mapToObj(i -> "P" + i)
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * The ids of the project's issues, in order.
+   * 
+   * @param project the project's id
+   * @return the ids of the project's issues
+   * @since 1.0.0
+   */
+  public List<String> issues(String project) {
+    final List<String> ids = new ArrayList<>();
+    if (this.projects().contains(project)) {
+      for (int i = 1; i <= this.number(project).get(); i++) {
+        ids.add(project + "-" + i);
+      }
+    }
+    return ids;
+  }
+
+  /**
+   * The number of the issue within its project, if it exists.
+   * 
+   * @param id the issue's id
+   * @return the number of the issue within its project, if it exists
+   * @since 1.0.0
+   */
+  public Optional<Integer> issue(String id) {
+    final int dash = id.lastIndexOf('-');
+    return Optional.of(dash)
+      .filter(d -> d > 0 && this.issues(id.substring(0, d)).contains(id))
+      .map(d -> Integer.parseInt(id.substring(d + 1)));
+  }
+
+  /**
+   * Creates an issue.
+   * 
+   * @param project the project's id
+   * @param values the issue's fields
+   * @return the new issue's id
+   * @since 1.0.0
+   */
+  public String create(String project, Map<String, String> values) {
+    final String id = project + "-" + this.number(project).incrementAndGet();
+    this.update(id, values);
+    return id;
+  }
+
+  /**
+   * Updates the issue's fields.
+   * 
+   * @param id the issue's id
+   * @param values the fields' new values
+   * @since 1.0.0
+   */
+  public void update(String id, Map<String, String> values) {
+    this.changes.computeIfAbsent(id, k -> new ConcurrentHashMap<>()).putAll(values);
+  }
+
+  /**
+   * The issue's fields changed through the server.
+   * 
+   * @param id the issue's id
+   * @return the issue's changed fields, by name
+   * @since 1.0.0
+   */
+  public Map<String, String> changes(String id) {
+    return this.changes.getOrDefault(id, Collections.emptyMap());
+  }
+
+  /**
+   * The texts of the issue's comments: the generated ones, followed by the ones posted.
+   * 
+   * @param id the issue's id
+   * @return the texts of the issue's comments
+   * @since 1.0.0
+   */
+  public List<String> comments(String id) {
+    final List<String> texts = IntStream.range(0, this.comments)
+      .mapToObj(i -> "Comment " + i + " on " + id)
+      .collect(Collectors.toList());
+    texts.addAll(this.posted.getOrDefault(id, Collections.emptyList()));
+    return texts;
+  }
+
+  /**
+   * Posts a comment on the issue.
+   * 
+   * @param id the issue's id
+   * @param text the comment's text
+   * @since 1.0.0
+   */
+  public void comment(String id, String text) {
+    this.posted.computeIfAbsent(id, k -> new CopyOnWriteArrayList<>()).add(text);
+  }
+
+  /**
+   * The issue's timetracking work items, as xml: the generated ones, followed by the ones posted.
+   * 
+   * @param id the issue's id
+   * @return the issue's work items, as xml
+   * @since 1.0.0
+   */
+  public List<String> workitems(String id) {
+    final List<String> items = IntStream.range(0, this.workitems)
+      .mapToObj(i -> String.format(
+          "<workItem><id>%s-W%d</id><date>%d</date><duration>%d</duration>"
+            + "<description>Work %d on %s</description>"
+            + "<worktype><name>Development</name></worktype><author login=\"root\"/></workItem>",
+          id, i, EPOCH + i * DAY, HOUR, i, id
+        )
+      ).collect(Collectors.toList());
+    items.addAll(this.logged.getOrDefault(id, Collections.emptyList()));
+    return items;
+  }
+
+  /**
+   * Logs a timetracking work item on the issue.
+   * 
+   * @param id the issue's id
+   * @param xml the work item, as xml
+   * @since 1.0.0
+   */
+  public void workitem(String id, String xml) {
+    this.logged.computeIfAbsent(id, k -> new CopyOnWriteArrayList<>()).add(xml);
+  }
+
+  /**
+   * The logins of the users.
+   * 
+   * @return the logins of the users
+   * @since 1.0.0
+   */
+  public List<String> users() {
+    final List<String> logins = IntStream.range(0, USERS)
+      .mapToObj(i -> "user" + i)
+      .collect(Collectors.toList());
+    logins.add(0, "root");
+    return logins;
+  }
+
+  /**
+   * The counter of the project's issue numbers.
+   * 
+   * @param project the project's id
+   * @return the counter of the project's issue numbers
+   * @since 1.0.0
+   */
+  private AtomicInteger number(String project) {
+    return this.numbers.computeIfAbsent(project, p -> new AtomicInteger(this.issues));
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.mock.server;
+
+import java.util.Optional;
+
+/**
+ * A reply of the {@link MockYouTrackServer}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+@SuppressWarnings("checkstyle:MagicNumber")
+final class MockReply {
+  private final int status;
+  private final String body;
+  private final Optional<String> location;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param status the HTTP status code
+   * @param body the xml body
+   * @param location the {@code Location} header
+   * @since 1.0.0
+   */
+  MockReply(int status, String body, Optional<String> location) {
+    this.status = status;
+    this.body = body;
+    this.location = location;
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param status the HTTP status code
+   * @param body the xml body
+   * @since 1.0.0
+   */
+  MockReply(int status, String body) {
+    this(status, body, Optional.empty());
+  }
+
+  /**
+   * An {@code OK} reply.
+   * 
+   * @param body the xml body
+   * @since 1.0.0
+   */
+  MockReply(String body) {
+    this(200, body);
+  }
+
+  /**
+   * The HTTP status code.
+   * 
+   * @return the HTTP status code
+   * @since 1.0.0
+   */
+  int status() {
+    return this.status;
+  }
+
+  /**
+   * The xml body.
+   * 
+   * @return the xml body
+   * @since 1.0.0
+   */
+  String body() {
+    return this.body;
+  }
+
+  /**
+   * The {@code Location} header.
+   * 
+   * @return the {@code Location} header, if any
+   * @since 1.0.0
+   */
+  Optional<String> location() {
+    return this.location;
+  }
+}
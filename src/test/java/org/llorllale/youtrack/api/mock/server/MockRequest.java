@@ -0,0 +1,195 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.mock.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A request received by the {@link MockYouTrackServer}.
+ * 
+ * <p>The parameters are read from both the query string and form-encoded bodies, since the
+ * library sends some of them (comments, commands) in the latter.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+public final class MockRequest {
+  private static final String ROOT = "^/rest/";
+  private final String method;
+  private final String path;
+  private final String base;
+  private final String body;
+  private final Map<String, String> params;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param method the request's HTTP method
+   * @param path the request's path, relative to the REST root
+   * @param base the server's REST root URL
+   * @param body the request's body
+   * @since 1.0.0
+   */
+  public MockRequest(String method, String path, String base, String body) {
+    this.method = method;
+    this.path = path;
+    this.base = base;
+    this.body = body;
+    this.params = new HashMap<>();
+  }
+
+  /**
+   * Reads the request from the {@code exchange}.
+   * 
+   * @param exchange the HTTP exchange
+   * @return the request
+   * @throws IOException if the request's body cannot be read
+   * @since 1.0.0
+   */
+  public static MockRequest of(HttpExchange exchange) throws IOException {
+    final MockRequest request = new MockRequest(
+      exchange.getRequestMethod(),
+      exchange.getRequestURI().getRawPath().replaceFirst(ROOT, ""),
+      "http://" + exchange.getRequestHeaders().getFirst("Host") + "/rest",
+      read(exchange.getRequestBody())
+    );
+    request.parse(exchange.getRequestURI().getRawQuery());
+    if (Optional.ofNullable(exchange.getRequestHeaders().getFirst("Content-Type"))
+        .filter(t -> t.startsWith("application/x-www-form-urlencoded"))
+        .isPresent()) {
+      request.parse(request.body);
+    }
+    return request;
+  }
+
+  /**
+   * Whether this request's method and path, as in {@code GET issue/P0-1}, match the
+   * {@code regex}.
+   * 
+   * @param regex the regular expression
+   * @return whether this request matches the {@code regex}
+   * @since 1.0.0
+   */
+  public boolean is(String regex) {
+    return (this.method + " " + this.path).matches(regex);
+  }
+
+  /**
+   * The path's segment at {@code index}, decoded.
+   * 
+   * @param index the segment's index, zero-based
+   * @return the path's segment
+   * @since 1.0.0
+   */
+  public String segment(int index) {
+    return decode(this.path.split("/")[index]);
+  }
+
+  /**
+   * The request's parameter with the given {@code name}.
+   * 
+   * @param name the parameter's name
+   * @return the parameter's value, if present
+   * @since 1.0.0
+   */
+  public Optional<String> param(String name) {
+    return Optional.ofNullable(this.params.get(name));
+  }
+
+  /**
+   * The server's REST root URL, as seen by the client.
+   * 
+   * @return the server's REST root URL
+   * @since 1.0.0
+   */
+  public String base() {
+    return this.base;
+  }
+
+  /**
+   * The request's body.
+   * 
+   * @return the request's body
+   * @since 1.0.0
+   */
+  public String body() {
+    return this.body;
+  }
+
+  /**
+   * Adds the parameters in the url-encoded {@code pairs} to this request's.
+   * 
+   * @param pairs the url-encoded parameters, possibly null
+   * @since 1.0.0
+   */
+  private void parse(String pairs) {
+    if (pairs != null && !pairs.isEmpty()) {
+      for (String pair : pairs.split("&")) {
+        final int equals = pair.indexOf('=');
+        if (equals > 0) {
+          this.params.put(
+            decode(pair.substring(0, equals)), decode(pair.substring(equals + 1))
+          );
+        }
+      }
+    }
+  }
+
+  /**
+   * Decodes the url-encoded {@code text}.
+   * 
+   * @param text the url-encoded text
+   * @return the decoded text
+   * @since 1.0.0
+   */
+  private static String decode(String text) {
+    try {
+      return URLDecoder.decode(text, StandardCharsets.UTF_8.name());
+    } catch (UnsupportedEncodingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Reads the {@code input} fully.
+   * 
+   * @param input the input
+   * @return the input's contents, as UTF-8 text
+   * @throws IOException if the input cannot be read
+   * @since 1.0.0
+   */
+  private static String read(InputStream input) throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    // @checkstyle MagicNumber (1 line)
+    final byte[] buffer = new byte[4096];
+    int read = input.read(buffer);
+    while (read >= 0) {
+      output.write(buffer, 0, read);
+      read = input.read(buffer);
+    }
+    return new String(output.toByteArray(), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.mock.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * An in-process stand-in for a YouTrack server, for load and soak tests.
+ * 
+ * <p>Serves the legacy REST endpoints used by this library over a generated {@link MockDataset},
+ * on an ephemeral port of the loopback interface. Every reply can be delayed by a fixed
+ * {@code latency}, and a fraction of them, given by the {@code errorRate}, fail with a
+ * {@code 500}. Failures are drawn from a seeded random generator, so that runs with the same
+ * seed fail the same way for the same sequence of requests.</p>
+ * 
+ * <p>Uses the JDK's built-in HTTP server and has no dependencies.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+@SuppressWarnings("checkstyle:MagicNumber")
+public final class MockYouTrackServer implements AutoCloseable {
+  private final HttpServer server;
+  private final ExecutorService threads;
+  private final List<Route> routes;
+  private final Duration latency;
+  private final double errorRate;
+  private final Random random;
+
+  /**
+   * Primary ctor.
+   * 
+   * <p>The server is started before this constructor returns.</p>
+   * 
+   * @param data the dataset to serve
+   * @param latency the delay added to every reply
+   * @param errorRate the fraction of requests that fail, between 0 and 1
+   * @param seed the seed of the random generator that decides failures
+   * @throws IOException if the server cannot be started
+   * @since 1.0.0
+   */
+  public MockYouTrackServer(MockDataset data, Duration latency, double errorRate, long seed) 
+      throws IOException {
+    this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    this.threads = Executors.newCachedThreadPool(
+      r -> {
+        final Thread thread = new Thread(r, "mock-youtrack");
+        thread.setDaemon(true);
+        return thread;
+      }
+    );
+    this.routes = Arrays.asList(
+      new ProjectRoutes(data),
+      new IssueRoutes(data),
+      new CommentRoutes(data),
+      new TimeTrackingRoutes(data),
+      new FieldRoutes(),
+      new UserRoutes(data),
+      new ImportRoutes(data)
+    );
+    this.latency = latency;
+    this.errorRate = errorRate;
+    this.random = new Random(seed);
+    this.server.setExecutor(this.threads);
+    this.server.createContext("/rest", this::handle);
+    this.server.start();
+  }
+
+  /**
+   * A server with no latency and no errors.
+   * 
+   * @param data the dataset to serve
+   * @throws IOException if the server cannot be started
+   * @since 1.0.0
+   */
+  public MockYouTrackServer(MockDataset data) throws IOException {
+    this(data, Duration.ZERO, 0, 0);
+  }
+
+  /**
+   * The URL of the server's REST API.
+   * 
+   * @return the URL of the server's REST API
+   * @since 1.0.0
+   */
+  public URL url() {
+    try {
+      return new URL(
+        String.format("http://localhost:%d/rest", this.server.getAddress().getPort())
+      );
+    } catch (MalformedURLException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Override
+  public void close() {
+    this.server.stop(0);
+    this.threads.shutdownNow();
+  }
+
+  /**
+   * Replies to the exchange.
+   * 
+   * @param exchange the HTTP exchange
+   * @throws IOException if the reply cannot be sent
+   * @since 1.0.0
+   */
+  private void handle(HttpExchange exchange) throws IOException {
+    final MockRequest request = MockRequest.of(exchange);
+    this.delay();
+    final MockReply reply;
+    if (this.fails()) {
+      reply = new MockReply(500, "<error>Injected failure.</error>");
+    } else {
+      reply = this.routes.stream()
+        .map(r -> r.reply(request))
+        .filter(Optional::isPresent)
+        .map(Optional::get)
+        .findFirst()
+        .orElseGet(() -> new MockReply(404, "<error>No such endpoint.</error>"));
+    }
+    final byte[] body = reply.body().getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/xml;charset=UTF-8");
+    reply.location().ifPresent(l -> exchange.getResponseHeaders().set("Location", l));
+    exchange.sendResponseHeaders(reply.status(), body.length);
+    try (OutputStream output = exchange.getResponseBody()) {
+      output.write(body);
+    }
+  }
+
+  /**
+   * Whether the current request must fail.
+   * 
+   * @return whether the current request must fail
+   * @since 1.0.0
+   */
+  private boolean fails() {
+    synchronized (this.random) {
+      return this.random.nextDouble() < this.errorRate;
+    }
+  }
+
+  /**
+   * Waits for the configured latency.
+   * 
+   * @since 1.0.0
+   */
+  private void delay() {
+    if (!this.latency.isZero()) {
+      try {
+        Thread.sleep(this.latency.toMillis());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.mock.server;
+
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * The project endpoints: {@code GET project/all} and {@code GET admin/project/{id}}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+@SuppressWarnings({"checkstyle:MagicNumber", "checkstyle:MultipleStringLiterals"})
+final class ProjectRoutes implements Route {
+  private final MockDataset data;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param data the dataset served
+   * @since 1.0.0
+   */
+  ProjectRoutes(MockDataset data) {
+    this.data = data;
+  }
+
+  @Override
+  public Optional<MockReply> reply(MockRequest request) {
+    Optional<MockReply> reply = Optional.empty();
+    if (request.is("GET project/all")) {
+      reply = Optional.of(
+        new MockReply(
+          this.data.projects().stream()
+            .map(p -> String.format(
+                "<project shortName=\"%s\" name=\"Project %1$s\" description=\"Generated\"/>", p
+              )
+            ).collect(Collectors.joining("", "<projects>", "</projects>"))
+        )
+      );
+    } else if (request.is("GET admin/project/[^/]+")) {
+      reply = Optional.of(this.project(request.segment(2)));
+    }
+    return reply;
+  }
+
+  /**
+   * The project with the given {@code id}.
+   * 
+   * @param id the project's id
+   * @return the project's xml, or an error if it doesn't exist
+   * @since 1.0.0
+   */
+  private MockReply project(String id) {
+    final MockReply reply;
+    if (this.data.projects().contains(id)) {
+      reply = new MockReply(
+        String.format(
+          "<project id=\"%s\" name=\"Project %1$s\" description=\"Generated\">"
+            + "<assigneesLogin>%s</assigneesLogin></project>",
+          id,
+          this.data.users().stream()
+            .map(u -> String.format("<sub value=\"%s\"/>", u))
+            .collect(Collectors.joining())
+        )
+      );
+    } else {
+      reply = new MockReply(404, "<error>Project not found.</error>");
+    }
+    return reply;
+  }
+}
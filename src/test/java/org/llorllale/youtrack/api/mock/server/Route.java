@@ -0,0 +1,36 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.mock.server;
+
+import java.util.Optional;
+
+/**
+ * A group of endpoints served by the {@link MockYouTrackServer}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+interface Route {
+  /**
+   * The reply to the {@code request}.
+   * 
+   * @param request the request
+   * @return the reply, or empty if the request is not for one of this route's endpoints
+   * @since 1.0.0
+   */
+  Optional<MockReply> reply(MockRequest request);
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.mock.server;
+
+import java.util.Optional;
+
+/**
+ * The timetracking endpoints: a project's settings and work types, and an issue's work items.
+ * 
+ * <p>Timetracking is enabled on every project, with a single work type: {@code Development}.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+@SuppressWarnings({"checkstyle:MagicNumber", "checkstyle:MultipleStringLiterals"})
+final class TimeTrackingRoutes implements Route {
+  private final MockDataset data;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param data the dataset served
+   * @since 1.0.0
+   */
+  TimeTrackingRoutes(MockDataset data) {
+    this.data = data;
+  }
+
+  @Override
+  public Optional<MockReply> reply(MockRequest request) {
+    Optional<MockReply> reply = Optional.empty();
+    if (request.is("GET admin/project/[^/]+/timetracking")) {
+      reply = Optional.of(
+        new MockReply(
+          "<settings enabled=\"true\"><estimation/><spentTime/></settings>"
+        )
+      );
+    } else if (request.is("GET admin/project/[^/]+/timetracking/worktype")) {
+      reply = Optional.of(
+        new MockReply(
+          "<workItemTypes><workType><id>1</id><name>Development</name></workType></workItemTypes>"
+        )
+      );
+    } else if (request.is("GET issue/[^/]+/timetracking/workitem")) {
+      reply = Optional.of(
+        new MockReply(
+          "<workItems>" + String.join("", this.data.workitems(request.segment(1))) + "</workItems>"
+        )
+      );
+    } else if (request.is("POST issue/[^/]+/timetracking/workitem")) {
+      this.data.workitem(request.segment(1), request.body());
+      reply = Optional.of(new MockReply(201, ""));
+    }
+    return reply;
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.mock.server;
+
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * The user endpoints: {@code GET user/{login}}, and the paged listing {@code GET admin/user}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.0.0
+ */
+@SuppressWarnings({"checkstyle:MagicNumber", "checkstyle:MultipleStringLiterals"})
+final class UserRoutes implements Route {
+  private final MockDataset data;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param data the dataset served
+   * @since 1.0.0
+   */
+  UserRoutes(MockDataset data) {
+    this.data = data;
+  }
+
+  @Override
+  public Optional<MockReply> reply(MockRequest request) {
+    final Optional<MockReply> reply;
+    if (request.is("GET admin/user")) {
+      reply = Optional.of(this.list(request));
+    } else {
+      reply = this.user(request);
+    }
+    return reply;
+  }
+
+  /**
+   * A page of ten users' logins, starting at the {@code start} parameter.
+   * 
+   * @param request the request
+   * @return the page's xml
+   * @since 1.0.0
+   */
+  private MockReply list(MockRequest request) {
+    return new MockReply(
+      this.data.users().stream()
+        .skip(request.param("start").map(Long::parseLong).orElse(0L))
+        .limit(10)
+        .map(login -> String.format(
+            "<user login=\"%s\" url=\"%s/admin/user/%1$s\"/>", login, request.base()
+          )
+        ).collect(Collectors.joining("", "<userRefs>", "</userRefs>"))
+    );
+  }
+
+  /**
+   * The user named in the request's path.
+   * 
+   * @param request the request
+   * @return the user's xml, or an error if it doesn't exist; empty if not a user request
+   * @since 1.0.0
+   */
+  private Optional<MockReply> user(MockRequest request) {
+    return Optional.of(request)
+      .filter(r -> r.is("GET user/[^/]+"))
+      .map(r -> r.segment(1))
+      .map(login -> {
+        final MockReply reply;
+        if (this.data.users().contains(login)) {
+          reply = new MockReply(
+            String.format(
+              "<user login=\"%s\" fullName=\"User %1$s\" email=\"%1$s@example.com\"/>", login
+            )
+          );
+        } else {
+          reply = new MockReply(404, "<error>User not found.</error>");
+        }
+        return reply;
+      });
+  }
+}